@@ -0,0 +1,60 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.osc.benchmark;
+
+import java.util.Arrays;
+
+
+/**
+ * Collects latency samples and calculates percentiles.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class LatencyStatistics
+{
+    private long [] samples = new long [1024];
+    private int     count;
+
+
+    /**
+     * Add a sample.
+     *
+     * @param nanos The latency in nano seconds
+     */
+    public synchronized void add (final long nanos)
+    {
+        if (this.count == this.samples.length)
+            this.samples = Arrays.copyOf (this.samples, this.count * 2);
+        this.samples[this.count++] = nanos;
+    }
+
+
+    /**
+     * Get the number of samples.
+     *
+     * @return The number of samples
+     */
+    public synchronized int getCount ()
+    {
+        return this.count;
+    }
+
+
+    /**
+     * Get a percentile of the samples.
+     *
+     * @param percentile The percentile, 0 to 100
+     * @return The latency in micro seconds or 0 if there are no samples
+     */
+    public synchronized double getPercentile (final double percentile)
+    {
+        if (this.count == 0)
+            return 0;
+        final long [] sorted = Arrays.copyOf (this.samples, this.count);
+        Arrays.sort (sorted);
+        final int index = (int) Math.min (this.count - 1, Math.max (0, Math.ceil (percentile / 100.0 * this.count) - 1));
+        return sorted[index] / 1000.0;
+    }
+}
@@ -0,0 +1,203 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.osc.benchmark;
+
+import de.mossgrabers.framework.osc.OpenSoundControlDecoder;
+import de.mossgrabers.framework.osc.OpenSoundControlDecoder.IMessageHandler;
+
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetAddress;
+import java.net.SocketException;
+import java.nio.ByteBuffer;
+
+
+/**
+ * Receives OSC packets via UDP on a port of the local host in its own thread, decodes them and
+ * hands the messages to a handler.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class LoopbackReceiver
+{
+    private final DatagramSocket     socket;
+    private final Thread             thread;
+    private volatile IMessageHandler handler;
+    private volatile IPacketListener listener;
+    private volatile long            packets;
+    private volatile long            messages;
+    private volatile long            bytes;
+
+
+    /**
+     * Notified about each received packet before it is decoded.
+     */
+    public interface IPacketListener
+    {
+        /**
+         * A packet was received.
+         *
+         * @param arrival The time of the arrival (System.nanoTime)
+         * @param size The size of the packet in bytes
+         */
+        void received (long arrival, int size);
+    }
+
+
+    /**
+     * Constructor. Opens the socket on a free port.
+     *
+     * @throws IOException Could not open the socket
+     */
+    public LoopbackReceiver () throws IOException
+    {
+        this.socket = new DatagramSocket (0, InetAddress.getLoopbackAddress ());
+        this.socket.setReceiveBufferSize (4 * 1024 * 1024);
+        this.thread = new Thread (this::receive, "OSC Benchmark Receiver");
+        this.thread.setDaemon (true);
+        this.thread.start ();
+    }
+
+
+    /**
+     * Get the port on which the receiver listens.
+     *
+     * @return The port
+     */
+    public int getPort ()
+    {
+        return this.socket.getLocalPort ();
+    }
+
+
+    /**
+     * Get the ID of the thread, which decodes and handles the messages.
+     *
+     * @return The thread ID
+     */
+    public long getThreadId ()
+    {
+        return this.thread.getId ();
+    }
+
+
+    /**
+     * Set the handler for the decoded messages and the listener for the packets.
+     *
+     * @param handler The handler
+     * @param listener The listener, might be null
+     */
+    public void setHandler (final IMessageHandler handler, final IPacketListener listener)
+    {
+        this.handler = handler;
+        this.listener = listener;
+    }
+
+
+    /**
+     * Get the number of received packets.
+     *
+     * @return The number of packets
+     */
+    public long getPackets ()
+    {
+        return this.packets;
+    }
+
+
+    /**
+     * Get the number of received messages.
+     *
+     * @return The number of messages
+     */
+    public long getMessages ()
+    {
+        return this.messages;
+    }
+
+
+    /**
+     * Get the number of received bytes.
+     *
+     * @return The number of bytes
+     */
+    public long getBytes ()
+    {
+        return this.bytes;
+    }
+
+
+    /**
+     * Wait until the given number of packets has been received.
+     *
+     * @param count The number of packets
+     * @param timeout The maximum time to wait in milliseconds
+     * @return True if all packets were received, false on timeout (e.g. a packet was dropped)
+     */
+    public boolean await (final long count, final long timeout)
+    {
+        final long end = System.currentTimeMillis () + timeout;
+        while (this.packets < count)
+        {
+            if (System.currentTimeMillis () > end)
+                return false;
+            Thread.yield ();
+        }
+        return true;
+    }
+
+
+    /**
+     * Close the socket, which stops the receiver thread.
+     */
+    public void close ()
+    {
+        this.socket.close ();
+    }
+
+
+    private void receive ()
+    {
+        final byte [] data = new byte [65536];
+        final DatagramPacket packet = new DatagramPacket (data, data.length);
+        final ByteBuffer buffer = ByteBuffer.wrap (data);
+        final IMessageHandler counter = (address, values) -> {
+            this.messages++;
+            final IMessageHandler h = this.handler;
+            if (h != null)
+                h.handle (address, values);
+        };
+
+        while (!this.socket.isClosed ())
+        {
+            try
+            {
+                packet.setLength (data.length);
+                this.socket.receive (packet);
+                final long arrival = System.nanoTime ();
+                final IPacketListener l = this.listener;
+                if (l != null)
+                    l.received (arrival, packet.getLength ());
+
+                buffer.clear ();
+                buffer.limit (packet.getLength ());
+                OpenSoundControlDecoder.decode (buffer, counter);
+                this.bytes += packet.getLength ();
+                this.packets++;
+            }
+            catch (final SocketException ex)
+            {
+                // Socket was closed
+                return;
+            }
+            catch (final IOException | RuntimeException ex)
+            {
+                ex.printStackTrace ();
+                this.packets++;
+            }
+        }
+    }
+}
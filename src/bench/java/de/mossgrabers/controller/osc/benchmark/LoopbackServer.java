@@ -0,0 +1,144 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.osc.benchmark;
+
+import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
+import de.mossgrabers.framework.osc.IOpenSoundControlServer;
+import de.mossgrabers.framework.osc.OpenSoundControlEncoder;
+
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetAddress;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+
+/**
+ * Sends OSC messages and bundles via UDP to a port on the local host. Bundles are split like in the
+ * Bitwig implementation of the OSC server.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class LoopbackServer implements IOpenSoundControlServer
+{
+    private final DatagramSocket socket;
+    private final DatagramPacket packet;
+    private final ByteBuffer     buffer        = ByteBuffer.allocate (OpenSoundControlEncoder.MAX_PACKET_SIZE_UDP);
+    private int                  maxPacketSize = OpenSoundControlEncoder.MAX_PACKET_SIZE_LAN;
+    private int                  lastBundleCount;
+    private int                  lastBundleBytes;
+    private volatile long        packetsSent;
+
+
+    /**
+     * Constructor.
+     *
+     * @param port The port on the local host to send to
+     * @throws IOException Could not open the socket
+     */
+    public LoopbackServer (final int port) throws IOException
+    {
+        this.socket = new DatagramSocket ();
+        this.packet = new DatagramPacket (this.buffer.array (), 0, InetAddress.getLoopbackAddress (), port);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendMessage (final IOpenSoundControlMessage message) throws IOException
+    {
+        this.buffer.clear ();
+        OpenSoundControlEncoder.encodeMessage (this.buffer, message.getAddress (), message.getValues ());
+        this.sendPacket ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendBundle (final List<IOpenSoundControlMessage> messages) throws IOException
+    {
+        this.lastBundleCount = 0;
+        this.lastBundleBytes = 0;
+        if (messages.isEmpty ())
+            return;
+
+        this.buffer.clear ();
+        OpenSoundControlEncoder.encodeBundleHeader (this.buffer);
+        for (final IOpenSoundControlMessage message: messages)
+        {
+            final int messageSize = OpenSoundControlEncoder.getBundleElementSize (message);
+            final int size = this.buffer.position ();
+            if (size > OpenSoundControlEncoder.BUNDLE_HEADER_SIZE && size + messageSize > this.maxPacketSize)
+            {
+                this.sendBundlePacket ();
+                this.buffer.clear ();
+                OpenSoundControlEncoder.encodeBundleHeader (this.buffer);
+            }
+            OpenSoundControlEncoder.encodeBundleElement (this.buffer, message);
+        }
+        this.sendBundlePacket ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setMaxPacketSize (final int maxPacketSize)
+    {
+        this.maxPacketSize = maxPacketSize;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getLastBundleCount ()
+    {
+        return this.lastBundleCount;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getLastBundleBytes ()
+    {
+        return this.lastBundleBytes;
+    }
+
+
+    /**
+     * Get the number of sent UDP packets.
+     *
+     * @return The number of packets
+     */
+    public long getPacketsSent ()
+    {
+        return this.packetsSent;
+    }
+
+
+    /**
+     * Close the socket.
+     */
+    public void close ()
+    {
+        this.socket.close ();
+    }
+
+
+    private void sendBundlePacket () throws IOException
+    {
+        this.lastBundleCount++;
+        this.lastBundleBytes += this.buffer.position ();
+        this.sendPacket ();
+    }
+
+
+    private void sendPacket () throws IOException
+    {
+        this.packet.setLength (this.buffer.position ());
+        this.socket.send (this.packet);
+        this.packetsSent++;
+    }
+}
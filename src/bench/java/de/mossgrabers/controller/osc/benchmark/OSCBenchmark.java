@@ -0,0 +1,396 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.osc.benchmark;
+
+import de.mossgrabers.controller.osc.OSCConfiguration;
+import de.mossgrabers.controller.osc.OSCControlSurface;
+import de.mossgrabers.controller.osc.protocol.OSCParser;
+import de.mossgrabers.controller.osc.protocol.OSCWriter;
+import de.mossgrabers.framework.controller.DefaultValueChanger;
+import de.mossgrabers.framework.controller.IValueChanger;
+import de.mossgrabers.framework.controller.color.ColorManager;
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.midi.IMidiInput;
+import de.mossgrabers.framework.scale.Scales;
+import de.mossgrabers.framework.utils.KeyManager;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+
+
+/**
+ * Benchmark and load generator for the OSC protocol implementation. The OSC parser and writer run
+ * against stand-ins of the DAW model and host. All messages travel via UDP over the loopback
+ * interface, which includes the encoding and decoding of the OSC packets.
+ * <p>
+ * Build with the bench profile (mvn -P bench compile), it is not part of the extension.
+ * <p>
+ * Usage: OSCBenchmark [iterations] [replay file]
+ * <p>
+ * The replay file contains one message per line: the OSC address followed by the arguments
+ * separated by whitespace. Arguments containing a dot are sent as floats, numbers as integers, all
+ * others as strings. Empty lines and lines starting with '#' are ignored.
+ * <p>
+ * The following is measured for each scenario:
+ * <ul>
+ * <li>Messages per second
+ * <li>Allocated bytes per message of the thread, which handles or creates the messages (if
+ * supported by the JVM)
+ * <li>Parser: the latency between the start of the handling of a message and the call of the model
+ * <li>Writer: the latency between the start of the flush and the arrival of each packet
+ * </ul>
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OSCBenchmark
+{
+    private static final int        DEFAULT_ITERATIONS = 2000;
+    private static final int        BATCH_SIZE         = 64;
+    private static final long       TIMEOUT            = 2000;
+
+    private final StandIn           standIn            = new StandIn ();
+    private final LoopbackReceiver  parserReceiver;
+    private final LoopbackServer    parserSender;
+    private final LoopbackReceiver  writerReceiver;
+    private final LoopbackServer    writerServer;
+    private final OSCParser         parser;
+    private final OSCWriter         writer;
+    private final ThreadMXBean      threadBean         = ManagementFactory.getThreadMXBean ();
+
+    private volatile long           flushStart;
+
+
+    /**
+     * Start the benchmark.
+     *
+     * @param args The number of iterations and a file to replay, both are optional
+     * @throws IOException Could not open a socket or read the replay file
+     */
+    public static void main (final String [] args) throws IOException
+    {
+        final int iterations = args.length > 0 ? Integer.parseInt (args[0]) : DEFAULT_ITERATIONS;
+
+        final OSCBenchmark benchmark = new OSCBenchmark ();
+        try
+        {
+            System.out.println (String.format ("%-16s %9s %12s %12s %10s %10s", "Scenario", "Messages", "Msgs/sec", "Bytes/msg", "p50 (us)", "p99 (us)"));
+
+            // Warm up the JIT before measuring
+            benchmark.runParser ("warm-up", createFaderSweep (iterations), false);
+            benchmark.runWriter ("warm-up", iterations, false, false);
+
+            benchmark.runParser ("fader-sweep", createFaderSweep (iterations), true);
+            benchmark.runParser ("button-storm", createButtonStorm (iterations), true);
+            if (args.length > 1)
+                benchmark.runParser ("replay", readReplayFile (args[1]), true);
+            benchmark.runWriter ("writer-delta", iterations, false, true);
+            benchmark.runWriter ("full-dump", Math.max (1, iterations / 10), true, true);
+        }
+        finally
+        {
+            benchmark.close ();
+        }
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @throws IOException Could not open a socket
+     */
+    public OSCBenchmark () throws IOException
+    {
+        final IValueChanger valueChanger = new DefaultValueChanger (128, 1, 0.5);
+        final ColorManager colorManager = new ColorManager ();
+        final Scales scales = new Scales (valueChanger, 0, 128, 128, 1);
+        scales.setChromatic (true);
+
+        this.standIn.register (IValueChanger.class, valueChanger);
+        this.standIn.register (ColorManager.class, colorManager);
+        this.standIn.register (Scales.class, scales);
+        this.standIn.answer (IHost.class, "createOSCMessage", args -> {
+            @SuppressWarnings("unchecked")
+            final List<Object> values = (List<Object>) args[1];
+            return new BenchmarkMessage ((String) args[0], values.toArray ());
+        });
+        this.standIn.answer (IHost.class, "println", args -> {
+            System.out.println (args[0]);
+            return null;
+        });
+        this.standIn.answer (IHost.class, "error", args -> {
+            System.err.println (args[0]);
+            return null;
+        });
+        // Timers are not simulated, the benchmark flushes explicitly
+        this.standIn.answer (IHost.class, "scheduleTask", args -> null);
+
+        final IHost host = this.standIn.create (IHost.class);
+        final IModel model = this.standIn.create (IModel.class);
+        final IMidiInput input = this.standIn.create (IMidiInput.class);
+
+        final OSCConfiguration configuration = new OSCConfiguration (host, valueChanger);
+        final OSCControlSurface surface = new OSCControlSurface (host, configuration, colorManager, input);
+        final KeyManager keyManager = new KeyManager (model, surface.getPadGrid ());
+
+        this.writerReceiver = new LoopbackReceiver ();
+        this.writerServer = new LoopbackServer (this.writerReceiver.getPort ());
+        this.writer = new OSCWriter (host, model, this.writerServer, keyManager, configuration);
+        this.writer.setMaxPacketSize (configuration.getMaxPacketSize ());
+
+        this.parserReceiver = new LoopbackReceiver ();
+        this.parserSender = new LoopbackServer (this.parserReceiver.getPort ());
+        this.parser = new OSCParser (host, surface, model, configuration, this.writer, input, keyManager);
+    }
+
+
+    /**
+     * Send the messages to the parser and measure the handling.
+     *
+     * @param name The name of the scenario
+     * @param messages The messages to send
+     * @param report Print the results if true
+     * @throws IOException Could not send a message
+     */
+    public void runParser (final String name, final List<BenchmarkMessage> messages, final boolean report) throws IOException
+    {
+        this.runParser (name, messages, null, report);
+    }
+
+
+    /**
+     * Send the messages to the parser and measure the handling.
+     *
+     * @param name The name of the scenario
+     * @param messages The messages to send
+     * @param times The time at which to send each message in nano seconds relative to the start,
+     *            null to send them as fast as possible
+     * @param report Print the results if true
+     * @throws IOException Could not send a message
+     */
+    public void runParser (final String name, final List<BenchmarkMessage> messages, final long [] times, final boolean report) throws IOException
+    {
+        final LatencyStatistics latencies = new LatencyStatistics ();
+        final long [] allocated = new long [2];
+        final long threadId = this.parserReceiver.getThreadId ();
+
+        this.parserReceiver.setHandler ( (address, values) -> {
+            final long calls = this.standIn.getModelCalls ();
+            final long start = System.nanoTime ();
+            this.parser.handle (new BenchmarkMessage (address, values));
+            if (this.standIn.getModelCalls () != calls)
+                latencies.add (this.standIn.getLastModelCall () - start);
+        }, null);
+
+        final long startPackets = this.parserReceiver.getPackets ();
+        allocated[0] = this.getAllocatedBytes (threadId);
+        final long start = System.nanoTime ();
+        int sent = 0;
+        for (final BenchmarkMessage message: messages)
+        {
+            if (times != null)
+            {
+                final long delay = start + times[sent] - System.nanoTime ();
+                if (delay > 0)
+                    LockSupport.parkNanos (delay);
+            }
+            this.parserSender.sendMessage (message);
+            sent++;
+            // Do not overrun the receive buffer of the socket
+            if (sent % BATCH_SIZE == 0)
+                this.parserReceiver.await (startPackets + sent - BATCH_SIZE / 2, TIMEOUT);
+        }
+        final boolean complete = this.parserReceiver.await (startPackets + sent, TIMEOUT);
+        final long duration = System.nanoTime () - start;
+        allocated[1] = this.getAllocatedBytes (threadId);
+
+        if (report)
+            this.report (name, this.parserReceiver.getPackets () - startPackets, duration, allocated, latencies, complete);
+    }
+
+
+    /**
+     * Flush the writer and measure the time until the packets arrive.
+     *
+     * @param name The name of the scenario
+     * @param iterations The number of flushes
+     * @param dump Send all values if true, otherwise only the changed ones
+     * @param report Print the results if true
+     */
+    public void runWriter (final String name, final int iterations, final boolean dump, final boolean report)
+    {
+        final LatencyStatistics latencies = new LatencyStatistics ();
+        final long [] allocated = new long [2];
+        final long threadId = Thread.currentThread ().getId ();
+
+        this.writerReceiver.setHandler (null, (arrival, size) -> latencies.add (arrival - this.flushStart));
+
+        final long startMessages = this.writerReceiver.getMessages ();
+        boolean complete = true;
+        allocated[0] = this.getAllocatedBytes (threadId);
+        final long start = System.nanoTime ();
+        for (int i = 0; i < iterations; i++)
+        {
+            this.standIn.tick ();
+            this.flushStart = System.nanoTime ();
+            this.writer.flush (dump);
+            complete &= this.writerReceiver.await (this.writerServer.getPacketsSent (), TIMEOUT);
+        }
+        final long duration = System.nanoTime () - start;
+        allocated[1] = this.getAllocatedBytes (threadId);
+
+        if (report)
+            this.report (name, this.writerReceiver.getMessages () - startMessages, duration, allocated, latencies, complete);
+    }
+
+
+    /**
+     * Close all sockets.
+     */
+    public void close ()
+    {
+        this.parserSender.close ();
+        this.parserReceiver.close ();
+        this.writerServer.close ();
+        this.writerReceiver.close ();
+    }
+
+
+    private void report (final String name, final long numMessages, final long duration, final long [] allocated, final LatencyStatistics latencies, final boolean complete)
+    {
+        final double perSecond = numMessages * 1000000000.0 / Math.max (1, duration);
+        final String bytesPerMessage = allocated[0] < 0 || numMessages == 0 ? "n/a" : String.format ("%.1f", Double.valueOf ((allocated[1] - allocated[0]) / (double) numMessages));
+        System.out.println (String.format ("%-16s %9d %12.0f %12s %10.1f %10.1f%s", name, Long.valueOf (numMessages), Double.valueOf (perSecond), bytesPerMessage, Double.valueOf (latencies.getPercentile (50)), Double.valueOf (latencies.getPercentile (99)), complete ? "" : "  (packets were dropped)"));
+    }
+
+
+    /**
+     * Get the number of bytes allocated by a thread. This is only supported by some JVMs.
+     *
+     * @param threadId The ID of the thread
+     * @return The number of bytes or -1 if not supported
+     */
+    private long getAllocatedBytes (final long threadId)
+    {
+        if (this.threadBean instanceof com.sun.management.ThreadMXBean)
+        {
+            final com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) this.threadBean;
+            if (bean.isThreadAllocatedMemorySupported () && bean.isThreadAllocatedMemoryEnabled ())
+                return bean.getThreadAllocatedBytes (threadId);
+        }
+        return -1;
+    }
+
+
+    /**
+     * Create messages which move the volume of all tracks and the values of all device parameters
+     * up and down.
+     *
+     * @param iterations The number of steps
+     * @return The messages
+     */
+    private static List<BenchmarkMessage> createFaderSweep (final int iterations)
+    {
+        final List<BenchmarkMessage> messages = new ArrayList<> ();
+        for (int i = 0; i < iterations; i++)
+        {
+            final int value = Math.abs (i % 254 - 127);
+            for (int channel = 1; channel <= 8; channel++)
+            {
+                messages.add (new BenchmarkMessage ("/track/" + channel + "/volume", new Object []
+                {
+                    Integer.valueOf (value)
+                }));
+                messages.add (new BenchmarkMessage ("/device/param/" + channel + "/value", new Object []
+                {
+                    Integer.valueOf (value)
+                }));
+            }
+        }
+        return messages;
+    }
+
+
+    /**
+     * Create messages which toggle buttons and play notes as fast as possible.
+     *
+     * @param iterations The number of steps
+     * @return The messages
+     */
+    private static List<BenchmarkMessage> createButtonStorm (final int iterations)
+    {
+        final List<BenchmarkMessage> messages = new ArrayList<> ();
+        for (int i = 0; i < iterations; i++)
+        {
+            final Integer state = Integer.valueOf (i % 2);
+            final int channel = i % 8 + 1;
+            messages.add (new BenchmarkMessage ("/track/" + channel + "/mute", new Object []
+            {
+                state
+            }));
+            messages.add (new BenchmarkMessage ("/track/" + channel + "/solo", new Object []
+            {
+                state
+            }));
+            messages.add (new BenchmarkMessage ("/track/" + channel + "/select", new Object []
+            {
+                Integer.valueOf (1)
+            }));
+            messages.add (new BenchmarkMessage (i % 2 == 0 ? "/play" : "/stop", new Object [0]));
+            messages.add (new BenchmarkMessage ("/vkb_midi/1/note/" + (36 + i % 48), new Object []
+            {
+                Integer.valueOf (i % 2 == 0 ? 127 : 0)
+            }));
+        }
+        return messages;
+    }
+
+
+    /**
+     * Read the messages to replay from a text file.
+     *
+     * @param filename The name of the file
+     * @return The messages
+     * @throws IOException Could not read the file
+     */
+    private static List<BenchmarkMessage> readReplayFile (final String filename) throws IOException
+    {
+        final List<BenchmarkMessage> messages = new ArrayList<> ();
+        for (final String line: Files.readAllLines (Paths.get (filename), StandardCharsets.UTF_8))
+        {
+            final String trimmed = line.trim ();
+            if (trimmed.isEmpty () || trimmed.startsWith ("#"))
+                continue;
+            final String [] parts = trimmed.split ("\\s+");
+            final Object [] values = new Object [parts.length - 1];
+            for (int i = 1; i < parts.length; i++)
+                values[i - 1] = parseArgument (parts[i]);
+            messages.add (new BenchmarkMessage (parts[0], values));
+        }
+        return messages;
+    }
+
+
+    private static Object parseArgument (final String argument)
+    {
+        try
+        {
+            if (argument.indexOf ('.') >= 0)
+                return Float.valueOf (argument);
+            return Integer.valueOf (argument);
+        }
+        catch (final NumberFormatException ex)
+        {
+            return argument;
+        }
+    }
+}
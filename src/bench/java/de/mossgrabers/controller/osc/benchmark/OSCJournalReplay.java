@@ -0,0 +1,111 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.osc.benchmark;
+
+import de.mossgrabers.framework.osc.OpenSoundControlJournal;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Replays the incoming messages of an OSC journal into the OSC parser (running against the
+ * stand-ins of the benchmark) and reports the same measurements as the benchmark. Additionally,
+ * the gaps between the recorded messages are analyzed to find latency spikes.
+ * <p>
+ * Usage: OSCJournalReplay journal-file [speed]
+ * <p>
+ * The speed is a factor of the original rate, e.g. 1 replays the messages with the original
+ * timing, 10 ten times faster. 0 sends all messages as fast as possible (the default).
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OSCJournalReplay
+{
+    private static final long            SPIKE_THRESHOLD = 50000000L;
+
+    private final List<BenchmarkMessage> incoming = new ArrayList<> ();
+    private final List<Long>             times    = new ArrayList<> ();
+    private long                         firstNanos;
+    private long                         lastNanos;
+    private long                         lastOutgoingNanos;
+    private int                          numOutgoing;
+    private int                          numSpikes;
+
+
+    /**
+     * Start the replay.
+     *
+     * @param args The journal file and the speed
+     * @throws IOException Could not read the journal or open a socket
+     */
+    public static void main (final String [] args) throws IOException
+    {
+        if (args.length == 0)
+        {
+            System.out.println ("Usage: OSCJournalReplay journal-file [speed]");
+            return;
+        }
+        final double speed = args.length > 1 ? Double.parseDouble (args[1]) : 0;
+
+        final OSCJournalReplay replay = new OSCJournalReplay ();
+        OpenSoundControlJournal.read (new File (args[0]), replay::handle);
+        replay.run (speed);
+    }
+
+
+    private void handle (final int direction, final long nanos, final String address, final Object [] values)
+    {
+        if (this.incoming.isEmpty () && this.numOutgoing == 0)
+            this.firstNanos = nanos;
+        this.lastNanos = nanos;
+
+        if (direction == OpenSoundControlJournal.OUTGOING)
+        {
+            // Large gaps between two flushes indicate that the DAW thread was blocked
+            if (this.numOutgoing > 0 && nanos - this.lastOutgoingNanos > SPIKE_THRESHOLD)
+            {
+                this.numSpikes++;
+                System.out.println (String.format ("Gap of %.1f ms between outgoing messages at %.3f s (%s)", Double.valueOf ((nanos - this.lastOutgoingNanos) / 1000000.0), Double.valueOf ((nanos - this.firstNanos) / 1000000000.0), address));
+            }
+            this.lastOutgoingNanos = nanos;
+            this.numOutgoing++;
+            return;
+        }
+
+        this.incoming.add (new BenchmarkMessage (address, values));
+        this.times.add (Long.valueOf (nanos));
+    }
+
+
+    private void run (final double speed) throws IOException
+    {
+        System.out.println (String.format ("Journal: %d incoming, %d outgoing messages, %.3f s, %d gap(s) > %d ms", Integer.valueOf (this.incoming.size ()), Integer.valueOf (this.numOutgoing), Double.valueOf ((this.lastNanos - this.firstNanos) / 1000000000.0), Integer.valueOf (this.numSpikes), Long.valueOf (SPIKE_THRESHOLD / 1000000)));
+        if (this.incoming.isEmpty ())
+            return;
+
+        long [] sendTimes = null;
+        if (speed > 0)
+        {
+            sendTimes = new long [this.times.size ()];
+            final long start = this.times.get (0).longValue ();
+            for (int i = 0; i < sendTimes.length; i++)
+                sendTimes[i] = (long) ((this.times.get (i).longValue () - start) / speed);
+        }
+
+        final OSCBenchmark benchmark = new OSCBenchmark ();
+        try
+        {
+            System.out.println (String.format ("%-16s %9s %12s %12s %10s %10s", "Scenario", "Messages", "Msgs/sec", "Bytes/msg", "p50 (us)", "p99 (us)"));
+            benchmark.runParser ("journal", this.incoming, sendTimes, true);
+        }
+        finally
+        {
+            benchmark.close ();
+        }
+    }
+}
@@ -0,0 +1,314 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.osc.benchmark;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+/**
+ * Creates stand-ins for interfaces (e.g. IModel, IHost) which do not need a running DAW. Each
+ * getter returns a plausible constant value or a nested stand-in. The getters of fast changing
+ * values (volume, VU, position, ...) return a value which depends on a tick counter, which allows
+ * to simulate changes. All calls of methods without a return value (setters, commands) are counted
+ * as model calls.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class StandIn implements InvocationHandler
+{
+    private static final Set<String>               CHANGING_VALUES = new HashSet<> (Arrays.asList ("getVolume", "getPan", "getVu", "getVuLeft", "getVuRight", "getValue", "getModulatedValue", "getPositionText", "getBeatText", "getVolumeStr", "getPanStr", "getDisplayedValue"));
+    private static final int                       PAGE_SIZE       = 8;
+    private static final double []                 COLOR           = new double []
+    {
+        0.2,
+        0.4,
+        0.6
+    };
+
+    private final Map<Class<?>, Object>            instances       = new HashMap<> ();
+    private final Map<Object, Map<Method, Object>> children        = Collections.synchronizedMap (new IdentityHashMap<> ());
+    private final Map<Method, IAnswer>             answers         = new ConcurrentHashMap<> ();
+    private volatile int                           tick;
+    private volatile long                          modelCalls;
+    private volatile long                          lastModelCall;
+
+
+    /**
+     * Answers a call of a stand-in method.
+     */
+    public interface IAnswer
+    {
+        /**
+         * Answer the call.
+         *
+         * @param args The arguments of the call, might be null
+         * @return The result
+         */
+        Object answer (Object [] args);
+    }
+
+
+    /**
+     * Create a stand-in for an interface.
+     *
+     * @param type The interface
+     * @param <T> The type of the interface
+     * @return The stand-in
+     */
+    public <T> T create (final Class<T> type)
+    {
+        return type.cast (Proxy.newProxyInstance (type.getClassLoader (), new Class<?> []
+        {
+            type
+        }, this));
+    }
+
+
+    /**
+     * Register an instance, which is returned by all getters with the given return type instead of
+     * a stand-in.
+     *
+     * @param type The return type
+     * @param instance The instance to return
+     */
+    public void register (final Class<?> type, final Object instance)
+    {
+        this.instances.put (type, instance);
+    }
+
+
+    /**
+     * Register an answer for all methods of the given name of an interface.
+     *
+     * @param type The interface
+     * @param methodName The name of the method
+     * @param answer The answer
+     */
+    public void answer (final Class<?> type, final String methodName, final IAnswer answer)
+    {
+        for (final Method method: type.getMethods ())
+        {
+            if (method.getName ().equals (methodName))
+                this.answers.put (method, answer);
+        }
+    }
+
+
+    /**
+     * Change all fast changing values.
+     */
+    public void tick ()
+    {
+        this.tick++;
+    }
+
+
+    /**
+     * Get the number of calls of methods without a return value.
+     *
+     * @return The number of calls
+     */
+    public long getModelCalls ()
+    {
+        return this.modelCalls;
+    }
+
+
+    /**
+     * Get the time of the last call of a method without a return value.
+     *
+     * @return The time in nano seconds (System.nanoTime)
+     */
+    public long getLastModelCall ()
+    {
+        return this.lastModelCall;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public Object invoke (final Object proxy, final Method method, final Object [] args)
+    {
+        final String name = method.getName ();
+        if (method.getDeclaringClass () == Object.class)
+        {
+            switch (name)
+            {
+                case "equals":
+                    return Boolean.valueOf (proxy == args[0]);
+                case "hashCode":
+                    return Integer.valueOf (System.identityHashCode (proxy));
+                default:
+                    return "StandIn " + proxy.getClass ().getInterfaces ()[0].getSimpleName ();
+            }
+        }
+
+        final IAnswer answer = this.answers.get (method);
+        if (answer != null)
+            return answer.answer (args);
+
+        final Class<?> type = resolveReturnType (proxy.getClass ().getInterfaces ()[0], method);
+        if (type == void.class)
+        {
+            this.lastModelCall = System.nanoTime ();
+            this.modelCalls++;
+            return null;
+        }
+
+        final Object instance = this.instances.get (type);
+        if (instance != null)
+            return instance;
+
+        final boolean isChanging = CHANGING_VALUES.contains (name);
+        if (type == boolean.class)
+            return Boolean.valueOf ("doesExist".equals (name) || "isActivated".equals (name));
+        if (type == int.class)
+            return Integer.valueOf (this.getInt (name, isChanging));
+        if (type == double.class)
+            return Double.valueOf (isChanging ? this.tick % 128 / 127.0 : 0);
+        if (type == float.class)
+            return Float.valueOf (isChanging ? this.tick % 128 / 127.0f : 0);
+        if (type == long.class)
+            return Long.valueOf (0);
+        if (type == String.class)
+            return this.getString (name, isChanging);
+        if (type == double [].class)
+            return COLOR.clone ();
+        if (type.isArray ())
+            return this.getArray (proxy, method, type.getComponentType ());
+        if (type.isEnum ())
+            return type.getEnumConstants ()[0];
+        if (type == Optional.class)
+            return Optional.empty ();
+        if (type == List.class || type == Collection.class)
+            return Collections.emptyList ();
+        if (type == Set.class)
+            return Collections.emptySet ();
+        if (type == Map.class)
+            return Collections.emptyMap ();
+        if (type.isInterface ())
+            return this.getChildren (proxy).computeIfAbsent (method, m -> this.create (type));
+        return null;
+    }
+
+
+    private int getInt (final String name, final boolean isChanging)
+    {
+        if (isChanging)
+            return this.tick % 128;
+        switch (name)
+        {
+            case "getPageSize":
+                return PAGE_SIZE;
+            case "getNumerator":
+            case "getDenominator":
+                return 4;
+            default:
+                return 0;
+        }
+    }
+
+
+    private String getString (final String name, final boolean isChanging)
+    {
+        final String text = name.startsWith ("get") ? name.substring (3) : name;
+        return isChanging ? text + " " + this.tick : text;
+    }
+
+
+    private Object getArray (final Object proxy, final Method method, final Class<?> componentType)
+    {
+        if (!componentType.isInterface ())
+            return Array.newInstance (componentType, 0);
+        return this.getChildren (proxy).computeIfAbsent (method, m -> {
+            final Object array = Array.newInstance (componentType, PAGE_SIZE);
+            for (int i = 0; i < PAGE_SIZE; i++)
+                Array.set (array, i, this.create (componentType));
+            return array;
+        });
+    }
+
+
+    private Map<Method, Object> getChildren (final Object proxy)
+    {
+        return this.children.computeIfAbsent (proxy, p -> new ConcurrentHashMap<> ());
+    }
+
+
+    /**
+     * Get the return type of a method. Type variables (e.g. of IBank.getItem) are resolved with the
+     * type arguments of the interface hierarchy of the stand-in.
+     *
+     * @param interfaceType The interface of the stand-in
+     * @param method The method
+     * @return The return type
+     */
+    private static Class<?> resolveReturnType (final Class<?> interfaceType, final Method method)
+    {
+        final Type type = method.getGenericReturnType ();
+        if (type instanceof TypeVariable)
+        {
+            final Class<?> resolved = resolve (interfaceType, interfaceType, (TypeVariable<?>) type);
+            if (resolved != null)
+                return resolved;
+        }
+        return method.getReturnType ();
+    }
+
+
+    private static Class<?> resolve (final Class<?> interfaceType, final Class<?> current, final TypeVariable<?> variable)
+    {
+        for (final Type superType: current.getGenericInterfaces ())
+        {
+            final Class<?> superClass;
+            if (superType instanceof ParameterizedType)
+            {
+                final ParameterizedType parameterized = (ParameterizedType) superType;
+                superClass = (Class<?>) parameterized.getRawType ();
+                if (superClass == variable.getGenericDeclaration ())
+                {
+                    final TypeVariable<?> [] parameters = superClass.getTypeParameters ();
+                    for (int i = 0; i < parameters.length; i++)
+                    {
+                        if (!parameters[i].equals (variable))
+                            continue;
+                        final Type argument = parameterized.getActualTypeArguments ()[i];
+                        if (argument instanceof Class)
+                            return (Class<?>) argument;
+                        if (argument instanceof ParameterizedType)
+                            return (Class<?>) ((ParameterizedType) argument).getRawType ();
+                        if (argument instanceof TypeVariable)
+                            return resolve (interfaceType, interfaceType, (TypeVariable<?>) argument);
+                        return null;
+                    }
+                }
+            }
+            else
+                superClass = (Class<?>) superType;
+
+            final Class<?> resolved = resolve (interfaceType, superClass, variable);
+            if (resolved != null)
+                return resolved;
+        }
+        return null;
+    }
+}
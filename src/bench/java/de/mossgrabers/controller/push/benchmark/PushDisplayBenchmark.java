@@ -0,0 +1,296 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.push.benchmark;
+
+import de.mossgrabers.controller.osc.benchmark.StandIn;
+import de.mossgrabers.controller.push.controller.PushUsbDisplay;
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.IMemoryBlock;
+import de.mossgrabers.framework.graphics.IBitmap;
+import de.mossgrabers.framework.graphics.IEncoder;
+import de.mossgrabers.framework.graphics.IRenderer;
+import de.mossgrabers.framework.usb.IUsbDevice;
+import de.mossgrabers.framework.usb.IUsbEndpoint;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * JMH benchmark for the conversion of the Push 2 display frames. Compares the previous conversion,
+ * which read and wrote each pixel byte by byte, with the line based conversion of PushUsbDisplay.
+ * The display runs against stand-ins of the host and the USB device, the transmission does nothing.
+ * <p>
+ * Build with the bench profile (mvn -P bench compile) and start the main method. It first checks
+ * that both conversions create the same pixels and then runs the benchmark with the GC profiler,
+ * which reports the allocated bytes per frame (gc.alloc.rate.norm) next to the time per frame.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@State (Scope.Thread)
+@BenchmarkMode (Mode.AverageTime)
+@OutputTimeUnit (TimeUnit.MICROSECONDS)
+@Warmup (iterations = 5, time = 1)
+@Measurement (iterations = 10, time = 1)
+@Fork (1)
+public class PushDisplayBenchmark
+{
+    private static final int      WIDTH   = 960;
+    private static final int      HEIGHT  = 160;
+    private static final int      DATA_SZ = 20 * 0x4000;
+    private static final long     TIMEOUT = 2000;
+
+    private final BenchmarkBitmap bitmap  = new BenchmarkBitmap ();
+    private final ByteBuffer      oldData = ByteBuffer.allocateDirect (DATA_SZ);
+    private final IEncoder        oldEncoder;
+    private PushUsbDisplay        display;
+
+    private volatile IMemoryBlock lastImageBlock;
+
+
+    /**
+     * Check the conversions and run the benchmark.
+     *
+     * @param args Not used
+     * @throws InterruptedException Interrupted while waiting for the transmission
+     * @throws RunnerException The benchmark failed
+     */
+    public static void main (final String [] args) throws InterruptedException, RunnerException
+    {
+        final PushDisplayBenchmark benchmark = new PushDisplayBenchmark ();
+        benchmark.setup ();
+        try
+        {
+            System.out.println (benchmark.verify () ? "Both conversions create the same pixels." : "The conversions create different pixels!");
+        }
+        finally
+        {
+            benchmark.close ();
+        }
+
+        new Runner (new OptionsBuilder ().include (PushDisplayBenchmark.class.getSimpleName ()).addProfiler (GCProfiler.class).build ()).run ();
+    }
+
+
+    /**
+     * Constructor.
+     */
+    public PushDisplayBenchmark ()
+    {
+        this.oldEncoder = (imageBuffer, width, height) -> encodeBytePerByte (imageBuffer, width, height, this.oldData);
+    }
+
+
+    /**
+     * Create the display.
+     */
+    @Setup (Level.Trial)
+    public void setup ()
+    {
+        final StandIn standIn = new StandIn ();
+        standIn.answer (IHost.class, "createMemoryBlock", args -> {
+            final ByteBuffer buffer = ByteBuffer.allocateDirect (((Integer) args[0]).intValue ());
+            return (IMemoryBlock) buffer::duplicate;
+        });
+        standIn.answer (IHost.class, "error", args -> {
+            System.err.println (args[0]);
+            return null;
+        });
+        standIn.answer (IUsbEndpoint.class, "send", args -> {
+            final IMemoryBlock block = (IMemoryBlock) args[0];
+            if (block.createByteBuffer ().capacity () == DATA_SZ)
+                this.lastImageBlock = block;
+            return null;
+        });
+        standIn.register (IUsbEndpoint.class, standIn.create (IUsbEndpoint.class));
+        standIn.register (IUsbDevice.class, standIn.create (IUsbDevice.class));
+
+        this.display = new PushUsbDisplay (standIn.create (IHost.class));
+    }
+
+
+    /**
+     * Stop the display.
+     */
+    @TearDown (Level.Trial)
+    public void close ()
+    {
+        this.display.shutdown ();
+    }
+
+
+    /**
+     * The previous conversion, which reads and writes each pixel byte by byte.
+     */
+    @Benchmark
+    public void bytePerByte ()
+    {
+        this.bitmap.encode (this.oldEncoder);
+    }
+
+
+    /**
+     * The line based conversion of PushUsbDisplay.
+     */
+    @Benchmark
+    public void lineBased ()
+    {
+        this.display.send (this.bitmap);
+    }
+
+
+    /**
+     * Convert the bitmap with both conversions and compare the results.
+     *
+     * @return True if the pixels are identical
+     * @throws InterruptedException Interrupted while waiting for the transmission
+     */
+    public boolean verify () throws InterruptedException
+    {
+        this.bitmap.encode (this.oldEncoder);
+
+        // Wait until the most recent frame was transmitted
+        this.display.send (this.bitmap);
+        final long end = System.currentTimeMillis () + TIMEOUT;
+        while (this.display.getSentFrames () + this.display.getDroppedFrames () < this.display.getRenderedFrames ())
+        {
+            if (System.currentTimeMillis () > end)
+                return false;
+            Thread.sleep (1);
+        }
+        if (this.lastImageBlock == null)
+            return false;
+
+        final ByteBuffer oldPixels = this.oldData.duplicate ().order (ByteOrder.LITTLE_ENDIAN);
+        final ByteBuffer newPixels = this.lastImageBlock.createByteBuffer ().order (ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < DATA_SZ / 2; i++)
+        {
+            final int mask = i % 2 == 0 ? 0xF3E7 : 0xFFE7;
+            if ((oldPixels.getShort (i * 2) & 0xFFFF) != ((newPixels.getShort (i * 2) ^ mask) & 0xFFFF))
+                return false;
+        }
+        return true;
+    }
+
+
+    /**
+     * The previous conversion of PushUsbDisplay: reads and writes each pixel byte by byte.
+     *
+     * @param imageBuffer The bitmap data (blue, green, red, alpha, ...)
+     * @param width The width of the bitmap
+     * @param height The height of the bitmap
+     * @param buffer Where to write the display data
+     */
+    private static void encodeBytePerByte (final ByteBuffer imageBuffer, final int width, final int height, final ByteBuffer buffer)
+    {
+        buffer.clear ();
+
+        final int padding = (buffer.capacity () - height * width * 2) / height;
+
+        for (int y = 0; y < height; y++)
+        {
+            for (int x = 0; x < width; x++)
+            {
+                final int blue = imageBuffer.get ();
+                final int green = imageBuffer.get ();
+                final int red = imageBuffer.get ();
+                imageBuffer.get (); // Drop unused Alpha
+
+                final int pixel = sPixelFromRGB (red, green, blue);
+                buffer.put ((byte) (pixel & 0x00FF));
+                buffer.put ((byte) ((pixel & 0xFF00) >> 8));
+            }
+
+            for (int x = 0; x < padding; x++)
+                buffer.put ((byte) 0x00);
+        }
+
+        imageBuffer.rewind ();
+    }
+
+
+    private static int sPixelFromRGB (final int red, final int green, final int blue)
+    {
+        int pixel = (blue & 0xF8) >> 3;
+        pixel <<= 6;
+        pixel += (green & 0xFC) >> 2;
+        pixel <<= 5;
+        pixel += (red & 0xF8) >> 3;
+        return pixel;
+    }
+
+
+    /**
+     * A bitmap of the size of the Push 2 display filled with random pixels.
+     */
+    private static class BenchmarkBitmap implements IBitmap
+    {
+        private final ByteBuffer data = ByteBuffer.allocateDirect (WIDTH * HEIGHT * 4);
+
+
+        /**
+         * Constructor.
+         */
+        public BenchmarkBitmap ()
+        {
+            final byte [] pixels = new byte [this.data.capacity ()];
+            new Random (42).nextBytes (pixels);
+            this.data.put (pixels);
+            this.data.rewind ();
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void setDisplayWindowTitle (final String title)
+        {
+            // Not used
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void showDisplayWindow ()
+        {
+            // Not used
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void render (final IRenderer renderer)
+        {
+            // Not used
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void encode (final IEncoder encoder)
+        {
+            this.data.rewind ();
+            encoder.encode (this.data, WIDTH, HEIGHT);
+        }
+    }
+}
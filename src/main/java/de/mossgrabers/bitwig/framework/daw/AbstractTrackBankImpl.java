@@ -9,6 +9,8 @@ import de.mossgrabers.bitwig.framework.daw.data.TrackImpl;
 import de.mossgrabers.framework.controller.IValueChanger;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.ITrackBank;
+import de.mossgrabers.framework.daw.ModelChangeTracker;
+import de.mossgrabers.framework.daw.ModelRegion;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.observer.IIndexedValueObserver;
 
@@ -25,7 +27,8 @@ import com.bitwig.extension.controller.api.TrackBank;
  */
 public abstract class AbstractTrackBankImpl extends AbstractChannelBank<TrackBank, ITrack> implements ITrackBank
 {
-    protected final CursorTrack cursorTrack;
+    protected final CursorTrack        cursorTrack;
+    protected final ModelChangeTracker changeTracker;
 
 
     /**
@@ -33,21 +36,27 @@ public abstract class AbstractTrackBankImpl extends AbstractChannelBank<TrackBan
      *
      * @param host The DAW host
      * @param valueChanger The value changer
+     * @param changeTracker The tracker for model changes
      * @param cursorTrack The cursor track assigned to this track bank
      * @param bank The bank to encapsulate
      * @param numTracks The number of tracks of a bank page
      * @param numScenes The number of scenes of a bank page
      * @param numSends The number of sends of a bank page
      */
-    public AbstractTrackBankImpl (final IHost host, final IValueChanger valueChanger, final CursorTrack cursorTrack, final TrackBank bank, final int numTracks, final int numScenes, final int numSends)
+    public AbstractTrackBankImpl (final IHost host, final IValueChanger valueChanger, final ModelChangeTracker changeTracker, final CursorTrack cursorTrack, final TrackBank bank, final int numTracks, final int numScenes, final int numSends)
     {
         super (host, valueChanger, bank, numTracks, numScenes, numSends);
 
         this.cursorTrack = cursorTrack;
+        this.changeTracker = changeTracker;
 
         this.initItems ();
 
-        this.sceneBank = new SceneBankImpl (host, valueChanger, this.numScenes == 0 ? null : this.bank.sceneBank (), this.numScenes);
+        final ModelRegionObserver regionObserver = new ModelRegionObserver (changeTracker, ModelRegion.TRACKS);
+        regionObserver.observe (this.bank.scrollPosition (), this.bank.itemCount (), this.bank.cursorIndex ());
+        regionObserver.observe (this.bank.canScrollBackwards (), this.bank.canScrollForwards ());
+
+        this.sceneBank = new SceneBankImpl (host, valueChanger, changeTracker, this.numScenes == 0 ? null : this.bank.sceneBank (), this.numScenes);
     }
 
 
@@ -110,6 +119,6 @@ public abstract class AbstractTrackBankImpl extends AbstractChannelBank<TrackBan
     protected void initItems ()
     {
         for (int i = 0; i < this.pageSize; i++)
-            this.items.add (new TrackImpl (this.host, this.valueChanger, this.cursorTrack, this.bank.getItemAt (i), i, this.numSends, this.numScenes));
+            this.items.add (new TrackImpl (this.host, this.valueChanger, this.changeTracker, ModelRegion.TRACKS, this.cursorTrack, this.bank.getItemAt (i), i, this.numSends, this.numScenes));
     }
 }
\ No newline at end of file
@@ -14,11 +14,15 @@ import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.ILayerBank;
 import de.mossgrabers.framework.daw.IParameterBank;
 import de.mossgrabers.framework.daw.IParameterPageBank;
+import de.mossgrabers.framework.daw.ModelChangeTracker;
+import de.mossgrabers.framework.daw.ModelRegion;
 
 import com.bitwig.extension.controller.api.CursorDeviceLayer;
 import com.bitwig.extension.controller.api.CursorRemoteControlsPage;
+import com.bitwig.extension.controller.api.Device;
 import com.bitwig.extension.controller.api.DeviceBank;
 import com.bitwig.extension.controller.api.PinnableCursorDevice;
+import com.bitwig.extension.controller.api.RemoteControl;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -49,6 +53,7 @@ public class CursorDeviceImpl extends DeviceImpl implements ICursorDevice
      *
      * @param host The host
      * @param valueChanger The value changer
+     * @param changeTracker The tracker for model changes
      * @param cursorDevice The cursor device
      * @param numSends The number of sends
      * @param numParams The number of parameters
@@ -56,7 +61,7 @@ public class CursorDeviceImpl extends DeviceImpl implements ICursorDevice
      * @param numDeviceLayers The number of layers
      * @param numDrumPadLayers The number of drum pad layers
      */
-    public CursorDeviceImpl (final IHost host, final IValueChanger valueChanger, final PinnableCursorDevice cursorDevice, final int numSends, final int numParams, final int numDevicesInBank, final int numDeviceLayers, final int numDrumPadLayers)
+    public CursorDeviceImpl (final IHost host, final IValueChanger valueChanger, final ModelChangeTracker changeTracker, final PinnableCursorDevice cursorDevice, final int numSends, final int numParams, final int numDevicesInBank, final int numDeviceLayers, final int numDrumPadLayers)
     {
         super (cursorDevice, -1);
 
@@ -87,6 +92,12 @@ public class CursorDeviceImpl extends DeviceImpl implements ICursorDevice
         this.cursorDeviceLayer.hasPrevious ().markInterested ();
         this.cursorDeviceLayer.hasNext ().markInterested ();
 
+        final ModelRegionObserver deviceObserver = new ModelRegionObserver (changeTracker, ModelRegion.DEVICE);
+        deviceObserver.observe (this.cursorDevice.exists (), this.cursorDevice.isEnabled (), this.cursorDevice.isPlugin (), this.cursorDevice.hasPrevious (), this.cursorDevice.hasNext (), this.cursorDevice.isExpanded (), this.cursorDevice.isRemoteControlsSectionVisible (), this.cursorDevice.isWindowOpen (), this.cursorDevice.isNested (), this.cursorDevice.hasDrumPads (), this.cursorDevice.hasLayers (), this.cursorDevice.hasSlots (), this.cursorDevice.isPinned ());
+        deviceObserver.observe (this.cursorDeviceLayer.hasPrevious (), this.cursorDeviceLayer.hasNext ());
+        deviceObserver.observe (this.cursorDevice.name ());
+        deviceObserver.observe (this.cursorDevice.position ());
+
         if (checkedNumParams > 0)
         {
             final CursorRemoteControlsPage remoteControlsPage = this.cursorDevice.createCursorRemoteControlsPage (checkedNumParams);
@@ -94,6 +105,17 @@ public class CursorDeviceImpl extends DeviceImpl implements ICursorDevice
             // parameter if there is one controller who wants that differently
             this.parameterPageBank = new ParameterPageBankImpl (remoteControlsPage, numParams);
             this.parameterBank = new ParameterBankImpl (host, valueChanger, this.parameterPageBank, remoteControlsPage, numParams);
+
+            final ModelRegionObserver parameterObserver = new ModelRegionObserver (changeTracker, ModelRegion.PARAMETERS);
+            parameterObserver.observe (remoteControlsPage.selectedPageIndex ());
+            parameterObserver.observe (remoteControlsPage.hasPrevious (), remoteControlsPage.hasNext ());
+            for (int i = 0; i < checkedNumParams; i++)
+            {
+                final RemoteControl parameter = remoteControlsPage.getParameter (i);
+                parameterObserver.observe (parameter.exists ());
+                parameterObserver.observe (parameter.name (), parameter.displayedValue ());
+                parameterObserver.observe (parameter.value ());
+            }
         }
         else
         {
@@ -104,12 +126,19 @@ public class CursorDeviceImpl extends DeviceImpl implements ICursorDevice
         // Monitor the sibling devices of the cursor device
         final DeviceBank siblings = checkedNumDevices > 0 ? this.cursorDevice.createSiblingsDeviceBank (checkedNumDevices) : null;
         this.deviceBank = new DeviceBankImpl (host, valueChanger, this, siblings, checkedNumDevices);
+        for (int i = 0; i < checkedNumDevices; i++)
+        {
+            final Device sibling = siblings.getItemAt (i);
+            deviceObserver.observe (sibling.exists ());
+            deviceObserver.observe (sibling.name ());
+            deviceObserver.observe (sibling.position ());
+        }
 
         // Monitor the layers of a container device (if any)
-        this.layerBank = new LayerBankImpl (host, valueChanger, checkedNumDeviceLayers > 0 ? this.cursorDevice.createLayerBank (checkedNumDeviceLayers) : null, this.cursorDeviceLayer, numDeviceLayers, numSends, checkedNumDevices);
+        this.layerBank = new LayerBankImpl (host, valueChanger, changeTracker, checkedNumDeviceLayers > 0 ? this.cursorDevice.createLayerBank (checkedNumDeviceLayers) : null, this.cursorDeviceLayer, numDeviceLayers, numSends, checkedNumDevices);
 
         // Monitor the drum pad layers of a container device (if any)
-        this.drumPadBank = new DrumPadBankImpl (host, valueChanger, checkedNumDrumPadLayers > 0 ? this.cursorDevice.createDrumPadBank (checkedNumDrumPadLayers) : null, checkedNumDrumPadLayers, numSends, checkedNumDevices);
+        this.drumPadBank = new DrumPadBankImpl (host, valueChanger, changeTracker, checkedNumDrumPadLayers > 0 ? this.cursorDevice.createDrumPadBank (checkedNumDrumPadLayers) : null, checkedNumDrumPadLayers, numSends, checkedNumDevices);
         this.drumPadBank.setIndication (false);
     }
 
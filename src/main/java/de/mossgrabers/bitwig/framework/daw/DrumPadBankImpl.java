@@ -10,6 +10,7 @@ import de.mossgrabers.framework.daw.DAWColors;
 import de.mossgrabers.framework.daw.IDrumPadBank;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.ISceneBank;
+import de.mossgrabers.framework.daw.ModelChangeTracker;
 import de.mossgrabers.framework.daw.data.IDrumPad;
 import de.mossgrabers.framework.daw.data.ILayer;
 
@@ -24,8 +25,9 @@ import com.bitwig.extension.controller.api.DrumPadBank;
  */
 public class DrumPadBankImpl extends AbstractBankImpl<DrumPadBank, IDrumPad> implements IDrumPadBank
 {
-    private int numSends;
-    private int numDevices;
+    private final ModelChangeTracker changeTracker;
+    private int                      numSends;
+    private int                      numDevices;
 
 
     /**
@@ -33,14 +35,16 @@ public class DrumPadBankImpl extends AbstractBankImpl<DrumPadBank, IDrumPad> imp
      *
      * @param host The DAW host
      * @param valueChanger The value changer
+     * @param changeTracker The tracker for model changes
      * @param layerBank The layer bank
      * @param numLayers The number of layers in the page of the bank
      * @param numSends The number of sends
      * @param numDevices The number of devices
      */
-    public DrumPadBankImpl (final IHost host, final IValueChanger valueChanger, final DrumPadBank layerBank, final int numLayers, final int numSends, final int numDevices)
+    public DrumPadBankImpl (final IHost host, final IValueChanger valueChanger, final ModelChangeTracker changeTracker, final DrumPadBank layerBank, final int numLayers, final int numSends, final int numDevices)
     {
         super (host, valueChanger, layerBank, numLayers);
+        this.changeTracker = changeTracker;
         this.numSends = numSends;
         this.numDevices = numDevices;
         this.initItems ();
@@ -54,7 +58,7 @@ public class DrumPadBankImpl extends AbstractBankImpl<DrumPadBank, IDrumPad> imp
         for (int i = 0; i < this.pageSize; i++)
         {
             final DrumPad deviceLayer = this.bank.getItemAt (i);
-            this.items.add (new DrumPadImpl (this.host, this.valueChanger, deviceLayer, i, this.numSends, this.numDevices));
+            this.items.add (new DrumPadImpl (this.host, this.valueChanger, this.changeTracker, deviceLayer, i, this.numSends, this.numDevices));
         }
     }
 
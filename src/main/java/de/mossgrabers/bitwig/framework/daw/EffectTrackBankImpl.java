@@ -7,6 +7,7 @@ package de.mossgrabers.bitwig.framework.daw;
 import de.mossgrabers.framework.controller.IValueChanger;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.ITrackBank;
+import de.mossgrabers.framework.daw.ModelChangeTracker;
 
 import com.bitwig.extension.controller.api.CursorTrack;
 import com.bitwig.extension.controller.api.TrackBank;
@@ -27,15 +28,16 @@ public class EffectTrackBankImpl extends AbstractTrackBankImpl
      *
      * @param host The host
      * @param valueChanger The value changer
+     * @param changeTracker The tracker for model changes
      * @param cursorTrack The cursor track assigned to this track bank
      * @param effectTrackBank The effect track bank
      * @param numTracks The number of track of a bank page
      * @param numScenes The number of scenes of a bank page
      * @param audioInstrumentTrackBank The trackbank which monitors the audio and instrument tracks
      */
-    public EffectTrackBankImpl (final IHost host, final IValueChanger valueChanger, final CursorTrack cursorTrack, final TrackBank effectTrackBank, final int numTracks, final int numScenes, final ITrackBank audioInstrumentTrackBank)
+    public EffectTrackBankImpl (final IHost host, final IValueChanger valueChanger, final ModelChangeTracker changeTracker, final CursorTrack cursorTrack, final TrackBank effectTrackBank, final int numTracks, final int numScenes, final ITrackBank audioInstrumentTrackBank)
     {
-        super (host, valueChanger, cursorTrack, effectTrackBank, numTracks, numScenes, 0);
+        super (host, valueChanger, changeTracker, cursorTrack, effectTrackBank, numTracks, numScenes, 0);
 
         this.bank.followCursorTrack (cursorTrack);
         this.audioInstrumentTrackBank = audioInstrumentTrackBank;
@@ -10,6 +10,7 @@ import de.mossgrabers.framework.daw.DAWColors;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.ILayerBank;
 import de.mossgrabers.framework.daw.ISceneBank;
+import de.mossgrabers.framework.daw.ModelChangeTracker;
 import de.mossgrabers.framework.daw.data.ILayer;
 
 import com.bitwig.extension.controller.api.CursorDeviceLayer;
@@ -24,9 +25,10 @@ import com.bitwig.extension.controller.api.DeviceLayerBank;
  */
 public class LayerBankImpl extends AbstractBankImpl<DeviceLayerBank, ILayer> implements ILayerBank
 {
-    private final CursorDeviceLayer cursorDeviceLayer;
-    private int                     numSends;
-    private int                     numDevices;
+    private final CursorDeviceLayer  cursorDeviceLayer;
+    private final ModelChangeTracker changeTracker;
+    private int                      numSends;
+    private int                      numDevices;
 
 
     /**
@@ -34,17 +36,19 @@ public class LayerBankImpl extends AbstractBankImpl<DeviceLayerBank, ILayer> imp
      *
      * @param host The DAW host
      * @param valueChanger The value changer
+     * @param changeTracker The tracker for model changes
      * @param layerBank The layer bank
      * @param cursorDeviceLayer The cursor device layer
      * @param numLayers The number of layers in the page of the bank
      * @param numSends The number of sends
      * @param numDevices The number of devices
      */
-    public LayerBankImpl (final IHost host, final IValueChanger valueChanger, final DeviceLayerBank layerBank, final CursorDeviceLayer cursorDeviceLayer, final int numLayers, final int numSends, final int numDevices)
+    public LayerBankImpl (final IHost host, final IValueChanger valueChanger, final ModelChangeTracker changeTracker, final DeviceLayerBank layerBank, final CursorDeviceLayer cursorDeviceLayer, final int numLayers, final int numSends, final int numDevices)
     {
         super (host, valueChanger, layerBank, numLayers);
 
         this.cursorDeviceLayer = cursorDeviceLayer;
+        this.changeTracker = changeTracker;
 
         this.numSends = numSends;
         this.numDevices = numDevices;
@@ -60,7 +64,7 @@ public class LayerBankImpl extends AbstractBankImpl<DeviceLayerBank, ILayer> imp
         for (int i = 0; i < this.pageSize; i++)
         {
             final DeviceLayer deviceLayer = this.bank.getItemAt (i);
-            this.items.add (new LayerImpl (this.host, this.valueChanger, deviceLayer, i, this.numSends, this.numDevices));
+            this.items.add (new LayerImpl (this.host, this.valueChanger, this.changeTracker, deviceLayer, i, this.numSends, this.numDevices));
         }
     }
 
@@ -72,10 +72,10 @@ public class ModelImpl extends AbstractModel
             this.markerBank = new MarkerBankImpl (this.host, valueChanger, bwArranger.createCueMarkerBank (numMarkers), numMarkers);
 
         this.mixer = new MixerImpl (controllerHost.createMixer ());
-        this.transport = new TransportImpl (controllerHost, valueChanger);
+        this.transport = new TransportImpl (controllerHost, valueChanger, this.changeTracker);
         this.groove = new GrooveImpl (controllerHost, valueChanger);
         final MasterTrack master = controllerHost.createMasterTrack (0);
-        this.masterTrack = new MasterTrackImpl (this.host, valueChanger, master);
+        this.masterTrack = new MasterTrackImpl (this.host, valueChanger, this.changeTracker, master);
 
         this.cursorTrack = controllerHost.createCursorTrack ("MyCursorTrackID", "The Cursor Track", 0, 0, true);
         this.cursorTrack.isPinned ().markInterested ();
@@ -95,9 +95,9 @@ public class ModelImpl extends AbstractModel
         else
             tb = this.cursorTrack.createSiblingsTrackBank (numTracks, numSends, numScenes, false, false);
 
-        this.trackBank = new TrackBankImpl (this.host, valueChanger, tb, this.cursorTrack, numTracks, numScenes, numSends);
+        this.trackBank = new TrackBankImpl (this.host, valueChanger, this.changeTracker, tb, this.cursorTrack, numTracks, numScenes, numSends);
         final TrackBank effectTrackBank = controllerHost.createEffectTrackBank (numTracks, numScenes);
-        this.effectTrackBank = new EffectTrackBankImpl (this.host, valueChanger, this.cursorTrack, effectTrackBank, numTracks, numScenes, this.trackBank);
+        this.effectTrackBank = new EffectTrackBankImpl (this.host, valueChanger, this.changeTracker, this.cursorTrack, effectTrackBank, numTracks, numScenes, this.trackBank);
 
         this.muteSoloTrackBank = controllerHost.createTrackBank (ALL_TRACKS, 0, 0, true);
         for (int i = 0; i < ALL_TRACKS; i++)
@@ -107,13 +107,13 @@ public class ModelImpl extends AbstractModel
         final int numDeviceLayers = this.modelSetup.getNumDeviceLayers ();
         final int numDrumPadLayers = this.modelSetup.getNumDrumPadLayers ();
         final int numDevicesInBank = this.modelSetup.getNumDevicesInBank ();
-        this.instrumentDevice = new CursorDeviceImpl (this.host, valueChanger, this.cursorTrack.createCursorDevice ("FIRST_INSTRUMENT", "First Instrument", numSends, CursorDeviceFollowMode.FIRST_INSTRUMENT), numSends, numParams, numDevicesInBank, numDeviceLayers, numDrumPadLayers);
+        this.instrumentDevice = new CursorDeviceImpl (this.host, valueChanger, this.changeTracker, this.cursorTrack.createCursorDevice ("FIRST_INSTRUMENT", "First Instrument", numSends, CursorDeviceFollowMode.FIRST_INSTRUMENT), numSends, numParams, numDevicesInBank, numDeviceLayers, numDrumPadLayers);
         PinnableCursorDevice cd = this.cursorTrack.createCursorDevice ("CURSOR_DEVICE", "Cursor device", numSends, CursorDeviceFollowMode.FOLLOW_SELECTION);
-        this.cursorDevice = new CursorDeviceImpl (this.host, valueChanger, cd, numSends, numParams, numDevicesInBank, numDeviceLayers, numDrumPadLayers);
+        this.cursorDevice = new CursorDeviceImpl (this.host, valueChanger, this.changeTracker, cd, numSends, numParams, numDevicesInBank, numDeviceLayers, numDrumPadLayers);
         if (numDrumPadLayers > 0)
         {
             cd = this.cursorTrack.createCursorDevice ("64_DRUM_PADS", "64 Drum Pads", 0, CursorDeviceFollowMode.FIRST_INSTRUMENT);
-            this.drumDevice64 = new CursorDeviceImpl (this.host, valueChanger, cd, 0, 0, -1, 64, 64);
+            this.drumDevice64 = new CursorDeviceImpl (this.host, valueChanger, this.changeTracker, cd, 0, 0, -1, 64, 64);
         }
         final int numResults = this.modelSetup.getNumResults ();
         if (numResults > 0)
@@ -133,7 +133,7 @@ public class ModelImpl extends AbstractModel
         return this.sceneBanks.computeIfAbsent (Integer.valueOf (numScenes), key -> {
             final TrackBank tb = this.controllerHost.createMainTrackBank (1, this.modelSetup.getNumSends (), numScenes);
             tb.followCursorTrack (this.cursorTrack);
-            return new TrackBankImpl (this.host, this.valueChanger, tb, this.cursorTrack, 1, numScenes, 0).getSceneBank ();
+            return new TrackBankImpl (this.host, this.valueChanger, this.changeTracker, tb, this.cursorTrack, 1, numScenes, 0).getSceneBank ();
         });
     }
 
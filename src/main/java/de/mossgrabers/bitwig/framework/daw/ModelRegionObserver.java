@@ -0,0 +1,135 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.bitwig.framework.daw;
+
+import de.mossgrabers.framework.daw.ModelChangeTracker;
+import de.mossgrabers.framework.daw.ModelRegion;
+
+import com.bitwig.extension.controller.api.BooleanValue;
+import com.bitwig.extension.controller.api.ColorValue;
+import com.bitwig.extension.controller.api.IntegerValue;
+import com.bitwig.extension.controller.api.SettableEnumValue;
+import com.bitwig.extension.controller.api.SettableRangedValue;
+import com.bitwig.extension.controller.api.StringValue;
+
+
+/**
+ * Registers value observers on Bitwig values, which mark a region of the model as changed in the
+ * change tracker.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class ModelRegionObserver
+{
+    private final ModelChangeTracker changeTracker;
+    private final ModelRegion        region;
+
+
+    /**
+     * Constructor.
+     *
+     * @param changeTracker The change tracker, may be null
+     * @param region The region to mark as changed
+     */
+    public ModelRegionObserver (final ModelChangeTracker changeTracker, final ModelRegion region)
+    {
+        this.changeTracker = changeTracker;
+        this.region = region;
+    }
+
+
+    /**
+     * Mark the region as changed.
+     */
+    public void markChanged ()
+    {
+        if (this.changeTracker != null)
+            this.changeTracker.markChanged (this.region);
+    }
+
+
+    /**
+     * Mark the region as changed if one of the values changes.
+     *
+     * @param values The values to observe
+     */
+    public void observe (final BooleanValue... values)
+    {
+        if (this.changeTracker == null)
+            return;
+        for (final BooleanValue value: values)
+            value.addValueObserver (v -> this.markChanged ());
+    }
+
+
+    /**
+     * Mark the region as changed if one of the values changes.
+     *
+     * @param values The values to observe
+     */
+    public void observe (final IntegerValue... values)
+    {
+        if (this.changeTracker == null)
+            return;
+        for (final IntegerValue value: values)
+            value.addValueObserver (v -> this.markChanged ());
+    }
+
+
+    /**
+     * Mark the region as changed if one of the values changes.
+     *
+     * @param values The values to observe
+     */
+    public void observe (final StringValue... values)
+    {
+        if (this.changeTracker == null)
+            return;
+        for (final StringValue value: values)
+            value.addValueObserver (v -> this.markChanged ());
+    }
+
+
+    /**
+     * Mark the region as changed if one of the values changes.
+     *
+     * @param values The values to observe
+     */
+    public void observe (final SettableRangedValue... values)
+    {
+        if (this.changeTracker == null)
+            return;
+        for (final SettableRangedValue value: values)
+            value.addValueObserver (v -> this.markChanged ());
+    }
+
+
+    /**
+     * Mark the region as changed if one of the values changes.
+     *
+     * @param values The values to observe
+     */
+    public void observe (final SettableEnumValue... values)
+    {
+        if (this.changeTracker == null)
+            return;
+        for (final SettableEnumValue value: values)
+            value.addValueObserver (v -> this.markChanged ());
+    }
+
+
+    /**
+     * Mark the region as changed if one of the values changes.
+     *
+     * @param values The values to observe
+     */
+    public void observe (final ColorValue... values)
+    {
+        if (this.changeTracker == null)
+            return;
+        for (final ColorValue value: values)
+            value.addValueObserver ( (red, green, blue) -> this.markChanged ());
+    }
+}
@@ -8,6 +8,8 @@ import de.mossgrabers.bitwig.framework.daw.data.SceneImpl;
 import de.mossgrabers.framework.controller.IValueChanger;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.ISceneBank;
+import de.mossgrabers.framework.daw.ModelChangeTracker;
+import de.mossgrabers.framework.daw.ModelRegion;
 import de.mossgrabers.framework.daw.data.IScene;
 
 import com.bitwig.extension.controller.api.SceneBank;
@@ -20,17 +22,26 @@ import com.bitwig.extension.controller.api.SceneBank;
  */
 public class SceneBankImpl extends AbstractBankImpl<SceneBank, IScene> implements ISceneBank
 {
+    private final ModelRegionObserver regionObserver;
+
+
     /**
      * Constructor.
      *
      * @param host The DAW host
      * @param valueChanger The value changer
+     * @param changeTracker The tracker for model changes
      * @param sceneBank The scene bank
      * @param numScenes The number of scenes in the page of the bank
      */
-    public SceneBankImpl (final IHost host, final IValueChanger valueChanger, final SceneBank sceneBank, final int numScenes)
+    public SceneBankImpl (final IHost host, final IValueChanger valueChanger, final ModelChangeTracker changeTracker, final SceneBank sceneBank, final int numScenes)
     {
         super (host, valueChanger, sceneBank, numScenes);
+
+        this.regionObserver = new ModelRegionObserver (changeTracker, ModelRegion.SCENES);
+        if (this.bank != null)
+            this.regionObserver.observe (this.bank.scrollPosition (), this.bank.itemCount ());
+
         this.initItems ();
     }
 
@@ -48,6 +59,6 @@ public class SceneBankImpl extends AbstractBankImpl<SceneBank, IScene> implement
     protected void initItems ()
     {
         for (int i = 0; i < this.pageSize; i++)
-            this.items.add (new SceneImpl (this.bank.getItemAt (i), i));
+            this.items.add (new SceneImpl (this.regionObserver, this.bank.getItemAt (i), i));
     }
 }
\ No newline at end of file
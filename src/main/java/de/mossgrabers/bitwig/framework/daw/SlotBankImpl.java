@@ -8,6 +8,8 @@ import de.mossgrabers.bitwig.framework.daw.data.SlotImpl;
 import de.mossgrabers.framework.controller.IValueChanger;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.ISlotBank;
+import de.mossgrabers.framework.daw.ModelChangeTracker;
+import de.mossgrabers.framework.daw.ModelRegion;
 import de.mossgrabers.framework.daw.data.ISlot;
 import de.mossgrabers.framework.daw.data.ITrack;
 
@@ -21,7 +23,8 @@ import com.bitwig.extension.controller.api.ClipLauncherSlotBank;
  */
 public class SlotBankImpl extends AbstractBankImpl<ClipLauncherSlotBank, ISlot> implements ISlotBank
 {
-    private final ITrack track;
+    private final ITrack              track;
+    private final ModelRegionObserver regionObserver;
 
 
     /**
@@ -29,14 +32,16 @@ public class SlotBankImpl extends AbstractBankImpl<ClipLauncherSlotBank, ISlot>
      *
      * @param host The DAW host
      * @param valueChanger The value changer
+     * @param changeTracker The tracker for model changes
      * @param track The track, which contains the slot bank
      * @param clipLauncherSlotBank The slot bank
      * @param numSlots The number of slots in the page of the bank
      */
-    public SlotBankImpl (final IHost host, final IValueChanger valueChanger, final ITrack track, final ClipLauncherSlotBank clipLauncherSlotBank, final int numSlots)
+    public SlotBankImpl (final IHost host, final IValueChanger valueChanger, final ModelChangeTracker changeTracker, final ITrack track, final ClipLauncherSlotBank clipLauncherSlotBank, final int numSlots)
     {
         super (host, valueChanger, clipLauncherSlotBank, numSlots);
         this.track = track;
+        this.regionObserver = new ModelRegionObserver (changeTracker, ModelRegion.SLOTS);
         this.initItems ();
     }
 
@@ -62,6 +67,6 @@ public class SlotBankImpl extends AbstractBankImpl<ClipLauncherSlotBank, ISlot>
     protected void initItems ()
     {
         for (int i = 0; i < this.pageSize; i++)
-            this.items.add (new SlotImpl (this.track, this.bank, this.bank.getItemAt (i), i));
+            this.items.add (new SlotImpl (this.regionObserver, this.track, this.bank, this.bank.getItemAt (i), i));
     }
 }
\ No newline at end of file
@@ -6,6 +6,7 @@ package de.mossgrabers.bitwig.framework.daw;
 
 import de.mossgrabers.framework.controller.IValueChanger;
 import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.ModelChangeTracker;
 
 import com.bitwig.extension.controller.api.CursorTrack;
 import com.bitwig.extension.controller.api.TrackBank;
@@ -23,15 +24,16 @@ public class TrackBankImpl extends AbstractTrackBankImpl
      *
      * @param host The host
      * @param valueChanger The value changer
+     * @param changeTracker The tracker for model changes
      * @param bank The Bitwig track bank
      * @param cursorTrack The cursor track
      * @param numTracks The number of tracks in a bank page
      * @param numScenes The number of scenes in a bank page
      * @param numSends The number of sends in a bank page
      */
-    public TrackBankImpl (final IHost host, final IValueChanger valueChanger, final TrackBank bank, final CursorTrack cursorTrack, final int numTracks, final int numScenes, final int numSends)
+    public TrackBankImpl (final IHost host, final IValueChanger valueChanger, final ModelChangeTracker changeTracker, final TrackBank bank, final CursorTrack cursorTrack, final int numTracks, final int numScenes, final int numSends)
     {
-        super (host, valueChanger, cursorTrack, bank, numTracks, numScenes, numSends);
+        super (host, valueChanger, changeTracker, cursorTrack, bank, numTracks, numScenes, numSends);
     }
 
 
@@ -6,6 +6,8 @@ package de.mossgrabers.bitwig.framework.daw;
 
 import de.mossgrabers.framework.controller.IValueChanger;
 import de.mossgrabers.framework.daw.ITransport;
+import de.mossgrabers.framework.daw.ModelChangeTracker;
+import de.mossgrabers.framework.daw.ModelRegion;
 import de.mossgrabers.framework.daw.constants.TransportConstants;
 import de.mossgrabers.framework.utils.StringUtils;
 
@@ -43,8 +45,9 @@ public class TransportImpl implements ITransport
      *
      * @param host The host
      * @param valueChanger The value changer
+     * @param changeTracker The tracker for model changes
      */
-    public TransportImpl (final ControllerHost host, final IValueChanger valueChanger)
+    public TransportImpl (final ControllerHost host, final IValueChanger valueChanger, final ModelChangeTracker changeTracker)
     {
         this.host = host;
         this.valueChanger = valueChanger;
@@ -75,6 +78,16 @@ public class TransportImpl implements ITransport
         final TimeSignatureValue ts = this.transport.timeSignature ();
         ts.numerator ().markInterested ();
         ts.denominator ().markInterested ();
+
+        final ModelRegionObserver transportObserver = new ModelRegionObserver (changeTracker, ModelRegion.TRANSPORT);
+        transportObserver.observe (this.transport.isPlaying (), this.transport.isArrangerRecordEnabled (), this.transport.isArrangerOverdubEnabled (), this.transport.isClipLauncherAutomationWriteEnabled (), this.transport.isClipLauncherOverdubEnabled (), this.transport.isArrangerAutomationWriteEnabled (), this.transport.isArrangerLoopEnabled (), this.transport.isPunchInEnabled (), this.transport.isPunchOutEnabled (), this.transport.isMetronomeEnabled (), this.transport.isMetronomeTickPlaybackEnabled (), this.transport.isMetronomeAudibleDuringPreRoll ());
+        transportObserver.observe (this.transport.automationWriteMode (), this.transport.preRoll ());
+        transportObserver.observe (this.transport.tempo ().value (), this.transport.crossfade ().value (), metronomeVolume);
+        transportObserver.observe (ts.numerator (), ts.denominator ());
+
+        final ModelRegionObserver positionObserver = new ModelRegionObserver (changeTracker, ModelRegion.POSITION);
+        if (changeTracker != null)
+            this.transport.getPosition ().addValueObserver (value -> positionObserver.markChanged ());
     }
 
 
@@ -4,15 +4,19 @@
 
 package de.mossgrabers.bitwig.framework.daw.data;
 
+import de.mossgrabers.bitwig.framework.daw.ModelRegionObserver;
 import de.mossgrabers.bitwig.framework.daw.SendBankImpl;
 import de.mossgrabers.framework.controller.IValueChanger;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.ISendBank;
+import de.mossgrabers.framework.daw.ModelChangeTracker;
+import de.mossgrabers.framework.daw.ModelRegion;
 import de.mossgrabers.framework.daw.data.IChannel;
 import de.mossgrabers.framework.daw.data.IParameter;
 import de.mossgrabers.framework.daw.resource.ChannelType;
 
 import com.bitwig.extension.controller.api.Channel;
+import com.bitwig.extension.controller.api.Send;
 import com.bitwig.extension.controller.api.SettableColorValue;
 
 
@@ -23,15 +27,17 @@ import com.bitwig.extension.controller.api.SettableColorValue;
  */
 public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements IChannel
 {
-    protected final IValueChanger valueChanger;
+    protected final IValueChanger       valueChanger;
+    protected final ModelRegionObserver regionObserver;
 
-    private static final int      MAX_RESOLUTION = 16384;
+    private static final int            MAX_RESOLUTION = 16384;
 
-    private int                   vuLeft;
-    private int                   vuRight;
-    private IParameter            volumeParameter;
-    private IParameter            panParameter;
-    private ISendBank             sendBank;
+    private int                         vuLeft;
+    private int                         vuRight;
+    private IParameter                  volumeParameter;
+    private IParameter                  panParameter;
+    private ISendBank                   sendBank;
+    private final ModelRegionObserver   vuObserver;
 
 
     /**
@@ -39,16 +45,20 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
      *
      * @param host The DAW host
      * @param valueChanger The valueChanger
+     * @param changeTracker The tracker for model changes
+     * @param region The model region to which the channel belongs
      * @param channel The channel
      * @param index The index of the channel in the page
      * @param numSends The number of sends of a bank
      */
-    public ChannelImpl (final IHost host, final IValueChanger valueChanger, final Channel channel, final int index, final int numSends)
+    public ChannelImpl (final IHost host, final IValueChanger valueChanger, final ModelChangeTracker changeTracker, final ModelRegion region, final Channel channel, final int index, final int numSends)
     {
         super (index, channel);
 
         this.deviceChain = channel;
         this.valueChanger = valueChanger;
+        this.regionObserver = new ModelRegionObserver (changeTracker, region);
+        this.vuObserver = new ModelRegionObserver (changeTracker, ModelRegion.VU);
 
         if (channel == null)
             return;
@@ -67,6 +77,18 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
         channel.addVuMeterObserver (MAX_RESOLUTION, 1, true, this::handleVURightMeter);
 
         this.sendBank = new SendBankImpl (host, valueChanger, numSends == 0 ? null : channel.sendBank (), numSends);
+
+        this.regionObserver.observe (channel.exists (), channel.isActivated (), channel.mute (), channel.solo ());
+        this.regionObserver.observe (channel.name (), channel.volume ().displayedValue (), channel.pan ().displayedValue ());
+        this.regionObserver.observe (channel.volume ().value (), channel.pan ().value ());
+        this.regionObserver.observe (channel.color ());
+        for (int i = 0; i < numSends; i++)
+        {
+            final Send send = channel.sendBank ().getItemAt (i);
+            this.regionObserver.observe (send.exists ());
+            this.regionObserver.observe (send.name (), send.displayedValue ());
+            this.regionObserver.observe (send.value ());
+        }
     }
 
 
@@ -414,6 +436,7 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
         // Limit value to this.configuration.getMaxParameterValue () due to
         // https://github.com/teotigraphix/Framework4Bitwig/issues/98
         this.vuLeft = value >= MAX_RESOLUTION ? MAX_RESOLUTION - 1 : value;
+        this.vuObserver.markChanged ();
     }
 
 
@@ -422,5 +445,6 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
         // Limit value to this.configuration.getMaxParameterValue () due to
         // https://github.com/teotigraphix/Framework4Bitwig/issues/98
         this.vuRight = value >= MAX_RESOLUTION ? MAX_RESOLUTION - 1 : value;
+        this.vuObserver.markChanged ();
     }
 }
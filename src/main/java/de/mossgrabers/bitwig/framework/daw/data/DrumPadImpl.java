@@ -6,6 +6,7 @@ package de.mossgrabers.bitwig.framework.daw.data;
 
 import de.mossgrabers.framework.controller.IValueChanger;
 import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.ModelChangeTracker;
 import de.mossgrabers.framework.daw.data.IDrumPad;
 
 import com.bitwig.extension.controller.api.DrumPad;
@@ -23,14 +24,15 @@ public class DrumPadImpl extends LayerImpl implements IDrumPad
      *
      * @param host The DAW host
      * @param valueChanger The valueChanger
+     * @param changeTracker The tracker for model changes
      * @param drumPad The drum pad
      * @param index The index of the channel in the page
      * @param numSends The number of sends of a bank
      * @param numDevices The number of devices of a bank
      */
-    public DrumPadImpl (final IHost host, final IValueChanger valueChanger, final DrumPad drumPad, final int index, final int numSends, final int numDevices)
+    public DrumPadImpl (final IHost host, final IValueChanger valueChanger, final ModelChangeTracker changeTracker, final DrumPad drumPad, final int index, final int numSends, final int numDevices)
     {
-        super (host, valueChanger, drumPad, index, numSends, numDevices);
+        super (host, valueChanger, changeTracker, drumPad, index, numSends, numDevices);
     }
 
 
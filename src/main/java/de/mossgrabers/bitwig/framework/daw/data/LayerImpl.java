@@ -6,6 +6,8 @@ package de.mossgrabers.bitwig.framework.daw.data;
 
 import de.mossgrabers.framework.controller.IValueChanger;
 import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.ModelChangeTracker;
+import de.mossgrabers.framework.daw.ModelRegion;
 import de.mossgrabers.framework.daw.data.ILayer;
 import de.mossgrabers.framework.daw.resource.ChannelType;
 
@@ -28,17 +30,21 @@ public class LayerImpl extends ChannelImpl implements ILayer
      *
      * @param host The DAW host
      * @param valueChanger The valueChanger
+     * @param changeTracker The tracker for model changes
      * @param layer The layer
      * @param index The index of the channel in the page
      * @param numSends The number of sends of a bank
      * @param numDevices The number of devices of a bank
      */
-    public LayerImpl (final IHost host, final IValueChanger valueChanger, final Channel layer, final int index, final int numSends, final int numDevices)
+    public LayerImpl (final IHost host, final IValueChanger valueChanger, final ModelChangeTracker changeTracker, final Channel layer, final int index, final int numSends, final int numDevices)
     {
-        super (host, valueChanger, layer, index, numSends);
+        super (host, valueChanger, changeTracker, ModelRegion.DEVICE, layer, index, numSends);
 
         this.deviceBank = layer.createDeviceBank (numDevices);
-        layer.addIsSelectedInEditorObserver (this::setSelected);
+        layer.addIsSelectedInEditorObserver (isSelected -> {
+            this.setSelected (isSelected);
+            this.regionObserver.markChanged ();
+        });
     }
 
 
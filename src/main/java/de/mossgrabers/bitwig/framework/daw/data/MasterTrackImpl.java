@@ -6,6 +6,8 @@ package de.mossgrabers.bitwig.framework.daw.data;
 
 import de.mossgrabers.framework.controller.IValueChanger;
 import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.ModelChangeTracker;
+import de.mossgrabers.framework.daw.ModelRegion;
 import de.mossgrabers.framework.daw.data.IMasterTrack;
 import de.mossgrabers.framework.daw.resource.ChannelType;
 import de.mossgrabers.framework.observer.ItemSelectionObserver;
@@ -31,11 +33,12 @@ public class MasterTrackImpl extends TrackImpl implements IMasterTrack
      *
      * @param host The DAW host
      * @param valueChanger The valueChanger
+     * @param changeTracker The tracker for model changes
      * @param master The master track
      */
-    public MasterTrackImpl (final IHost host, final IValueChanger valueChanger, final MasterTrack master)
+    public MasterTrackImpl (final IHost host, final IValueChanger valueChanger, final ModelChangeTracker changeTracker, final MasterTrack master)
     {
-        super (host, valueChanger, null, master, -1, 0, 0);
+        super (host, valueChanger, changeTracker, ModelRegion.MASTER, null, master, -1, 0, 0);
 
         this.track.addIsSelectedInEditorObserver (this::handleIsSelected);
     }
@@ -65,6 +68,7 @@ public class MasterTrackImpl extends TrackImpl implements IMasterTrack
     private void handleIsSelected (final boolean isSelected)
     {
         this.setSelected (isSelected);
+        this.regionObserver.markChanged ();
         for (final ItemSelectionObserver observer: this.observers)
             observer.call (-1, isSelected);
     }
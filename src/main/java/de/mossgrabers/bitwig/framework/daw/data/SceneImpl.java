@@ -4,6 +4,7 @@
 
 package de.mossgrabers.bitwig.framework.daw.data;
 
+import de.mossgrabers.bitwig.framework.daw.ModelRegionObserver;
 import de.mossgrabers.framework.daw.data.AbstractItemImpl;
 import de.mossgrabers.framework.daw.data.IScene;
 import de.mossgrabers.framework.observer.IValueObserver;
@@ -25,10 +26,11 @@ public class SceneImpl extends AbstractItemImpl implements IScene
     /**
      * Constructor.
      *
+     * @param regionObserver Marks the scenes as changed
      * @param scene The scene
      * @param index The index of the scene
      */
-    public SceneImpl (final Scene scene, final int index)
+    public SceneImpl (final ModelRegionObserver regionObserver, final Scene scene, final int index)
     {
         super (index);
 
@@ -38,7 +40,15 @@ public class SceneImpl extends AbstractItemImpl implements IScene
         scene.name ().markInterested ();
         scene.sceneIndex ().markInterested ();
         scene.color ().markInterested ();
-        scene.addIsSelectedInEditorObserver (this::setSelected);
+        scene.addIsSelectedInEditorObserver (isSelected -> {
+            this.setSelected (isSelected);
+            regionObserver.markChanged ();
+        });
+
+        regionObserver.observe (scene.exists ());
+        regionObserver.observe (scene.name ());
+        regionObserver.observe (scene.sceneIndex ());
+        regionObserver.observe (scene.color ());
     }
 
 
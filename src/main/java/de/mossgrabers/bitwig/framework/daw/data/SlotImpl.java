@@ -4,6 +4,7 @@
 
 package de.mossgrabers.bitwig.framework.daw.data;
 
+import de.mossgrabers.bitwig.framework.daw.ModelRegionObserver;
 import de.mossgrabers.framework.daw.data.AbstractItemImpl;
 import de.mossgrabers.framework.daw.data.ISlot;
 import de.mossgrabers.framework.daw.data.ITrack;
@@ -29,13 +30,14 @@ public class SlotImpl extends AbstractItemImpl implements ISlot
     /**
      * Constructor.
      *
+     * @param regionObserver Marks the slots as changed
      * @param track The track which contains the slot
      * @param csBank The slot bank. Required since some functions are not avaiable on the slot but
      *            on the bank
      * @param slot The slot
      * @param index The index of the slot
      */
-    public SlotImpl (final ITrack track, final ClipLauncherSlotBank csBank, final ClipLauncherSlot slot, final int index)
+    public SlotImpl (final ModelRegionObserver regionObserver, final ITrack track, final ClipLauncherSlotBank csBank, final ClipLauncherSlot slot, final int index)
     {
         super (index);
 
@@ -56,6 +58,11 @@ public class SlotImpl extends AbstractItemImpl implements ISlot
         slot.isRecordingQueued ().markInterested ();
         slot.isStopQueued ().markInterested ();
         slot.isSelected ().markInterested ();
+
+        regionObserver.observe (slot.exists (), slot.hasContent (), slot.isPlaying (), slot.isPlaybackQueued (), slot.isRecording (), slot.isRecordingQueued (), slot.isStopQueued (), slot.isSelected ());
+        regionObserver.observe (slot.sceneIndex ());
+        regionObserver.observe (slot.name ());
+        regionObserver.observe (slot.color ());
     }
 
 
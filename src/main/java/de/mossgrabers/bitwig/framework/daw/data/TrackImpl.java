@@ -8,6 +8,8 @@ import de.mossgrabers.bitwig.framework.daw.SlotBankImpl;
 import de.mossgrabers.framework.controller.IValueChanger;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.ISlotBank;
+import de.mossgrabers.framework.daw.ModelChangeTracker;
+import de.mossgrabers.framework.daw.ModelRegion;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.daw.resource.ChannelType;
 import de.mossgrabers.framework.observer.NoteObserver;
@@ -53,6 +55,8 @@ public class TrackImpl extends ChannelImpl implements ITrack
      *
      * @param host The DAW host
      * @param valueChanger The valueChanger
+     * @param changeTracker The tracker for model changes
+     * @param region The model region to which the track belongs
      * @param cursorTrack The cursor track of the bank to which this track belongs, required for
      *            group navigation
      * @param track The track
@@ -60,9 +64,9 @@ public class TrackImpl extends ChannelImpl implements ITrack
      * @param numSends The number of sends of a bank
      * @param numScenes The number of scenes of a bank
      */
-    public TrackImpl (final IHost host, final IValueChanger valueChanger, final CursorTrack cursorTrack, final Track track, final int index, final int numSends, final int numScenes)
+    public TrackImpl (final IHost host, final IValueChanger valueChanger, final ModelChangeTracker changeTracker, final ModelRegion region, final CursorTrack cursorTrack, final Track track, final int index, final int numSends, final int numScenes)
     {
-        super (host, valueChanger, track, index, numSends);
+        super (host, valueChanger, changeTracker, region, track, index, numSends);
 
         this.host = host;
         this.cursorTrack = cursorTrack;
@@ -80,7 +84,12 @@ public class TrackImpl extends ChannelImpl implements ITrack
         track.isStopped ().markInterested ();
         track.playingNotes ().addValueObserver (this::handleNotes);
 
-        this.slotBank = new SlotBankImpl (host, valueChanger, this, track.clipLauncherSlotBank (), numScenes);
+        this.regionObserver.observe (track.trackType ());
+        this.regionObserver.observe (track.position ());
+        this.regionObserver.observe (track.isGroup (), track.arm (), track.monitor (), track.autoMonitor (), track.canHoldNoteData (), track.canHoldAudioData (), track.isStopped ());
+        this.regionObserver.observe (track.crossFadeMode ());
+
+        this.slotBank = new SlotBankImpl (host, valueChanger, changeTracker, this, track.clipLauncherSlotBank (), numScenes);
 
         Arrays.fill (this.noteCache, NOTE_OFF);
     }
@@ -20,7 +20,8 @@ import java.nio.ByteBuffer;
  */
 public class BitmapImpl implements IBitmap
 {
-    private Bitmap bitmap;
+    private Bitmap                    bitmap;
+    private final GraphicsContextImpl context = new GraphicsContextImpl ();
 
 
     /**
@@ -54,7 +55,10 @@ public class BitmapImpl implements IBitmap
     @Override
     public void render (final IRenderer renderer)
     {
-        this.bitmap.render (gc -> renderer.render (new GraphicsContextImpl (gc)));
+        this.bitmap.render (gc -> {
+            this.context.setGraphicsOutput (gc);
+            renderer.render (this.context);
+        });
     }
 
 
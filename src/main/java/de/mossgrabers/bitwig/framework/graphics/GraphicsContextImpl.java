@@ -8,10 +8,13 @@ import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.graphics.Align;
 import de.mossgrabers.framework.graphics.IGraphicsContext;
 import de.mossgrabers.framework.graphics.IImage;
+import de.mossgrabers.framework.graphics.TextMeasurementCache;
+import de.mossgrabers.framework.graphics.TextMeasurementCache.ITextMeasurer;
 
 import com.bitwig.extension.api.graphics.GradientPattern;
 import com.bitwig.extension.api.graphics.GraphicsOutput;
 import com.bitwig.extension.api.graphics.GraphicsOutput.AntialiasMode;
+import com.bitwig.extension.api.graphics.TextExtents;
 
 
 /**
@@ -21,7 +24,21 @@ import com.bitwig.extension.api.graphics.GraphicsOutput.AntialiasMode;
  */
 public class GraphicsContextImpl implements IGraphicsContext
 {
-    private GraphicsOutput gc;
+    /** The maximum number of texts for which the extents are cached. */
+    private static final int           TEXT_CACHE_SIZE = 1024;
+
+    private GraphicsOutput             gc;
+    private final TextMeasurementCache textCache       = new TextMeasurementCache (TEXT_CACHE_SIZE);
+    private final ITextMeasurer        textMeasurer    = this::measureText;
+
+
+    /**
+     * Constructor. The graphics context needs to be set before each rendering.
+     */
+    public GraphicsContextImpl ()
+    {
+        // Intentionally empty
+    }
 
 
     /**
@@ -30,12 +47,35 @@ public class GraphicsContextImpl implements IGraphicsContext
      * @param gc The Bitwig graphics context
      */
     public GraphicsContextImpl (final GraphicsOutput gc)
+    {
+        this.setGraphicsOutput (gc);
+    }
+
+
+    /**
+     * Set the Bitwig graphics context to draw to. Allows to reuse this context and its text cache
+     * across several renderings.
+     *
+     * @param gc The Bitwig graphics context
+     */
+    public void setGraphicsOutput (final GraphicsOutput gc)
     {
         gc.setAntialias (AntialiasMode.BEST);
         this.gc = gc;
     }
 
 
+    /**
+     * Get the cache for the text extents.
+     *
+     * @return The cache
+     */
+    public TextMeasurementCache getTextCache ()
+    {
+        return this.textCache;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void drawLine (final double x1, final double y1, final double x2, final double y2, final ColorEx color)
@@ -156,8 +196,8 @@ public class GraphicsContextImpl implements IGraphicsContext
 
         // We need to calculate the text height from a character which has no ascent, since showText
         // always draws the text on the baseline of the font!
-        final double h = this.gc.getTextExtents ("T").getHeight ();
-        final double w = this.gc.getTextExtents (text).getWidth ();
+        final double h = this.textCache.getHeight ("T", fontSize, this.textMeasurer);
+        final double w = this.textCache.getWidth (text, fontSize, this.textMeasurer);
         final double posX = alignment == Align.CENTER ? x + (width - w) / 2.0 : x;
         final double posY = y + (height + h) / 2;
 
@@ -198,12 +238,12 @@ public class GraphicsContextImpl implements IGraphicsContext
 
         // We need to calculate the text height from a character which has no ascent, since showText
         // always draws the text on the baseline of the font!
-        final double h = this.gc.getTextExtents ("T").getHeight ();
+        final double h = this.textCache.getHeight ("T", fontSize, this.textMeasurer);
         final double posY = y + (height + h) / 2;
 
         if (backgroundColor != null)
         {
-            final double w = this.gc.getTextExtents (text).getWidth ();
+            final double w = this.textCache.getWidth (text, fontSize, this.textMeasurer);
             final double inset = 12.0;
             this.fillRoundedRectangle (x + inset, posY - h - inset, w + 2 * inset, h + 2 * inset, inset, backgroundColor);
         }
@@ -244,8 +284,7 @@ public class GraphicsContextImpl implements IGraphicsContext
         double fittingSize = -1;
         while (size < maxHeight)
         {
-            this.gc.setFontSize (size);
-            final double width = this.gc.getTextExtents (maxString).getWidth ();
+            final double width = this.textCache.getWidth (maxString, size, this.textMeasurer);
             if (width > maxWidth)
                 break;
             fittingSize = size;
@@ -255,6 +294,45 @@ public class GraphicsContextImpl implements IGraphicsContext
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void setClip (final double left, final double top, final double width, final double height)
+    {
+        this.gc.save ();
+        this.gc.rectangle (left, top, width, height);
+        this.gc.clip ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void resetClip ()
+    {
+        this.gc.restore ();
+    }
+
+
+    /**
+     * Measures a text with the Bitwig graphics context.
+     *
+     * @param text The text to measure
+     * @param fontSize The size of the font
+     * @return The width and height of the text
+     */
+    private double [] measureText (final String text, final double fontSize)
+    {
+        this.gc.save ();
+        this.gc.setFontSize (fontSize);
+        final TextExtents extents = this.gc.getTextExtents (text);
+        this.gc.restore ();
+        return new double []
+        {
+            extents.getWidth (),
+            extents.getHeight ()
+        };
+    }
+
+
     protected void setColor (final ColorEx color)
     {
         this.gc.setColor (color.getRed (), color.getGreen (), color.getBlue ());
@@ -6,6 +6,7 @@ package de.mossgrabers.bitwig.framework.osc;
 
 import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
 import de.mossgrabers.framework.osc.IOpenSoundControlServer;
+import de.mossgrabers.framework.osc.OpenSoundControlEncoder;
 
 import com.bitwig.extension.api.opensoundcontrol.OscConnection;
 
@@ -21,6 +22,9 @@ import java.util.List;
 public class OpenSoundControlServerImpl implements IOpenSoundControlServer
 {
     private OscConnection connection;
+    private int           maxPacketSize = OpenSoundControlEncoder.MAX_PACKET_SIZE_LAN;
+    private int           lastBundleCount;
+    private int           lastBundleBytes;
 
 
     /**
@@ -48,21 +52,65 @@ public class OpenSoundControlServerImpl implements IOpenSoundControlServer
     @Override
     public void sendBundle (final List<IOpenSoundControlMessage> messages) throws IOException
     {
-        int pos = 0;
+        this.lastBundleCount = 0;
+        this.lastBundleBytes = 0;
+        if (messages.isEmpty ())
+            return;
+
+        int size = OpenSoundControlEncoder.BUNDLE_HEADER_SIZE;
         this.connection.startBundle ();
         for (final IOpenSoundControlMessage message: messages)
         {
-            this.sendMessage (message);
-            pos++;
-            // We cannot get the exact size of the message due to the API, so let's try to stay
-            // below 64K, which is the maximum of an UDP message
-            if (pos > 100)
+            // Start a new bundle if the message does not fit into the current one but keep at
+            // least one message in each bundle
+            final int messageSize = OpenSoundControlEncoder.getBundleElementSize (message);
+            if (size > OpenSoundControlEncoder.BUNDLE_HEADER_SIZE && size + messageSize > this.maxPacketSize)
             {
-                pos = 0;
-                this.connection.endBundle ();
+                this.endBundle (size);
+                size = OpenSoundControlEncoder.BUNDLE_HEADER_SIZE;
                 this.connection.startBundle ();
             }
+            this.sendMessage (message);
+            size += messageSize;
         }
+        this.endBundle (size);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setMaxPacketSize (final int maxPacketSize)
+    {
+        this.maxPacketSize = maxPacketSize;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getLastBundleCount ()
+    {
+        return this.lastBundleCount;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getLastBundleBytes ()
+    {
+        return this.lastBundleBytes;
+    }
+
+
+    /**
+     * Close the current bundle and count it.
+     *
+     * @param size The size of the bundle in bytes
+     * @throws IOException Could not send the bundle
+     */
+    private void endBundle (final int size) throws IOException
+    {
         this.connection.endBundle ();
+        this.lastBundleCount++;
+        this.lastBundleBytes += size;
     }
 }
@@ -5,6 +5,7 @@
 package de.mossgrabers.bitwig.framework.usb;
 
 import de.mossgrabers.framework.daw.IMemoryBlock;
+import de.mossgrabers.framework.usb.HidReport;
 import de.mossgrabers.framework.usb.IHidCallback;
 import de.mossgrabers.framework.usb.IHidDevice;
 import de.mossgrabers.framework.usb.UsbException;
@@ -69,21 +70,10 @@ public class HidDeviceImpl implements IHidDevice
     {
         if (!this.isOpen)
             return -1;
-        final byte [] data = toBuffer (memoryBlock);
-
         // purehid documentation says otherwise but MAC also needs the report ID in
         // data[0], therefore add it
-        byte [] d = data;
-        int l = data.length;
-        if (OperatingSystem.get () == OperatingSystem.MAC)
-        {
-            l++;
-            d = new byte [l];
-            d[0] = reportID;
-            System.arraycopy (data, 0, d, 1, data.length);
-        }
-
-        return this.hidDevice.setOutputReport (reportID, d, d.length);
+        final byte [] data = toBuffer (reportID, memoryBlock, OperatingSystem.get () == OperatingSystem.MAC);
+        return this.hidDevice.setOutputReport (reportID, data, data.length);
     }
 
 
@@ -93,11 +83,52 @@ public class HidDeviceImpl implements IHidDevice
     {
         if (!this.isOpen)
             return -1;
-        final byte [] data = toBuffer (memoryBlock);
+        final byte [] data = toBuffer (reportID, memoryBlock, false);
         return this.hidDevice.setFeatureReport (reportID, data, data.length);
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public HidReport createOutputReport (final byte reportID, final int size)
+    {
+        // purehid documentation says otherwise but MAC also needs the report ID in
+        // data[0], therefore reserve it
+        return new HidReport (reportID, size, OperatingSystem.get () == OperatingSystem.MAC);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public HidReport createFeatureReport (final byte reportID, final int size)
+    {
+        // Feature reports never contain the report ID, see sendFeatureReport
+        return new HidReport (reportID, size, false);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int sendOutputReport (final HidReport report)
+    {
+        if (!this.isOpen)
+            return -1;
+        final byte [] data = report.getData ();
+        return this.hidDevice.setOutputReport (report.getReportID (), data, data.length);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int sendFeatureReport (final HidReport report)
+    {
+        if (!this.isOpen)
+            return -1;
+        final byte [] data = report.getData ();
+        return this.hidDevice.setFeatureReport (report.getReportID (), data, data.length);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void setCallback (final IHidCallback callback)
@@ -133,13 +164,16 @@ public class HidDeviceImpl implements IHidDevice
     }
 
 
-    private static byte [] toBuffer (final IMemoryBlock memoryBlock)
+    private static byte [] toBuffer (final byte reportID, final IMemoryBlock memoryBlock, final boolean addReportID)
     {
         final ByteBuffer buffer = memoryBlock.createByteBuffer ();
         final int size = buffer.capacity ();
-        final byte [] data = new byte [size];
+        final int offset = addReportID ? 1 : 0;
+        final byte [] data = new byte [offset + size];
+        if (addReportID)
+            data[0] = reportID;
         buffer.rewind ();
-        buffer.get (data);
+        buffer.get (data, offset, size);
         return data;
     }
 }
@@ -313,7 +313,10 @@ public class APCControlSurface extends AbstractControlSurface<APCConfiguration>
                 if (commandID != null)
                     view.executeContinuousCommand (commandID, data2);
                 if (data1 == APCControlSurface.APC_FOOTSWITCH_2)
+                {
+                    this.requestFullUpdate ();
                     view.executeTriggerCommand (this.getTriggerCommand (APCControlSurface.APC_FOOTSWITCH_2), data2 > 0 ? ButtonEvent.DOWN : ButtonEvent.UP);
+                }
                 break;
 
             default:
@@ -27,6 +27,7 @@ import java.io.IOException;
 import java.io.Reader;
 import java.io.Writer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.EnumMap;
 import java.util.HashSet;
 import java.util.List;
@@ -236,6 +237,9 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
     /** The number of command slots. */
     public static final int                          NUM_SLOTS             = 200;
 
+    private static final int                         NUM_INDEX_TYPES       = CommandSlot.TYPE_MMC + 1;
+    private static final int                         NUM_INDEX_NUMBERS     = 128;
+
     private IEnumSetting                             slotSelectionSetting;
     private IEnumSetting                             typeSetting;
     private IEnumSetting                             numberSetting;
@@ -250,6 +254,7 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
     private IEnumSetting                             selectedModeSetting;
 
     private CommandSlot []                           commandSlots          = new CommandSlot [NUM_SLOTS];
+    private volatile int [] [] []                    slotIndex             = createSlotIndex ();
 
     private IValueObserver<FlexiCommand>             commandObserver;
     private String                                   filename;
@@ -259,6 +264,7 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
     private String                                   learnTypeValue        = null;
     private String                                   learnNumberValue      = null;
     private String                                   learnMidiChannelValue = null;
+    private volatile boolean                         isLearnActive         = true;
     private AtomicBoolean                            doNotFire             = new AtomicBoolean (false);
     private AtomicBoolean                            commandIsUpdating     = new AtomicBoolean (false);
 
@@ -334,6 +340,8 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
 
         category = "Use a knob/fader/button then click Set...";
 
+        final IEnumSetting learnActiveSetting = settingsUI.getEnumSetting ("Learn:", category, AbstractConfiguration.ON_OFF_OPTIONS, AbstractConfiguration.ON_OFF_OPTIONS[1]);
+        learnActiveSetting.addValueObserver (value -> this.isLearnActive = AbstractConfiguration.ON_OFF_OPTIONS[1].equals (value));
         this.learnTypeSetting = settingsUI.getEnumSetting ("Type:", category, OPTIONS_TYPE, OPTIONS_TYPE[0]);
         this.learnNumberSetting = settingsUI.getEnumSetting ("Number:", category, NUMBER_NAMES, NUMBER_NAMES[0]);
         this.learnMidiChannelSetting = settingsUI.getEnumSetting ("Midi channel:", category, OPTIONS_MIDI_CHANNEL, OPTIONS_MIDI_CHANNEL[0]);
@@ -389,15 +397,18 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
             final int index = AbstractConfiguration.lookupIndex (OPTIONS_TYPE, value);
             this.getSelectedSlot ().setType (index - 1);
             this.sendValueSetting.setVisible (index == CommandSlot.TYPE_CC);
+            this.updateSlotIndex ();
             this.clearNoteMap ();
             this.updateVisibility (!OPTIONS_TYPE[0].equals (value));
         });
         this.numberSetting.addValueObserver (value -> {
             this.getSelectedSlot ().setNumber (AbstractConfiguration.lookupIndex (NUMBER_NAMES, value));
+            this.updateSlotIndex ();
             this.clearNoteMap ();
         });
         this.midiChannelSetting.addValueObserver (value -> {
             this.getSelectedSlot ().setMidiChannel (AbstractConfiguration.lookupIndex (OPTIONS_MIDI_CHANNEL, value));
+            this.updateSlotIndex ();
             this.clearNoteMap ();
         });
         this.knobModeSetting.addValueObserver (value -> {
@@ -458,6 +469,7 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
         final FlexiCommand oldCommand = selectedSlot.getCommand ();
         final FlexiCommand newCommand = FlexiCommand.lookupByName (value);
         selectedSlot.setCommand (newCommand);
+        this.updateSlotIndex ();
 
         this.fixKnobMode ();
         this.notifyCommandObserver ();
@@ -500,9 +512,17 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
      */
     public void setLearnValues (final String type, final int number, final int midiChannel)
     {
+        if (!this.isLearnActive)
+            return;
+
+        final String numberValue = NUMBER_NAMES[number];
+        final String midiChannelValue = Integer.toString (midiChannel + 1);
+        if (type.equals (this.learnTypeValue) && numberValue.equals (this.learnNumberValue) && midiChannelValue.equals (this.learnMidiChannelValue))
+            return;
+
         this.learnTypeValue = type;
-        this.learnNumberValue = NUMBER_NAMES[number];
-        this.learnMidiChannelValue = Integer.toString (midiChannel + 1);
+        this.learnNumberValue = numberValue;
+        this.learnMidiChannelValue = midiChannelValue;
 
         this.learnTypeSetting.set (type);
         this.learnNumberSetting.set (this.learnNumberValue);
@@ -520,13 +540,53 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
      */
     public int getSlotCommand (final int type, final int number, final int midiChannel)
     {
-        for (int i = 0; i < this.commandSlots.length; i++)
+        if (type < 0 || type >= NUM_INDEX_TYPES || midiChannel < 0 || midiChannel >= OPTIONS_MIDI_CHANNEL.length)
+            return -1;
+        // The number is ignored for pitchbend, therefore these slots are all stored at index 0
+        final int n = type == CommandSlot.TYPE_PITCH_BEND ? 0 : number;
+        if (n < 0 || n >= NUM_INDEX_NUMBERS)
+            return -1;
+        return this.slotIndex[type][midiChannel][n];
+    }
+
+
+    /**
+     * Rebuild the lookup index from (type, midi channel, number) to the slot. Must be called
+     * whenever the type, number, midi channel or command of a slot changes. If several slots
+     * match, the one with the lowest index wins.
+     */
+    private void updateSlotIndex ()
+    {
+        final int [] [] [] index = createSlotIndex ();
+        for (int i = this.commandSlots.length - 1; i >= 0; i--)
         {
             final CommandSlot slot = this.commandSlots[i];
-            if (slot.getCommand () != FlexiCommand.OFF && slot.getType () == type && slot.getMidiChannel () == midiChannel && (type == CommandSlot.TYPE_PITCH_BEND || slot.getNumber () == number))
-                return i;
+            if (slot == null || slot.getCommand () == FlexiCommand.OFF)
+                continue;
+            final int type = slot.getType ();
+            final int midiChannel = slot.getMidiChannel ();
+            final int number = type == CommandSlot.TYPE_PITCH_BEND ? 0 : slot.getNumber ();
+            if (type >= 0 && type < NUM_INDEX_TYPES && midiChannel >= 0 && midiChannel < OPTIONS_MIDI_CHANNEL.length && number >= 0 && number < NUM_INDEX_NUMBERS)
+                index[type][midiChannel][number] = i;
+        }
+        this.slotIndex = index;
+    }
+
+
+    /**
+     * Create an empty slot index.
+     *
+     * @return The index with all entries set to -1
+     */
+    private static int [] [] [] createSlotIndex ()
+    {
+        final int [] [] [] index = new int [NUM_INDEX_TYPES] [OPTIONS_MIDI_CHANNEL.length] [NUM_INDEX_NUMBERS];
+        for (final int [] [] channels: index)
+        {
+            for (final int [] numbers: channels)
+                Arrays.fill (numbers, -1);
         }
-        return -1;
+        return index;
     }
 
 
@@ -673,9 +733,11 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
         {
             this.host.error ("Could not import from file.", ex);
             this.host.showNotification ("Could not import from file. Check Script Console for detailed error.");
+            this.updateSlotIndex ();
             return;
         }
 
+        this.updateSlotIndex ();
         this.clearNoteMap ();
 
         this.slotSelectionSetting.set ("1");
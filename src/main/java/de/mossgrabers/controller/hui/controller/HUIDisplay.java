@@ -7,10 +7,11 @@ package de.mossgrabers.controller.hui.controller;
 import de.mossgrabers.framework.controller.display.AbstractDisplay;
 import de.mossgrabers.framework.controller.display.Display;
 import de.mossgrabers.framework.controller.display.Format;
+import de.mossgrabers.framework.controller.display.PendingSpans;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 import de.mossgrabers.framework.utils.LatestTaskExecutor;
-import de.mossgrabers.framework.utils.StringUtils;
 
 
 /**
@@ -41,6 +42,9 @@ public class HUIDisplay extends AbstractDisplay
     private int                      charactersOfCell;
 
     private final LatestTaskExecutor executor             = new LatestTaskExecutor ();
+    private final SysexBuilder       sysexBuilder         = new SysexBuilder (SYSEX_DISPLAY_HEADER);
+    private final PendingSpans       pendingSpans;
+    private final Runnable           spanSender;
 
 
     /**
@@ -55,6 +59,18 @@ public class HUIDisplay extends AbstractDisplay
         super (host, output, 1 /* No of rows */, 9 /* No of cells */, 36);
 
         this.charactersOfCell = this.noOfCharacters / this.noOfCells;
+
+        this.pendingSpans = new PendingSpans (1, this.noOfCharacters);
+        this.spanSender = () -> {
+            try
+            {
+                this.pendingSpans.send (0, this::sendDisplayCells);
+            }
+            catch (final RuntimeException ex)
+            {
+                this.host.error ("Could not send line to HUI display.", ex);
+            }
+        };
     }
 
 
@@ -124,39 +140,36 @@ public class HUIDisplay extends AbstractDisplay
     /** {@inheritDoc} */
     @Override
     public void writeLine (final int row, final String text)
+    {
+        final char [] chars = text.toCharArray ();
+        this.writeSpan (row, chars, chars.length, 0, chars.length);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected void writeSpan (final int row, final char [] text, final int length, final int start, final int end)
     {
         if (this.executor.isShutdown ())
             return;
-        this.executor.execute ( () -> {
-            try
-            {
-                this.sendDisplayLine (text);
-            }
-            catch (final RuntimeException ex)
-            {
-                this.host.error ("Could not send line to HUI display.", ex);
-            }
-        });
+        this.pendingSpans.add (row, text, start, end);
+        this.executor.execute (this.spanSender);
     }
 
 
     /**
-     * Send a line to the display
+     * Send the cells of the display which contain changed characters. Each cell is sent with its
+     * own message.
      *
-     * @param text The text to send
+     * @param row The row
+     * @param text The text of the row
+     * @param start The index of the first changed character
+     * @param end The index after the last changed character
      */
-    private void sendDisplayLine (final String text)
+    private void sendDisplayCells (final int row, final char [] text, final int start, final int end)
     {
-        final String t = text;
-
-        final int [] array = new int [5];
-        for (int cell = 0; cell < this.noOfCells; cell++)
-        {
-            array[0] = cell;
-            for (int i = 0; i < 4; i++)
-                array[1 + i] = t.charAt (cell * 4 + i);
-            this.output.sendSysex (new StringBuilder (SYSEX_DISPLAY_HEADER).append (StringUtils.toHexStr (array)).append ("F7").toString ());
-        }
+        for (int cell = start / 4; cell <= (end - 1) / 4; cell++)
+            this.sysexBuilder.start ().addByte (cell).addText (text, cell * 4, cell * 4 + 4).send (this.output);
     }
 
 
@@ -7,8 +7,10 @@ package de.mossgrabers.controller.hui.controller;
 import de.mossgrabers.framework.controller.display.AbstractDisplay;
 import de.mossgrabers.framework.controller.display.Display;
 import de.mossgrabers.framework.controller.display.Format;
+import de.mossgrabers.framework.controller.display.PendingSpans;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 import de.mossgrabers.framework.utils.LatestTaskExecutor;
 
 
@@ -47,6 +49,9 @@ public class HUIMainDisplay extends AbstractDisplay
     private int                         charactersOfCell;
 
     private final LatestTaskExecutor [] executors            = new LatestTaskExecutor [2];
+    private final SysexBuilder []       sysexBuilders        = new SysexBuilder [2];
+    private final PendingSpans          pendingSpans;
+    private final Runnable []           spanSenders          = new Runnable [2];
 
 
     /**
@@ -60,8 +65,23 @@ public class HUIMainDisplay extends AbstractDisplay
         super (host, output, 2 /* No of rows */, 8 /* No of cells */, 40);
 
         this.charactersOfCell = this.noOfCharacters / this.noOfCells;
+        this.pendingSpans = new PendingSpans (2, this.noOfCharacters);
         for (int i = 0; i < this.executors.length; i++)
+        {
             this.executors[i] = new LatestTaskExecutor ();
+            this.sysexBuilders[i] = new SysexBuilder (SYSEX_DISPLAY_HEADER);
+            final int row = i;
+            this.spanSenders[i] = () -> {
+                try
+                {
+                    this.pendingSpans.send (row, this::sendDisplayZones);
+                }
+                catch (final RuntimeException ex)
+                {
+                    this.host.error ("Could not send line to HUI display.", ex);
+                }
+            };
+        }
     }
 
 
@@ -131,48 +151,44 @@ public class HUIMainDisplay extends AbstractDisplay
     /** {@inheritDoc} */
     @Override
     public void writeLine (final int row, final String text)
+    {
+        final char [] chars = text.toCharArray ();
+        this.writeSpan (row, chars, chars.length, 0, chars.length);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected void writeSpan (final int row, final char [] text, final int length, final int start, final int end)
     {
         if (this.executors[row].isShutdown ())
             return;
-        this.executors[row].execute ( () -> {
-            try
-            {
-                this.sendDisplayLine (row, text);
-            }
-            catch (final RuntimeException ex)
-            {
-                this.host.error ("Could not send line to HUI display.", ex);
-            }
-        });
+        this.pendingSpans.add (row, text, start, end);
+        this.executors[row].execute (this.spanSenders[row]);
     }
 
 
     /**
-     * Send a line to the display
+     * Send the zones of a row which contain changed characters. Each row consists of 4 zones with
+     * 10 characters.
      *
      * @param row The row
-     * @param text The text to send
+     * @param text The text of the row
+     * @param start The index of the first changed character
+     * @param end The index after the last changed character
      */
-    private void sendDisplayLine (final int row, final String text)
+    private void sendDisplayZones (final int row, final char [] text, final int start, final int end)
     {
-        final byte [] line = new byte [52];
-        System.arraycopy (SYSEX_DISPLAY_HEADER, 0, line, 0, SYSEX_DISPLAY_HEADER.length);
-        line[line.length - 1] = (byte) 0xF7;
-
-        final int pos = SYSEX_DISPLAY_HEADER.length;
+        final SysexBuilder sysexBuilder = this.sysexBuilders[row].start ();
         final int offset = row * 4;
 
-        for (int i = 0; i < 4; i++)
+        for (int i = start / 10; i <= (end - 1) / 10; i++)
         {
-            final int start = 11 * i;
             final int textStart = 10 * i;
-            final int index = pos + start;
-            line[index] = (byte) (offset + i);
-            for (int j = 0; j < 10; j++)
-                line[index + j + 1] = (byte) text.charAt (textStart + j);
+            sysexBuilder.addByte (offset + i).addText (text, textStart, textStart + 10);
         }
 
-        this.output.sendSysex (line);
+        sysexBuilder.send (this.output);
     }
 
 
@@ -183,8 +199,8 @@ public class HUIMainDisplay extends AbstractDisplay
         this.notify ("Please start " + this.host.getName () + "...");
 
         // Prevent further sends
-        for (int i = 0; i < 4; i++)
-            this.executors[i].shutdown ();
+        for (final LatestTaskExecutor executor: this.executors)
+            executor.shutdown ();
     }
 
 
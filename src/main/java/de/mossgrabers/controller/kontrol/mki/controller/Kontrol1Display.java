@@ -38,6 +38,7 @@ public class Kontrol1Display extends AbstractDisplay
 
     private int                    maxParameterValue;
     private Kontrol1UsbDevice      usbDevice;
+    private char []                lineBuffer = new char [72];
 
 
     /**
@@ -150,10 +151,36 @@ public class Kontrol1Display extends AbstractDisplay
     @Override
     public void writeLine (final int row, final String text)
     {
-        String t = text;
-        for (int i = 0; i < t.length (); i++)
+        final int length = text.length ();
+        this.ensureLineBuffer (length);
+        text.getChars (0, length, this.lineBuffer, 0);
+        this.writeCharacters (row, length);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected void writeSpan (final int row, final char [] text, final int length, final int start, final int end)
+    {
+        this.ensureLineBuffer (length);
+        System.arraycopy (text, 0, this.lineBuffer, 0, length);
+        this.writeCharacters (row, length);
+    }
+
+
+    /**
+     * Hand the characters of the line buffer to the device. A dot is displayed with the previous
+     * character, the rest of its block is moved to the left.
+     *
+     * @param row The row
+     * @param length The number of characters in the line buffer
+     */
+    private void writeCharacters (final int row, final int length)
+    {
+        final char [] t = this.lineBuffer;
+        for (int i = 0; i < length; i++)
         {
-            char c = t.charAt (i);
+            char c = t[i];
             final boolean isDot = c == '.';
 
             if (!isDot || i % 8 == 0)
@@ -165,15 +192,23 @@ public class Kontrol1Display extends AbstractDisplay
             {
                 this.usbDevice.setDot (row, i - 1, true);
                 this.usbDevice.setDot (row, i, false);
-                final int end = (i / 8 + 1) * 8;
-                t = t.substring (0, i) + t.substring (i + 1, end) + " " + t.substring (end);
-                c = t.charAt (i);
+                final int end = Math.min ((i / 8 + 1) * 8, length);
+                System.arraycopy (t, i + 1, t, i, end - i - 1);
+                t[end - 1] = ' ';
+                c = t[i];
                 this.usbDevice.setCharacter (row, i, c == '.' ? ' ' : c);
             }
         }
     }
 
 
+    private void ensureLineBuffer (final int length)
+    {
+        if (this.lineBuffer.length < length)
+            this.lineBuffer = new char [length];
+    }
+
+
     /**
      * Set a value bar.
      *
@@ -227,9 +262,7 @@ public class Kontrol1Display extends AbstractDisplay
     {
         this.isNotificationActive = true;
         this.clear ();
-        final int padLength = (this.noOfCharacters - message.length ()) / 2;
-        final String padding = padLength > 0 ? this.emptyLine.substring (0, padLength) : "";
-        this.notificationMessage = (padding + message + padding + "  ").substring (0, this.noOfCharacters);
+        this.setNotificationRow (message, (this.noOfCharacters - message.length ()) / 2);
         this.flush ();
         this.host.scheduleTask ( () -> {
             this.isNotificationActive = false;
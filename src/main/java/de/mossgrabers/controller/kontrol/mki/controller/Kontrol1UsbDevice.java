@@ -5,15 +5,19 @@
 package de.mossgrabers.controller.kontrol.mki.controller;
 
 import de.mossgrabers.framework.daw.IHost;
-import de.mossgrabers.framework.daw.IMemoryBlock;
+import de.mossgrabers.framework.usb.HidReport;
 import de.mossgrabers.framework.usb.IHidDevice;
 import de.mossgrabers.framework.usb.IUsbDevice;
 import de.mossgrabers.framework.usb.UsbException;
+import de.mossgrabers.framework.utils.LatestTaskExecutor;
 
 import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 
 
 /**
@@ -325,6 +329,15 @@ public class Kontrol1UsbDevice
         (byte) 129
     };
 
+    private static final byte []               EMPTY_GLYPH               = new byte []
+    {
+        0,
+        0
+    };
+
+    /** The encoded segments of all ASCII characters, filled from the tables above. */
+    private static final byte [] []            GLYPHS                    = new byte [128] [];
+
     private static final int []                BYTE_0                    =
     {
         Kontrol1ControlSurface.BUTTON_MAIN_ENCODER,
@@ -378,6 +391,15 @@ public class Kontrol1UsbDevice
         Kontrol1ControlSurface.TOUCH_ENCODER_MAIN
     };
 
+    private static final int [] []             BUTTON_BYTES              =
+    {
+        BYTE_0,
+        BYTE_1,
+        BYTE_2,
+        BYTE_3,
+        BYTE_4
+    };
+
     private static final int []                TEST_BITS                 =
     {
         0x01,
@@ -408,23 +430,34 @@ public class Kontrol1UsbDevice
     private static final int                   SIZE_BUTTON_LEDS          = 25;
 
     private final int                          sizeKeyLEDs;
-    private final IMemoryBlock                 displayBlock;
-    private final IMemoryBlock                 ledBlock;
-    private final IMemoryBlock                 keyLedBlock;
-    private final IMemoryBlock                 initBlock;
+    private final HidReport                    displayReport;
+    private final HidReport                    ledReport;
+    private final HidReport                    keyLedReport;
+    private final HidReport                    initReport;
 
     private static final Map<Integer, Integer> LED_MAPPING               = new HashMap<> (21);
 
     private final int                          modelIndex;
     private final IHost                        host;
     private IUsbDevice                         usbDevice;
-    private IHidDevice                         hidDevice;
+    private volatile IHidDevice                hidDevice;
 
     private UIChangeCallback                   callback;
 
     private int                                mainEncoderValue;
     private int []                             encoderValues             = new int [8];
-    private int                                firstNote                 = 48;
+    private volatile int                       firstNote                 = 48;
+
+    // Input collected by the HID thread and applied by the drain task on the DAW thread
+    private final AtomicInteger                mainEncoderSteps          = new AtomicInteger ();
+    private final AtomicIntegerArray           encoderSteps              = new AtomicIntegerArray (8);
+    private final AtomicIntegerArray           buttonInputs              = new AtomicIntegerArray (5);
+    private final int []                       deliveredButtons          = new int [5];
+    private final AtomicBoolean                hasKeyboardChanged        = new AtomicBoolean ();
+    private final AtomicBoolean                isDrainScheduled          = new AtomicBoolean ();
+    private final Runnable                     drainTask                 = this::drainInput;
+    private final LatestTaskExecutor           sendExecutor              = new LatestTaskExecutor ("Kontrol 1 Output");
+    private final Runnable                     sendTask                  = this::sendChangedReports;
 
     private byte []                            buttonStates              = new byte [21];
     private byte []                            oldButtonStates           = new byte [21];
@@ -435,14 +468,25 @@ public class Kontrol1UsbDevice
     private final boolean [] []                dots                      = new boolean [2] [72];
     private final int [] []                    bars                      = new int [9] [9];
     private final char [] []                   texts                     = new char [2] [72];
-    private final char [] []                   oldTexts                  = new char [2] [72];
 
-    private final byte []                      line0                     = new byte [SIZE_DISPLAY];
+    // The encoded content of the 3 display rows (bars and dots, 2 text rows), 2 bytes per character
+    private final byte [] []                   encodedRows               = new byte [3] [144];
+    // All rows are sent on the first flush since the device still shows its previous content
+    private final boolean []                   isRowDirty                =
+    {
+        true,
+        true,
+        true
+    };
+    private final int []                       newBar                    = new int [9];
 
     private boolean                            isFirstStateMsg           = true;
 
     static
     {
+        for (char c = 0; c < GLYPHS.length; c++)
+            GLYPHS[c] = lookupGlyph (c);
+
         LED_MAPPING.put (Integer.valueOf (Kontrol1ControlSurface.BUTTON_SHIFT), Integer.valueOf (0));
         LED_MAPPING.put (Integer.valueOf (Kontrol1ControlSurface.BUTTON_SCALE), Integer.valueOf (1));
         LED_MAPPING.put (Integer.valueOf (Kontrol1ControlSurface.BUTTON_ARP), Integer.valueOf (2));
@@ -494,10 +538,10 @@ public class Kontrol1UsbDevice
 
         this.sizeKeyLEDs = KEY_SIZES[modelIndex] * 3;
 
-        this.displayBlock = host.createMemoryBlock (SIZE_DISPLAY);
-        this.ledBlock = host.createMemoryBlock (SIZE_BUTTON_LEDS);
-        this.keyLedBlock = host.createMemoryBlock (this.sizeKeyLEDs);
-        this.initBlock = host.createMemoryBlock (2);
+        this.displayReport = this.createReport (REPORT_ID_OUTPUT_DISPLAY, SIZE_DISPLAY);
+        this.ledReport = this.createReport (REPORT_ID_OUTPUT_LEDS, SIZE_BUTTON_LEDS);
+        this.keyLedReport = this.createReport (REPORT_ID_OUTPUT_KEY_LEDS, this.sizeKeyLEDs);
+        this.initReport = this.createReport (REPORT_ID_OUTPUT_INIT, 2);
 
         // To send black LEDs on startup
         this.oldKeyColors[0] = -1;
@@ -534,11 +578,12 @@ public class Kontrol1UsbDevice
         if (this.hidDevice == null)
             return;
 
-        synchronized (this.initBlock)
+        synchronized (this.initReport)
         {
-            final ByteBuffer buffer = this.initBlock.createByteBuffer ();
+            final ByteBuffer buffer = this.initReport.getBuffer ();
+            buffer.clear ();
             padBuffer (buffer);
-            this.hidDevice.sendOutputReport (REPORT_ID_OUTPUT_INIT, this.initBlock);
+            this.hidDevice.sendOutputReport (this.initReport);
         }
     }
 
@@ -552,9 +597,15 @@ public class Kontrol1UsbDevice
      */
     public void setCharacter (final int row, final int index, final char character)
     {
-        if (row < 0 || row > 1 || index < 0 || index > 71)
+        if (row < 0 || row > 1 || index < 0 || index > 71 || this.texts[row][index] == character)
             return;
         this.texts[row][index] = character;
+
+        final byte [] glyph = character < GLYPHS.length ? GLYPHS[character] : EMPTY_GLYPH;
+        final byte [] encoded = this.encodedRows[row + 1];
+        encoded[2 * index] = glyph[0];
+        encoded[2 * index + 1] = glyph[1];
+        this.isRowDirty[row + 1] = true;
     }
 
 
@@ -567,9 +618,24 @@ public class Kontrol1UsbDevice
      */
     public void setDot (final int row, final int index, final boolean set)
     {
-        if (row < 0 || row > 1 || index < 0 || index > 71)
+        if (row < 0 || row > 1 || index < 0 || index > 71 || this.dots[row][index] == set)
             return;
         this.dots[row][index] = set;
+
+        // The dots of the last character of a column are replaced by the 9th bar segment
+        if (index % 8 == 7)
+            return;
+        final byte encoded;
+        if (this.dots[0][index] && this.dots[1][index])
+            encoded = (byte) 255;
+        else if (this.dots[0][index])
+            encoded = (byte) 253;
+        else if (this.dots[1][index])
+            encoded = (byte) 254;
+        else
+            encoded = 0;
+        this.encodedRows[0][2 * index + 1] = encoded;
+        this.isRowDirty[0] = true;
     }
 
 
@@ -586,11 +652,12 @@ public class Kontrol1UsbDevice
         final int v = value * 36 / maxValue;
         final int full = v / 4;
 
+        final int [] bar = this.newBar;
         for (int i = 0; i < 9; i++)
         {
-            this.bars[column][i] = i < full ? 3 : 0;
+            bar[i] = i < full ? 3 : 0;
             if (hasBorder)
-                this.bars[column][i] += 68;
+                bar[i] += 68;
         }
 
         if (full < 9)
@@ -601,10 +668,12 @@ public class Kontrol1UsbDevice
                 dashes = 2;
             else if (dashes == 2)
                 dashes = 1;
-            this.bars[column][full] = dashes;
+            bar[full] = dashes;
             if (hasBorder)
-                this.bars[column][full] += 68;
+                bar[full] += 68;
         }
+
+        this.updateBar (column, bar);
     }
 
 
@@ -618,8 +687,9 @@ public class Kontrol1UsbDevice
      */
     public void setPanBar (final int column, final boolean hasBorder, final int value, final int maxValue)
     {
+        final int [] bar = this.newBar;
         for (int i = 0; i < 9; i++)
-            this.bars[column][i] = i == 4 ? 3 : 0;
+            bar[i] = i == 4 ? 3 : 0;
 
         final int middle = maxValue / 2;
         if (value != middle)
@@ -633,93 +703,71 @@ public class Kontrol1UsbDevice
             if (isLeft)
             {
                 for (int i = 4 - half; i <= 4; i++)
-                    this.bars[column][i] = 3;
+                    bar[i] = 3;
                 if (rest > 0 && 4 - half - 1 >= 0)
-                    this.bars[column][4 - half - 1] = 2;
+                    bar[4 - half - 1] = 2;
             }
             else
             {
                 for (int i = 0; i <= half; i++)
-                    this.bars[column][5 + i] = 3;
+                    bar[5 + i] = 3;
                 if (rest > 0 && 5 + half + 1 <= 8)
-                    this.bars[column][5 + half + 1] = 2;
+                    bar[5 + half + 1] = 2;
             }
         }
 
-        if (!hasBorder)
-            return;
-        for (int i = 0; i < 9; i++)
-            this.bars[column][i] += 68;
+        if (hasBorder)
+        {
+            for (int i = 0; i < 9; i++)
+                bar[i] += 68;
+        }
+
+        this.updateBar (column, bar);
     }
 
 
     /**
-     * Send all display data to the device.
+     * Copies the changed segments of a value bar and encodes them into the first display row.
+     *
+     * @param column The column (0-8)
+     * @param bar The 9 segments of the bar
      */
-    public void sendDisplayData ()
+    private void updateBar (final int column, final int [] bar)
     {
-        if (this.hidDevice == null)
-            return;
-
-        synchronized (this.displayBlock)
+        final int [] current = this.bars[column];
+        for (int i = 0; i < 9; i++)
         {
-            final ByteBuffer displayBuffer = this.displayBlock.createByteBuffer ();
-            fillHeader (displayBuffer, 0);
-            for (int j = 0; j < 72; j++)
-            {
-                final int col = j / 8;
-                displayBuffer.put ((byte) this.bars[col][j - col * 8]);
-
-                if (j % 8 == 7)
-                    displayBuffer.put ((byte) this.bars[col][8]);
-                else
-                {
-                    if (this.dots[0][j] && this.dots[1][j])
-                        displayBuffer.put ((byte) 255);
-                    else if (this.dots[0][j])
-                        displayBuffer.put ((byte) 253);
-                    else if (this.dots[1][j])
-                        displayBuffer.put ((byte) 254);
-                    else
-                        displayBuffer.put ((byte) 0);
-                }
-            }
-            padBuffer (displayBuffer);
-
-            final byte [] l0 = new byte [SIZE_DISPLAY];
-            displayBuffer.rewind ();
-            displayBuffer.get (l0);
-
-            if (!Arrays.equals (this.line0, l0))
-            {
-                System.arraycopy (l0, 0, this.line0, 0, this.line0.length);
-                this.hidDevice.sendOutputReport (REPORT_ID_OUTPUT_DISPLAY, this.displayBlock);
-            }
-
-            for (int row = 1; row < 3; row++)
-            {
-                if (!Arrays.equals (this.oldTexts[row - 1], this.texts[row - 1]))
-                {
-                    System.arraycopy (this.texts[row - 1], 0, this.oldTexts[row - 1], 0, this.oldTexts[row - 1].length);
+            if (current[i] == bar[i])
+                continue;
+            current[i] = bar[i];
+            // The 9th segment is stored in place of the dots of the last character of the column
+            final int pos = i < 8 ? 2 * (column * 8 + i) : 2 * (column * 8 + 7) + 1;
+            this.encodedRows[0][pos] = (byte) bar[i];
+            this.isRowDirty[0] = true;
+        }
+    }
 
-                    fillHeader (displayBuffer, row);
-                    for (int j = 0; j < 72; j++)
-                        displayBuffer.put (this.getCharacter (row - 1, j));
 
-                    padBuffer (displayBuffer);
-                    this.hidDevice.sendOutputReport (REPORT_ID_OUTPUT_DISPLAY, this.displayBlock);
-                }
-            }
-        }
+    /**
+     * Send all display data to the device. The data is sent asynchronously, see
+     * sendChangedReports.
+     */
+    public void sendDisplayData ()
+    {
+        this.scheduleSend ();
     }
 
 
     /**
-     * Stop sending USB data.
+     * Stop sending USB data. Changes which were not yet sent are still transmitted.
      */
     public void shutdown ()
     {
-        this.hidDevice = null;
+        this.sendExecutor.execute ( () -> {
+            this.sendChangedReports ();
+            this.hidDevice = null;
+        });
+        this.sendExecutor.shutdown ();
     }
 
 
@@ -743,25 +791,12 @@ public class Kontrol1UsbDevice
 
 
     /**
-     * Send the LED status updates to the device.
+     * Send the LED status updates to the device. The data is sent asynchronously, see
+     * sendChangedReports.
      */
     public void updateButtonLEDs ()
     {
-        if (this.hidDevice == null)
-            return;
-
-        synchronized (this.ledBlock)
-        {
-            if (Arrays.equals (this.oldButtonStates, this.buttonStates))
-                return;
-            System.arraycopy (this.buttonStates, 0, this.oldButtonStates, 0, this.oldButtonStates.length);
-
-            final ByteBuffer ledBuffer = this.ledBlock.createByteBuffer ();
-            ledBuffer.clear ();
-            ledBuffer.put (this.buttonStates);
-            padBuffer (ledBuffer);
-            this.hidDevice.sendOutputReport (REPORT_ID_OUTPUT_LEDS, this.ledBlock);
-        }
+        this.scheduleSend ();
     }
 
 
@@ -780,7 +815,7 @@ public class Kontrol1UsbDevice
         if (key < 0 || key >= 88)
             return;
         final int pos = 3 * key;
-        synchronized (this.keyLedBlock)
+        synchronized (this.keyLedReport)
         {
             this.keyColors[pos] = (byte) red;
             this.keyColors[pos + 1] = (byte) green;
@@ -790,23 +825,89 @@ public class Kontrol1UsbDevice
 
 
     /**
-     * Send the key LED stati updates to the device.
+     * Send the key LED stati updates to the device. The data is sent asynchronously, see
+     * sendChangedReports.
      */
     public void updateKeyLEDs ()
     {
-        if (this.hidDevice == null)
+        this.scheduleSend ();
+    }
+
+
+    private void scheduleSend ()
+    {
+        if (this.hidDevice != null)
+            this.sendExecutor.execute (this.sendTask);
+    }
+
+
+    /**
+     * Send all changed display rows, button and key LEDs to the device. Sending a HID report
+     * blocks, therefore this runs on its own thread and not on the shared output thread of all
+     * controllers. Since each run sends everything which changed, it does not matter if a run
+     * replaces a previous one which was not yet executed.
+     */
+    private void sendChangedReports ()
+    {
+        final IHidDevice device = this.hidDevice;
+        if (device == null)
             return;
+        this.sendDisplayRows (device);
+        this.sendButtonLEDs (device);
+        this.sendKeyLEDs (device);
+    }
+
+
+    private void sendDisplayRows (final IHidDevice device)
+    {
+        synchronized (this.displayReport)
+        {
+            // The rows are already encoded by the setters, only send the changed ones
+            final ByteBuffer displayBuffer = this.displayReport.getBuffer ();
+            for (int row = 0; row < 3; row++)
+            {
+                if (!this.isRowDirty[row])
+                    continue;
+                this.isRowDirty[row] = false;
+
+                fillHeader (displayBuffer, row);
+                displayBuffer.put (this.encodedRows[row]);
+                padBuffer (displayBuffer);
+                device.sendOutputReport (this.displayReport);
+            }
+        }
+    }
+
+
+    private void sendButtonLEDs (final IHidDevice device)
+    {
+        synchronized (this.ledReport)
+        {
+            if (Arrays.equals (this.oldButtonStates, this.buttonStates))
+                return;
+            System.arraycopy (this.buttonStates, 0, this.oldButtonStates, 0, this.oldButtonStates.length);
 
-        synchronized (this.keyLedBlock)
+            final ByteBuffer ledBuffer = this.ledReport.getBuffer ();
+            ledBuffer.clear ();
+            ledBuffer.put (this.buttonStates);
+            padBuffer (ledBuffer);
+            device.sendOutputReport (this.ledReport);
+        }
+    }
+
+
+    private void sendKeyLEDs (final IHidDevice device)
+    {
+        synchronized (this.keyLedReport)
         {
             if (Arrays.equals (this.oldKeyColors, this.keyColors))
                 return;
             System.arraycopy (this.keyColors, 0, this.oldKeyColors, 0, this.oldKeyColors.length);
-            final ByteBuffer keyLedBuffer = this.keyLedBlock.createByteBuffer ();
+            final ByteBuffer keyLedBuffer = this.keyLedReport.getBuffer ();
             keyLedBuffer.clear ();
             keyLedBuffer.put (this.keyColors, 0, this.sizeKeyLEDs);
             padBuffer (keyLedBuffer);
-            this.hidDevice.sendOutputReport (REPORT_ID_OUTPUT_KEY_LEDS, this.keyLedBlock);
+            device.sendOutputReport (this.keyLedReport);
         }
     }
 
@@ -843,6 +944,7 @@ public class Kontrol1UsbDevice
             return;
 
         boolean encoderChange = false;
+        boolean hasInput = false;
 
         // Decode main knob
         final int currentEncoderValue = Byte.toUnsignedInt (data[5]);
@@ -851,7 +953,10 @@ public class Kontrol1UsbDevice
             final boolean valueIncreased = (this.mainEncoderValue < currentEncoderValue || this.mainEncoderValue == 0x0F && currentEncoderValue == 0) && !(this.mainEncoderValue == 0 && currentEncoderValue == 0x0F);
             this.mainEncoderValue = currentEncoderValue;
             if (!this.isFirstStateMsg)
-                this.host.scheduleTask ( () -> this.callback.mainEncoderChanged (valueIncreased), 0);
+            {
+                this.mainEncoderSteps.addAndGet (valueIncreased ? 1 : -1);
+                hasInput = true;
+            }
             encoderChange = true;
         }
 
@@ -870,8 +975,8 @@ public class Kontrol1UsbDevice
                 this.encoderValues[encIndex] = value;
                 if (!this.isFirstStateMsg)
                 {
-                    final int ei = encIndex;
-                    this.host.scheduleTask ( () -> this.callback.encoderChanged (ei, valueIncreased), 0);
+                    this.encoderSteps.addAndGet (encIndex, valueIncreased ? 1 : -1);
+                    hasInput = true;
                 }
                 encoderChange = true;
             }
@@ -879,29 +984,83 @@ public class Kontrol1UsbDevice
 
         this.isFirstStateMsg = false;
 
-        // Test the pressed buttons
-        this.testByteForButtons (data[0], BYTE_0);
-        this.testByteForButtons (data[1], BYTE_1);
-        this.testByteForButtons (data[2], BYTE_2);
-        // Don't test touch events on encoder change to prevent flickering
-        if (!encoderChange)
+        // Test the pressed buttons, don't test touch events on encoder change to prevent
+        // flickering
+        final int numButtonBytes = encoderChange ? 3 : 5;
+        for (int i = 0; i < numButtonBytes; i++)
         {
-            this.testByteForButtons (data[3], BYTE_3);
-            this.testByteForButtons (data[4], BYTE_4);
+            if (this.testByteForButtons (i, data[i]))
+                hasInput = true;
         }
 
         if (this.firstNote != data[36])
         {
             this.firstNote = data[36];
-            this.host.scheduleTask ( () -> this.callback.keyboardChanged (this.firstNote), 0);
+            this.hasKeyboardChanged.set (true);
+            hasInput = true;
         }
+
+        // Only one drain task is waiting for execution at a time
+        if (hasInput && this.isDrainScheduled.compareAndSet (false, true))
+            this.host.scheduleTask (this.drainTask, 0);
     }
 
 
-    private byte [] getCharacter (final int row, final int index)
+    /**
+     * Applies all input which was collected since the last drain to the callback. Runs on the DAW
+     * thread.
+     */
+    private void drainInput ()
     {
-        final char c = this.texts[row][index];
+        // Reset first, input which arrives while draining schedules the next drain
+        this.isDrainScheduled.set (false);
 
+        if (this.callback == null)
+            return;
+
+        for (int i = 0; i < BUTTON_BYTES.length; i++)
+        {
+            // Keep the state but reset the changes
+            int input;
+            do
+                input = this.buttonInputs.get (i);
+            while (!this.buttonInputs.compareAndSet (i, input, input & 0xFF));
+
+            final int changes = input >> 8;
+            if (changes == 0)
+                continue;
+            final int [] buttons = BUTTON_BYTES[i];
+            for (int bit = 0; bit < buttons.length; bit++)
+            {
+                if ((changes & TEST_BITS[bit]) == 0)
+                    continue;
+                final boolean isPressed = (input & TEST_BITS[bit]) > 0;
+                // The state was toggled back and forth since the last drain, e.g. a short press
+                if (isPressed == (this.deliveredButtons[i] & TEST_BITS[bit]) > 0)
+                    this.callback.buttonChange (buttons[bit], !isPressed);
+                this.callback.buttonChange (buttons[bit], isPressed);
+            }
+            this.deliveredButtons[i] = input & 0xFF;
+        }
+
+        // Apply each encoder step since the callbacks handle single steps
+        int steps = this.mainEncoderSteps.getAndSet (0);
+        for (int i = Math.abs (steps); i > 0; i--)
+            this.callback.mainEncoderChanged (steps > 0);
+        for (int encIndex = 0; encIndex < 8; encIndex++)
+        {
+            steps = this.encoderSteps.getAndSet (encIndex, 0);
+            for (int i = Math.abs (steps); i > 0; i--)
+                this.callback.encoderChanged (encIndex, steps > 0);
+        }
+
+        if (this.hasKeyboardChanged.getAndSet (false))
+            this.callback.keyboardChanged (this.firstNote);
+    }
+
+
+    private static byte [] lookupGlyph (final char c)
+    {
         if (c >= 65 && c <= 90)
             return UPPER_CHARACTERS[c - 65];
 
@@ -929,26 +1088,31 @@ public class Kontrol1UsbDevice
                 return BWD_SLASH;
 
             default:
-                return new byte []
-                {
-                    0,
-                    0
-                };
+                return EMPTY_GLYPH;
         }
     }
 
 
-    private void testByteForButtons (final byte b, final int [] buttons)
+    /**
+     * Stores the state of the buttons of one byte of the input report. The lower 8 bits of the
+     * stored value contain the current state, the upper 8 bits the buttons which changed since the
+     * last drain.
+     *
+     * @param index The index of the byte (0-4)
+     * @param b The byte of the input report
+     * @return True if a button has changed
+     */
+    private boolean testByteForButtons (final int index, final byte b)
     {
-        if (this.callback == null)
-            return;
-
-        final int t = Byte.toUnsignedInt (b);
-        for (int i = 0; i < buttons.length; i++)
-        {
-            final int button = buttons[i];
-            final boolean isPressed = (t & TEST_BITS[i]) > 0;
-            this.host.scheduleTask ( () -> this.callback.buttonChange (button, isPressed), 0);
+        final int state = Byte.toUnsignedInt (b) & (1 << BUTTON_BYTES[index].length) - 1;
+        while (true)
+        {
+            final int input = this.buttonInputs.get (index);
+            final int changes = (input ^ state) & 0xFF;
+            if (changes == 0)
+                return false;
+            if (this.buttonInputs.compareAndSet (index, input, input & 0xFF00 | changes << 8 | state))
+                return true;
         }
     }
 
@@ -980,4 +1144,20 @@ public class Kontrol1UsbDevice
         while (buffer.position () < buffer.capacity ())
             buffer.put ((byte) 0x00);
     }
+
+
+    /**
+     * Create a report buffer. If the device is not available a buffer is created anyway, which is
+     * never sent.
+     *
+     * @param reportID The report ID
+     * @param size The size of the report data
+     * @return The report buffer
+     */
+    private HidReport createReport (final byte reportID, final int size)
+    {
+        if (this.hidDevice == null)
+            return new HidReport (reportID, size, false);
+        return this.hidDevice.createOutputReport (reportID, size);
+    }
 }
@@ -72,6 +72,8 @@ public class KontrolMkIIControllerSetup extends AbstractControllerSetup<KontrolM
     static final int             CONT_COMMAND_TRACK_VOLUME    = 120;
     static final int             CONT_COMMAND_TRACK_PAN       = 130;
 
+    private final int []         vuData                       = new int [16];
+
 
     /**
      * Constructor.
@@ -311,8 +313,6 @@ public class KontrolMkIIControllerSetup extends AbstractControllerSetup<KontrolM
     {
         final KontrolMkIIControlSurface surface = this.getSurface ();
 
-        final int [] vuData = new int [16];
-
         final ITrackBank trackBank = this.model.getTrackBank ();
         final boolean hasSolo = this.model.hasSolo ();
         for (int i = 0; i < 8; i++)
@@ -331,14 +331,14 @@ public class KontrolMkIIControllerSetup extends AbstractControllerSetup<KontrolM
             surface.sendKontrolTrackSysEx (KontrolMkIIControlSurface.KONTROL_TRACK_MUTED_BY_SOLO, !track.isSolo () && hasSolo ? 1 : 0, i);
 
             final int j = 2 * i;
-            vuData[j] = this.valueChanger.toMidiValue (track.getVuLeft ());
-            vuData[j + 1] = this.valueChanger.toMidiValue (track.getVuRight ());
+            this.vuData[j] = this.valueChanger.toMidiValue (track.getVuLeft ());
+            this.vuData[j + 1] = this.valueChanger.toMidiValue (track.getVuRight ());
 
             surface.updateButton (KontrolMkIIControlSurface.KONTROL_TRACK_VOLUME + i, this.valueChanger.toMidiValue (track.getVolume ()));
             surface.updateButton (KontrolMkIIControlSurface.KONTROL_TRACK_PAN + i, this.valueChanger.toMidiValue (track.getPan ()));
         }
 
-        surface.sendKontrolTrackSysEx (KontrolMkIIControlSurface.KONTROL_TRACK_VU, 2, 0, vuData);
+        surface.sendKontrolTrackSysEx (KontrolMkIIControlSurface.KONTROL_TRACK_VU, 2, 0, this.vuData);
         surface.sendKontrolTrackSysEx (KontrolMkIIControlSurface.KONTROL_TRACK_INSTANCE, 0, 0, this.getKompleteInstance ());
 
         final ITrack selectedTrack = trackBank.getSelectedItem ();
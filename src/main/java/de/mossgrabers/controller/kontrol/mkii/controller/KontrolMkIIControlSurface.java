@@ -11,11 +11,10 @@ import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 import de.mossgrabers.framework.utils.StringUtils;
 
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
 
 
 /**
@@ -146,6 +145,7 @@ public class KontrolMkIIControlSurface extends AbstractControlSurface<KontrolMkI
     private int                 protocolVersion                      = 1;
     private ValueCache          valueCache                           = new ValueCache ();
     private final Object        cacheLock                            = new Object ();
+    private final SysexBuilder  sysexBuilder                         = new SysexBuilder ("F0 00 21 09 00 00 44 43 01 00 ");
     private final Object        handshakeLock                        = new Object ();
     private boolean             isConnectedToNIHIA                   = false;
 
@@ -270,7 +270,14 @@ public class KontrolMkIIControlSurface extends AbstractControlSurface<KontrolMkI
      */
     public void sendKontrolTrackSysEx (final int stateID, final int value, final int track, final String info)
     {
-        this.sendKontrolTrackSysEx (stateID, value, track, StringUtils.fixASCII (info).chars ().toArray ());
+        synchronized (this.cacheLock)
+        {
+            // Only convert the text if it has changed
+            if (this.valueCache.storeText (track, stateID, value, info))
+                return;
+
+            this.sysexBuilder.start ().addByte (stateID).addByte (value).addByte (track).addText (StringUtils.fixASCII (info)).send (this.output);
+        }
     }
 
 
@@ -299,18 +306,12 @@ public class KontrolMkIIControlSurface extends AbstractControlSurface<KontrolMkI
     {
         synchronized (this.cacheLock)
         {
-            if (this.valueCache.store (track, stateID, value, info))
+            if (this.valueCache.storeData (track, stateID, value, info))
                 return;
-        }
-
-        final int [] data = new int [3 + info.length];
-        data[0] = stateID;
-        data[1] = value;
-        data[2] = track;
-        for (int i = 0; i < info.length; i++)
-            data[3 + i] = info[i];
 
-        this.output.sendSysex ("F0 00 21 09 00 00 44 43 01 00 " + StringUtils.toHexStr (data) + "F7");
+            // The builder is shared, therefore build and send while holding the lock
+            this.sysexBuilder.start ().addByte (stateID).addByte (value).addByte (track).addBytes (info).send (this.output);
+        }
     }
 
 
@@ -363,11 +364,16 @@ public class KontrolMkIIControlSurface extends AbstractControlSurface<KontrolMkI
     }
 
     /**
-     * Caches the values of the sysex values.
+     * Caches the values of the sysex values. The values of all tracks and state IDs are stored in
+     * flat tables, the index is track * 128 + stateID.
      */
     private static class ValueCache
     {
-        private final List<List<int []>> cache = new ArrayList<> (8);
+        private static final int NO_VALUE = -1;
+
+        private final int []     values   = new int [8 * 128];
+        private final String []  texts    = new String [8 * 128];
+        private final int [] []  data     = new int [8 * 128] [];
 
 
         /**
@@ -384,13 +390,34 @@ public class KontrolMkIIControlSurface extends AbstractControlSurface<KontrolMkI
          */
         public final void clearCache ()
         {
-            for (int i = 0; i < 8; i++)
-            {
-                final List<int []> e = new ArrayList<> (128);
-                for (int j = 0; j < 128; j++)
-                    e.add (new int [0]);
-                this.cache.add (e);
-            }
+            Arrays.fill (this.values, NO_VALUE);
+            Arrays.fill (this.texts, null);
+            Arrays.fill (this.data, null);
+        }
+
+
+        /**
+         * Stores the value and text in the cache for the track and stateID.
+         *
+         * @param track The track number
+         * @param stateID The state id
+         * @param value The value
+         * @param text The text
+         * @return False if cache was updated otherwise the given value and text are already stored
+         */
+        public boolean storeText (final int track, final int stateID, final int value, final String text)
+        {
+            final int index = track * 128 + stateID;
+
+            // The texts are mostly the same instances as in the previous flush
+            final String cached = this.texts[index];
+            if (this.values[index] == value && (cached == text || text.equals (cached)))
+                return true;
+
+            this.values[index] = value;
+            this.texts[index] = text;
+            this.data[index] = null;
+            return false;
         }
 
 
@@ -403,20 +430,21 @@ public class KontrolMkIIControlSurface extends AbstractControlSurface<KontrolMkI
          * @param data Further data
          * @return False if cache was updated otherwise the given value and data are already stored
          */
-        public boolean store (final int track, final int stateID, final int value, final int [] data)
+        public boolean storeData (final int track, final int stateID, final int value, final int [] data)
         {
-            final List<int []> trackItem = this.cache.get (track);
-            final int [] values = trackItem.get (stateID);
-
-            final int [] newValues = new int [1 + data.length];
-            newValues[0] = value;
-            if (data.length > 0)
-                System.arraycopy (data, 0, newValues, 1, data.length);
+            final int index = track * 128 + stateID;
 
-            if (Arrays.equals (values, newValues))
+            final int [] cached = this.data[index];
+            if (this.values[index] == value && Arrays.equals (cached, data))
                 return true;
 
-            trackItem.set (stateID, newValues);
+            this.values[index] = value;
+            this.texts[index] = null;
+            // Reuse the array of the cache
+            if (cached == null || cached.length != data.length)
+                this.data[index] = data.clone ();
+            else
+                System.arraycopy (data, 0, cached, 0, data.length);
             return false;
         }
     }
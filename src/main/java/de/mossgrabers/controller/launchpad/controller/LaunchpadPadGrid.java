@@ -7,7 +7,6 @@ package de.mossgrabers.controller.launchpad.controller;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.grid.PadGridImpl;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
-import de.mossgrabers.framework.utils.StringUtils;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -96,8 +95,6 @@ public class LaunchpadPadGrid extends PadGridImpl
             INVERSE_TRANSLATE_MATRIX.put (Integer.valueOf (TRANSLATE_MATRIX[i]), Integer.valueOf (36 + i));
     }
 
-    private final String sysexHeader;
-
 
     /**
      * Constructor.
@@ -109,15 +106,7 @@ public class LaunchpadPadGrid extends PadGridImpl
     public LaunchpadPadGrid (final ColorManager colorManager, final IMidiOutput output, final String sysexHeader)
     {
         super (colorManager, output);
-        this.sysexHeader = sysexHeader + "23 ";
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    protected void sendBlinkState (final int note, final int blinkColor, final boolean fast)
-    {
-        this.output.sendSysex (this.sysexHeader + StringUtils.toHexStr (note) + " " + StringUtils.toHexStr (blinkColor) + " F7");
+        this.setEncoder (new LaunchpadPadGridEncoder (sysexHeader));
     }
 
 
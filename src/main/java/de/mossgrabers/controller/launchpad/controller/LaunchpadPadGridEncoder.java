@@ -0,0 +1,79 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.launchpad.controller;
+
+import de.mossgrabers.framework.controller.grid.PadGridEncoder;
+import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
+
+
+/**
+ * Sends all changed pads of a frame with the Launchpad sysex commands which can set multiple LEDs
+ * at once.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class LaunchpadPadGridEncoder implements PadGridEncoder
+{
+    /** Sysex command to set the color of LEDs. */
+    private static final int   COMMAND_SET_LEDS   = 0x0A;
+    /** Sysex command to flash LEDs. */
+    private static final int   COMMAND_FLASH_LEDS = 0x23;
+    /** The maximum number of LEDs which can be addressed with one message. */
+    private static final int   MAX_LEDS           = 80;
+
+    private final SysexBuilder sysexBuilder;
+
+
+    /**
+     * Constructor.
+     *
+     * @param sysexHeader The sysex header of the device as a hex string
+     */
+    public LaunchpadPadGridEncoder (final String sysexHeader)
+    {
+        this.sysexBuilder = new SysexBuilder (sysexHeader);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendNoteStates (final IMidiOutput output, final int [] notes, final int [] colors, final int count)
+    {
+        this.send (output, COMMAND_SET_LEDS, notes, colors, count);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendBlinkStates (final IMidiOutput output, final int [] notes, final int [] blinkColors, final boolean [] fast, final int count)
+    {
+        // The Launchpad supports only one flash speed (synchronized to the clock)
+        this.send (output, COMMAND_FLASH_LEDS, notes, blinkColors, count);
+    }
+
+
+    /**
+     * Send LED/color pairs with the given command. Splits into several messages if there are more
+     * LEDs than one message can address.
+     *
+     * @param output The midi output
+     * @param command The sysex command
+     * @param notes The LEDs
+     * @param colors The colors
+     * @param count The number of LEDs
+     */
+    private void send (final IMidiOutput output, final int command, final int [] notes, final int [] colors, final int count)
+    {
+        for (int start = 0; start < count; start += MAX_LEDS)
+        {
+            final int end = Math.min (start + MAX_LEDS, count);
+            this.sysexBuilder.start ().addByte (command);
+            for (int i = start; i < end; i++)
+                this.sysexBuilder.addByte (notes[i]).addByte (colors[i]);
+            this.sysexBuilder.send (output);
+        }
+    }
+}
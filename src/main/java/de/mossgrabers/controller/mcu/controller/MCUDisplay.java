@@ -7,10 +7,11 @@ package de.mossgrabers.controller.mcu.controller;
 import de.mossgrabers.framework.controller.display.AbstractDisplay;
 import de.mossgrabers.framework.controller.display.Display;
 import de.mossgrabers.framework.controller.display.Format;
+import de.mossgrabers.framework.controller.display.PendingSpans;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 import de.mossgrabers.framework.utils.LatestTaskExecutor;
-import de.mossgrabers.framework.utils.StringUtils;
 
 
 /**
@@ -42,6 +43,9 @@ public class MCUDisplay extends AbstractDisplay
     private boolean                     hasMaster;
 
     private final LatestTaskExecutor [] executors             = new LatestTaskExecutor [4];
+    private final SysexBuilder []       sysexBuilders         = new SysexBuilder [2];
+    private final PendingSpans          pendingSpans;
+    private final Runnable []           spanSenders           = new Runnable [2];
 
 
     /**
@@ -63,6 +67,23 @@ public class MCUDisplay extends AbstractDisplay
 
         for (int i = 0; i < 4; i++)
             this.executors[i] = new LatestTaskExecutor ();
+        // One builder for each row since each row is sent from its own executor
+        this.pendingSpans = new PendingSpans (2, this.noOfCharacters);
+        for (int i = 0; i < 2; i++)
+        {
+            this.sysexBuilders[i] = new SysexBuilder (isFirst ? SYSEX_DISPLAY_HEADER1 : SYSEX_DISPLAY_HEADER2);
+            final int row = i;
+            this.spanSenders[i] = () -> {
+                try
+                {
+                    this.pendingSpans.send (row, this::sendDisplaySpan);
+                }
+                catch (final RuntimeException ex)
+                {
+                    this.host.error ("Could not send line to MCU display.", ex);
+                }
+            };
+        }
     }
 
 
@@ -149,6 +170,40 @@ public class MCUDisplay extends AbstractDisplay
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    protected void writeSpan (final int row, final char [] text, final int length, final int start, final int end)
+    {
+        // The text of the 2nd display is shifted to make room for the master cell, send full lines
+        if (!this.isFirst && this.hasMaster)
+        {
+            super.writeSpan (row, text, length, start, end);
+            return;
+        }
+
+        final LatestTaskExecutor executor = this.executors[row + (this.isFirst ? 0 : 2)];
+        if (executor.isShutdown ())
+            return;
+        this.pendingSpans.add (row, text, start, end);
+        executor.execute (this.spanSenders[row]);
+    }
+
+
+    /**
+     * Send the changed characters of a row to the display. The MCU addresses the characters of
+     * both rows with an offset (0-111).
+     *
+     * @param row The row
+     * @param text The text of the row
+     * @param start The index of the first character to send
+     * @param end The index after the last character to send
+     */
+    private void sendDisplaySpan (final int row, final char [] text, final int start, final int end)
+    {
+        this.sysexBuilders[row].start ().addByte ((row == 0 ? 0x00 : 0x38) + start).addText (text, start, end).send (this.output);
+    }
+
+
     /**
      * Send a line to the display
      *
@@ -164,20 +219,7 @@ public class MCUDisplay extends AbstractDisplay
                 t = t.substring (0, t.length () - 1) + 'r';
             t = "  " + t;
         }
-        final int length = t.length ();
-        final int [] array = new int [length];
-        for (int i = 0; i < length; i++)
-            array[i] = t.charAt (i);
-        final StringBuilder code = new StringBuilder ();
-        if (this.isFirst)
-            code.append (SYSEX_DISPLAY_HEADER1);
-        else
-            code.append (SYSEX_DISPLAY_HEADER2);
-        if (row == 0)
-            code.append ("00 ");
-        else
-            code.append ("38 ");
-        this.output.sendSysex (code.append (StringUtils.toHexStr (array)).append ("F7").toString ());
+        this.sysexBuilders[row].start ().addByte (row == 0 ? 0x00 : 0x38).addText (t).send (this.output);
     }
 
 
@@ -11,6 +11,7 @@ import de.mossgrabers.framework.controller.display.Display;
 import de.mossgrabers.framework.daw.ICursorDevice;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.ITrackBank;
+import de.mossgrabers.framework.daw.ModelRegion;
 import de.mossgrabers.framework.daw.data.IMasterTrack;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.mode.AbstractMode;
@@ -25,6 +26,9 @@ import de.mossgrabers.framework.utils.StringUtils;
  */
 public abstract class BaseMode extends AbstractMode<MCUControlSurface, MCUConfiguration>
 {
+    private static final int DEPENDENCIES = ModelRegion.mask (ModelRegion.TRACKS, ModelRegion.MASTER, ModelRegion.DEVICE);
+
+
     /**
      * Constructor.
      *
@@ -140,4 +144,12 @@ public abstract class BaseMode extends AbstractMode<MCUControlSurface, MCUConfig
 
         d2.done (1);
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getDependencies ()
+    {
+        return DEPENDENCIES;
+    }
 }
\ No newline at end of file
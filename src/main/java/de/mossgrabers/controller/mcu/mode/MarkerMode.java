@@ -8,6 +8,7 @@ import de.mossgrabers.controller.mcu.controller.MCUControlSurface;
 import de.mossgrabers.framework.controller.display.Display;
 import de.mossgrabers.framework.daw.IMarkerBank;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.ModelChangeTracker;
 import de.mossgrabers.framework.daw.data.IMarker;
 import de.mossgrabers.framework.utils.StringUtils;
 
@@ -88,4 +89,12 @@ public class MarkerMode extends BaseMode
             this.surface.setKnobLED (i, MCUControlSurface.KNOB_LED_MODE_WRAP, 0, exists ? 1 : 0);
         }
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getDependencies ()
+    {
+        return ModelChangeTracker.ALL_REGIONS;
+    }
 }
\ No newline at end of file
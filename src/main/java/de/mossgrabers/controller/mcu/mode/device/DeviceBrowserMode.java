@@ -10,6 +10,7 @@ import de.mossgrabers.framework.controller.display.Display;
 import de.mossgrabers.framework.daw.IBrowser;
 import de.mossgrabers.framework.daw.ICursorDevice;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.ModelChangeTracker;
 import de.mossgrabers.framework.daw.data.IBrowserColumn;
 import de.mossgrabers.framework.daw.data.IBrowserColumnItem;
 import de.mossgrabers.framework.utils.StringUtils;
@@ -228,4 +229,12 @@ public class DeviceBrowserMode extends BaseMode
             }
         }
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getDependencies ()
+    {
+        return ModelChangeTracker.ALL_REGIONS;
+    }
 }
\ No newline at end of file
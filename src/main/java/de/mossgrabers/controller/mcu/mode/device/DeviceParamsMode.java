@@ -10,6 +10,7 @@ import de.mossgrabers.framework.controller.display.Display;
 import de.mossgrabers.framework.daw.ICursorDevice;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.IParameterBank;
+import de.mossgrabers.framework.daw.ModelRegion;
 import de.mossgrabers.framework.daw.data.IParameter;
 import de.mossgrabers.framework.utils.StringUtils;
 
@@ -21,6 +22,9 @@ import de.mossgrabers.framework.utils.StringUtils;
  */
 public class DeviceParamsMode extends BaseMode
 {
+    private static final int DEPENDENCIES = ModelRegion.mask (ModelRegion.TRACKS, ModelRegion.MASTER, ModelRegion.DEVICE, ModelRegion.PARAMETERS);
+
+
     /**
      * Constructor.
      *
@@ -102,4 +106,12 @@ public class DeviceParamsMode extends BaseMode
         final ICursorDevice cursorDevice = this.model.getCursorDevice ();
         return cursorDevice == null ? null : cursorDevice.getParameterBank ();
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getDependencies ()
+    {
+        return DEPENDENCIES;
+    }
 }
\ No newline at end of file
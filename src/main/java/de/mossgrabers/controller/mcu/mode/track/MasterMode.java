@@ -9,6 +9,7 @@ import de.mossgrabers.controller.mcu.mode.BaseMode;
 import de.mossgrabers.framework.controller.display.Display;
 import de.mossgrabers.framework.daw.IApplication;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.ModelChangeTracker;
 import de.mossgrabers.framework.daw.data.IMasterTrack;
 import de.mossgrabers.framework.utils.ButtonEvent;
 import de.mossgrabers.framework.utils.StringUtils;
@@ -166,4 +167,12 @@ public class MasterMode extends BaseMode
                 break;
         }
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getDependencies ()
+    {
+        return ModelChangeTracker.ALL_REGIONS;
+    }
 }
\ No newline at end of file
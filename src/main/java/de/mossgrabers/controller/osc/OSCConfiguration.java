@@ -11,6 +11,11 @@ import de.mossgrabers.framework.configuration.IStringSetting;
 import de.mossgrabers.framework.controller.IValueChanger;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.osc.AbstractOpenSoundControlConfiguration;
+import de.mossgrabers.framework.osc.OpenSoundControlEncoder;
+import de.mossgrabers.framework.utils.Pair;
+
+import java.util.ArrayList;
+import java.util.List;
 
 
 /**
@@ -30,6 +35,14 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
     public static final Integer SEND_PORT        = Integer.valueOf (52);
     /** ID for value resolution setting. */
     public static final Integer VALUE_RESOLUTION = Integer.valueOf (53);
+    /** ID for maximum packet size setting. */
+    public static final Integer MAX_PACKET_SIZE  = Integer.valueOf (54);
+    /** ID for fast value rate setting. */
+    public static final Integer FAST_VALUE_RATE  = Integer.valueOf (55);
+    /** ID for bank state format setting. */
+    public static final Integer BANK_STATE_BLOB  = Integer.valueOf (56);
+    /** ID for additional clients setting. */
+    public static final Integer CLIENTS          = Integer.valueOf (57);
 
     /** The resolution for values. */
     public enum ValueResolution
@@ -49,10 +62,52 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
         "High (16384)"
     };
 
+    private static final String [] MAX_PACKET_SIZE_OPTIONS  = new String []
+    {
+        "LAN (1472 bytes)",
+        "8192 bytes",
+        "Localhost (65507 bytes)"
+    };
+
+    private static final int []    MAX_PACKET_SIZES         = new int []
+    {
+        OpenSoundControlEncoder.MAX_PACKET_SIZE_LAN,
+        8192,
+        OpenSoundControlEncoder.MAX_PACKET_SIZE_UDP
+    };
+
+    private static final String [] FAST_VALUE_RATE_OPTIONS  = new String []
+    {
+        "Unlimited",
+        "60 Hz",
+        "30 Hz",
+        "15 Hz",
+        "10 Hz"
+    };
+
+    private static final int []    FAST_VALUE_RATES         = new int []
+    {
+        0,
+        60,
+        30,
+        15,
+        10
+    };
+
+    private static final String [] BANK_STATE_OPTIONS       = new String []
+    {
+        "Messages",
+        "Binary blob"
+    };
+
     private int                    receivePort              = 8000;
     private String                 sendHost                 = DEFAULT_SERVER;
     private int                    sendPort                 = 9000;
     private ValueResolution        valueResolution          = ValueResolution.LOW;
+    private int                    maxPacketSize            = OpenSoundControlEncoder.MAX_PACKET_SIZE_LAN;
+    private int                    fastValueRate            = 30;
+    private boolean                bankStateBlob            = false;
+    private String                 clients                  = "";
 
 
     /**
@@ -95,6 +150,12 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
         });
         sendPortSetting.setEnabled (false);
 
+        final IStringSetting clientsSetting = settingsUI.getStringSetting ("Additional clients (host:port, ...)", CATEGORY_SETUP, 100, "");
+        clientsSetting.addValueObserver (value -> {
+            this.clients = value;
+            this.notifyObservers (CLIENTS);
+        });
+
         final IEnumSetting valueResolutionSetting = settingsUI.getEnumSetting ("Value resolution", CATEGORY_SETUP, VALUE_RESOLUTION_OPTIONS, VALUE_RESOLUTION_OPTIONS[0]);
         valueResolutionSetting.addValueObserver (value -> {
             if (VALUE_RESOLUTION_OPTIONS[0].equals (value))
@@ -107,6 +168,32 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
             this.notifyObservers (VALUE_RESOLUTION);
         });
 
+        final IEnumSetting maxPacketSizeSetting = settingsUI.getEnumSetting ("Max. packet size", CATEGORY_SETUP, MAX_PACKET_SIZE_OPTIONS, MAX_PACKET_SIZE_OPTIONS[0]);
+        maxPacketSizeSetting.addValueObserver (value -> {
+            for (int i = 0; i < MAX_PACKET_SIZE_OPTIONS.length; i++)
+            {
+                if (MAX_PACKET_SIZE_OPTIONS[i].equals (value))
+                    this.maxPacketSize = MAX_PACKET_SIZES[i];
+            }
+            this.notifyObservers (MAX_PACKET_SIZE);
+        });
+
+        final IEnumSetting fastValueRateSetting = settingsUI.getEnumSetting ("Max. rate of fast values (VU, time)", CATEGORY_SETUP, FAST_VALUE_RATE_OPTIONS, FAST_VALUE_RATE_OPTIONS[2]);
+        fastValueRateSetting.addValueObserver (value -> {
+            for (int i = 0; i < FAST_VALUE_RATE_OPTIONS.length; i++)
+            {
+                if (FAST_VALUE_RATE_OPTIONS[i].equals (value))
+                    this.fastValueRate = FAST_VALUE_RATES[i];
+            }
+            this.notifyObservers (FAST_VALUE_RATE);
+        });
+
+        final IEnumSetting bankStateSetting = settingsUI.getEnumSetting ("Track bank state", CATEGORY_SETUP, BANK_STATE_OPTIONS, BANK_STATE_OPTIONS[0]);
+        bankStateSetting.addValueObserver (value -> {
+            this.bankStateBlob = BANK_STATE_OPTIONS[1].equals (value);
+            this.notifyObservers (BANK_STATE_BLOB);
+        });
+
         ///////////////////////////
         // Accent
 
@@ -158,6 +245,34 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
     }
 
 
+    /**
+     * Get the additional clients to which the extension sends OSC messages.
+     *
+     * @return The host and port of each client, invalid entries are ignored
+     */
+    public List<Pair<String, Integer>> getClients ()
+    {
+        final List<Pair<String, Integer>> result = new ArrayList<> ();
+        for (final String client: this.clients.split ("[,;\\s]+"))
+        {
+            final int pos = client.lastIndexOf (':');
+            if (pos <= 0)
+                continue;
+            try
+            {
+                final int port = Integer.parseInt (client.substring (pos + 1));
+                if (port > 0 && port <= 65535)
+                    result.add (new Pair<> (client.substring (0, pos), Integer.valueOf (port)));
+            }
+            catch (final NumberFormatException ex)
+            {
+                // Ignore invalid entry
+            }
+        }
+        return result;
+    }
+
+
     /**
      * Get the selected value resolution.
      *
@@ -167,4 +282,40 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
     {
         return this.valueResolution;
     }
+
+
+    /**
+     * Get the maximum size of an UDP packet. Bundles are split to stay below this size.
+     *
+     * @return The maximum size in bytes
+     */
+    public int getMaxPacketSize ()
+    {
+        return this.maxPacketSize;
+    }
+
+
+    /**
+     * Get the maximum rate at which fast changing values (VU meters, position texts) are sent.
+     * Clients can request other rates with a subscription.
+     *
+     * @return The rate in Hz, 0 for no limit
+     */
+    public int getFastValueRate ()
+    {
+        return this.fastValueRate;
+    }
+
+
+    /**
+     * Get if the tracks of the bank page are sent as one binary blob (/track/bank/state) instead of
+     * individual messages. Since the messages are sent to all clients, the blob is only sent if
+     * there are no additional clients.
+     *
+     * @return True to send a blob
+     */
+    public boolean isBankStateBlob ()
+    {
+        return this.bankStateBlob;
+    }
 }
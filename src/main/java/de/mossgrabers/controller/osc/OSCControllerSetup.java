@@ -17,9 +17,15 @@ import de.mossgrabers.framework.daw.ITrackBank;
 import de.mossgrabers.framework.daw.ModelSetup;
 import de.mossgrabers.framework.daw.midi.IMidiAccess;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
+import de.mossgrabers.framework.osc.AbstractOpenSoundControlConfiguration;
 import de.mossgrabers.framework.osc.IOpenSoundControlServer;
+import de.mossgrabers.framework.osc.OpenSoundControlJournal;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.KeyManager;
+import de.mossgrabers.framework.utils.Pair;
+
+import java.io.File;
+import java.io.IOException;
 
 
 /**
@@ -29,8 +35,10 @@ import de.mossgrabers.framework.utils.KeyManager;
  */
 public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<OSCConfiguration>, OSCConfiguration>
 {
-    private OSCWriter  writer;
-    private KeyManager keyManager;
+    private OSCWriter               writer;
+    private OSCParser               parser;
+    private KeyManager              keyManager;
+    private OpenSoundControlJournal journal;
 
 
     /**
@@ -124,9 +132,33 @@ public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<
         // Send OSC messages
         final IOpenSoundControlServer oscServer = this.host.connectToOSCServer (this.configuration.getSendHost (), this.configuration.getSendPort ());
         this.writer = new OSCWriter (this.host, this.model, oscServer, this.keyManager, this.configuration);
+        for (final Pair<String, Integer> client: this.configuration.getClients ())
+            this.writer.addClient (this.host.connectToOSCServer (client.getKey (), client.getValue ().intValue ()));
+        this.writer.setMaxPacketSize (this.configuration.getMaxPacketSize ());
+        this.configuration.addSettingObserver (OSCConfiguration.MAX_PACKET_SIZE, () -> this.writer.setMaxPacketSize (this.configuration.getMaxPacketSize ()));
+        this.writer.setFastValueRate (this.configuration.getFastValueRate ());
+        this.configuration.addSettingObserver (OSCConfiguration.FAST_VALUE_RATE, () -> this.writer.setFastValueRate (this.configuration.getFastValueRate ()));
+        this.configuration.addSettingObserver (OSCConfiguration.BANK_STATE_BLOB, () -> {
+            if (this.configuration.isBankStateBlob () && this.writer.hasSeveralClients ())
+                this.host.error ("The track bank state is only sent as a blob if there are no additional clients.");
+        });
 
         // Receive OSC messages
-        this.host.createOSCServer (new OSCParser (this.host, surface, this.model, this.configuration, this.writer, input, this.keyManager), this.configuration.getReceivePort ());
+        this.parser = new OSCParser (this.host, surface, this.model, this.configuration, this.writer, input, this.keyManager);
+        this.host.createOSCServer (this.parser, this.configuration.getReceivePort ());
+
+        // Record all messages
+        this.updateJournal ();
+        this.configuration.addSettingObserver (AbstractOpenSoundControlConfiguration.JOURNAL_FILE, this::updateJournal);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void exit ()
+    {
+        this.closeJournal ();
+        super.exit ();
     }
 
 
@@ -145,4 +177,39 @@ public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<
     {
         // Not used
     }
+
+
+    /**
+     * Close the current journal and start a new one if a journal file is configured.
+     */
+    private void updateJournal ()
+    {
+        this.closeJournal ();
+
+        final String journalFile = this.configuration.getJournalFile ();
+        if (journalFile.isEmpty ())
+            return;
+        try
+        {
+            this.journal = new OpenSoundControlJournal (new File (journalFile), OpenSoundControlJournal.DEFAULT_CAPACITY);
+            this.writer.setJournal (this.journal);
+            this.parser.setJournal (this.journal);
+            this.host.println ("Recording OSC journal to " + journalFile);
+        }
+        catch (final IOException ex)
+        {
+            this.host.error ("Could not create OSC journal " + journalFile, ex);
+        }
+    }
+
+
+    private void closeJournal ()
+    {
+        if (this.journal == null)
+            return;
+        this.writer.setJournal (null);
+        this.parser.setJournal (null);
+        this.journal.close ();
+        this.journal = null;
+    }
 }
@@ -0,0 +1,357 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.osc.protocol;
+
+import de.mossgrabers.framework.daw.ISlotBank;
+import de.mossgrabers.framework.daw.ITrackBank;
+import de.mossgrabers.framework.daw.data.ISlot;
+import de.mossgrabers.framework.daw.data.ITrack;
+import de.mossgrabers.framework.utils.StringUtils;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+
+/**
+ * Packs the state of a track bank page into one binary blob. All numbers are unsigned and big
+ * endian. The layout of version 1 is:
+ *
+ * <pre>
+ * Header (4 bytes)
+ *   u8  version             1
+ *   u8  kind                0 = full snapshot, 1 = delta since the previous blob
+ *   u8  sequence            incremented with each blob, wraps at 256
+ *   u8  number of channels  the number of channel blocks which follow
+ *
+ * Channel block
+ *   u8  index               0-based index of the track on the bank page
+ *   u8  field mask          the fields which follow, in the order of the bits:
+ *     bit 0  STATE   u8  1 = exists, 2 = activated, 4 = selected, 8 = mute, 16 = solo,
+ *                        32 = record armed, 64 = is group
+ *     bit 1  NAME    u8 length, followed by the ASCII characters (max. 255)
+ *     bit 2  COLOR   u8 red, u8 green, u8 blue
+ *     bit 3  VOLUME  u16
+ *     bit 4  PAN     u16
+ *     bit 5  VU      u16
+ *     bit 6  SLOTS   u8 number of slots, followed by 4 bytes for each slot: u8 state (1 = has
+ *                    content, 2 = playing, 4 = recording, 8 = playing queued, 16 = recording
+ *                    queued, 32 = stop queued, 64 = selected), u8 red, u8 green, u8 blue
+ * </pre>
+ *
+ * A full snapshot contains all channels with all fields. A delta only contains the channels with
+ * changed fields and only the changed fields. A full snapshot for a newly connected client repeats
+ * the sequence number of the previous blob, therefore the next delta directly follows it. A client
+ * which misses a blob (e.g. a lost UDP packet, detected by the sequence number) should request a
+ * full snapshot by sending /refresh.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OSCBankSnapshotEncoder
+{
+    /** The version of the layout. */
+    public static final int  VERSION       = 1;
+    /** The kind of a full snapshot. */
+    public static final int  KIND_FULL     = 0;
+    /** The kind of a delta. */
+    public static final int  KIND_DELTA    = 1;
+
+    /** The field bit of the state flags. */
+    public static final int  FIELD_STATE   = 1;
+    /** The field bit of the name. */
+    public static final int  FIELD_NAME    = 2;
+    /** The field bit of the color. */
+    public static final int  FIELD_COLOR   = 4;
+    /** The field bit of the volume. */
+    public static final int  FIELD_VOLUME  = 8;
+    /** The field bit of the panorama. */
+    public static final int  FIELD_PAN     = 16;
+    /** The field bit of the VU meter. */
+    public static final int  FIELD_VU      = 32;
+    /** The field bit of the clip slots. */
+    public static final int  FIELD_SLOTS   = 64;
+
+    private static final int FIELD_ALL     = 127;
+    private static final int HEADER_SIZE   = 4;
+    private static final int MAX_NAME_SIZE = 255;
+
+    private ChannelState []  states        = new ChannelState [0];
+    private ByteBuffer       buffer        = ByteBuffer.allocate (0);
+    private int              sequence;
+
+
+    /**
+     * Encode the state of the tracks on the current page of the bank.
+     *
+     * @param trackBank The track bank
+     * @param full True to create a full snapshot, false to only encode the changes since the last
+     *            call
+     * @param isVuEnabled If false, the VU meters are encoded as 0
+     * @param updateVu If false, the VU meters keep their previous value, e.g. to limit their rate
+     * @return The blob or null if it is a delta and nothing has changed. Call advanceSequence after
+     *         the blob was sent
+     */
+    public byte [] encode (final ITrackBank trackBank, final boolean full, final boolean isVuEnabled, final boolean updateVu)
+    {
+        final int pageSize = trackBank.getPageSize ();
+        final int numSlots = pageSize == 0 ? 0 : trackBank.getItem (0).getSlotBank ().getPageSize ();
+        final boolean isFull = full || this.ensureCapacity (pageSize, numSlots);
+
+        final ByteBuffer buf = this.buffer;
+        buf.clear ();
+        buf.position (HEADER_SIZE);
+        int numChannels = 0;
+        for (int i = 0; i < pageSize; i++)
+        {
+            final ChannelState state = this.states[i];
+            final int mask = state.update (trackBank.getItem (i), isVuEnabled, updateVu);
+            if (isFull || mask != 0)
+            {
+                state.write (buf, i, isFull ? FIELD_ALL : mask);
+                numChannels++;
+            }
+        }
+
+        if (!isFull && numChannels == 0)
+            return null;
+
+        return this.createBlob (isFull ? KIND_FULL : KIND_DELTA, this.sequence, numChannels);
+    }
+
+
+    /**
+     * Increment the sequence number after a blob created with encode was sent. Blobs which were not
+     * sent (e.g. since nobody subscribed to them) do not create gaps in the sequence numbers.
+     */
+    public void advanceSequence ()
+    {
+        this.sequence = (this.sequence + 1) & 0xFF;
+    }
+
+
+    /**
+     * Encode a full snapshot of the state of the previous blob for newly connected clients. The
+     * state is not updated from the track bank and the sequence number is not incremented,
+     * therefore the other clients do not miss anything.
+     *
+     * @return The blob
+     */
+    public byte [] encodeSnapshot ()
+    {
+        final ByteBuffer buf = this.buffer;
+        buf.clear ();
+        buf.position (HEADER_SIZE);
+        for (int i = 0; i < this.states.length; i++)
+            this.states[i].write (buf, i, FIELD_ALL);
+        return this.createBlob (KIND_FULL, (this.sequence + 255) & 0xFF, this.states.length);
+    }
+
+
+    /**
+     * Write the header and copy the blob from the buffer.
+     *
+     * @param kind KIND_FULL or KIND_DELTA
+     * @param seq The sequence number
+     * @param numChannels The number of channel blocks
+     * @return The blob
+     */
+    private byte [] createBlob (final int kind, final int seq, final int numChannels)
+    {
+        final ByteBuffer buf = this.buffer;
+        buf.put (0, (byte) VERSION);
+        buf.put (1, (byte) kind);
+        buf.put (2, (byte) seq);
+        buf.put (3, (byte) numChannels);
+        return Arrays.copyOf (buf.array (), buf.position ());
+    }
+
+
+    /**
+     * Make sure that the states and the buffer fit the size of the bank page.
+     *
+     * @param pageSize The number of tracks on a page
+     * @param numSlots The number of clip slots of a track
+     * @return True if the layout has changed, which requires a full snapshot
+     */
+    private boolean ensureCapacity (final int pageSize, final int numSlots)
+    {
+        if (this.states.length == pageSize && (pageSize == 0 || this.states[0].slots.length == numSlots))
+            return false;
+
+        this.states = new ChannelState [pageSize];
+        for (int i = 0; i < pageSize; i++)
+            this.states[i] = new ChannelState (numSlots);
+        // Index, mask, state, name, color, volume, pan, VU and slots
+        final int channelSize = 2 + 1 + 1 + MAX_NAME_SIZE + 3 + 2 + 2 + 2 + 1 + 4 * numSlots;
+        this.buffer = ByteBuffer.allocate (HEADER_SIZE + pageSize * channelSize);
+        return true;
+    }
+
+
+    private static int toRGB (final double [] color)
+    {
+        final int r = (int) Math.round (color[0] * 255.0);
+        final int g = (int) Math.round (color[1] * 255.0);
+        final int b = (int) Math.round (color[2] * 255.0);
+        return r << 16 | g << 8 | b;
+    }
+
+
+    private static void putRGB (final ByteBuffer buf, final int rgb)
+    {
+        buf.put ((byte) (rgb >> 16));
+        buf.put ((byte) (rgb >> 8));
+        buf.put ((byte) rgb);
+    }
+
+
+    private static int flag (final boolean isSet, final int bit)
+    {
+        return isSet ? bit : 0;
+    }
+
+
+    /** The last encoded state of a channel. */
+    private static final class ChannelState
+    {
+        private int          state;
+        private String       name      = "";
+        private byte []      nameBytes = new byte [0];
+        private int          color;
+        private int          volume;
+        private int          pan;
+        private int          vu;
+        private final int [] slots;
+        private final int [] slotColors;
+
+
+        /**
+         * Constructor.
+         *
+         * @param numSlots The number of clip slots
+         */
+        ChannelState (final int numSlots)
+        {
+            this.slots = new int [numSlots];
+            this.slotColors = new int [numSlots];
+        }
+
+
+        /**
+         * Update the state from the track.
+         *
+         * @param track The track
+         * @param isVuEnabled If false, the VU meter is set to 0
+         * @param updateVu If false, the VU meter is not updated
+         * @return The mask of the fields which have changed
+         */
+        int update (final ITrack track, final boolean isVuEnabled, final boolean updateVu)
+        {
+            int mask = 0;
+
+            final int newState = flag (track.doesExist (), 1) | flag (track.isActivated (), 2) | flag (track.isSelected (), 4) | flag (track.isMute (), 8) | flag (track.isSolo (), 16) | flag (track.isRecArm (), 32) | flag (track.isGroup (), 64);
+            if (newState != this.state)
+            {
+                this.state = newState;
+                mask |= FIELD_STATE;
+            }
+
+            final String trackName = track.getName ();
+            final String newName = trackName == null ? "" : trackName;
+            if (!this.name.equals (newName))
+            {
+                this.name = newName;
+                final byte [] bytes = StringUtils.fixASCII (this.name).getBytes (StandardCharsets.US_ASCII);
+                this.nameBytes = bytes.length > MAX_NAME_SIZE ? Arrays.copyOf (bytes, MAX_NAME_SIZE) : bytes;
+                mask |= FIELD_NAME;
+            }
+
+            final int newColor = toRGB (track.getColor ());
+            if (newColor != this.color)
+            {
+                this.color = newColor;
+                mask |= FIELD_COLOR;
+            }
+
+            final int newVolume = track.getVolume ();
+            if (newVolume != this.volume)
+            {
+                this.volume = newVolume;
+                mask |= FIELD_VOLUME;
+            }
+
+            final int newPan = track.getPan ();
+            if (newPan != this.pan)
+            {
+                this.pan = newPan;
+                mask |= FIELD_PAN;
+            }
+
+            if (updateVu)
+            {
+                final int newVu = isVuEnabled ? track.getVu () : 0;
+                if (newVu != this.vu)
+                {
+                    this.vu = newVu;
+                    mask |= FIELD_VU;
+                }
+            }
+
+            final ISlotBank slotBank = track.getSlotBank ();
+            for (int i = 0; i < this.slots.length; i++)
+            {
+                final ISlot slot = slotBank.getItem (i);
+                final int slotState = flag (slot.hasContent (), 1) | flag (slot.isPlaying (), 2) | flag (slot.isRecording (), 4) | flag (slot.isPlayingQueued (), 8) | flag (slot.isRecordingQueued (), 16) | flag (slot.isStopQueued (), 32) | flag (slot.isSelected (), 64);
+                final int slotColor = toRGB (slot.getColor ());
+                if (slotState != this.slots[i] || slotColor != this.slotColors[i])
+                {
+                    this.slots[i] = slotState;
+                    this.slotColors[i] = slotColor;
+                    mask |= FIELD_SLOTS;
+                }
+            }
+
+            return mask;
+        }
+
+
+        /**
+         * Write the channel block.
+         *
+         * @param buf The buffer to write to
+         * @param index The index of the track on the bank page
+         * @param mask The fields to write
+         */
+        void write (final ByteBuffer buf, final int index, final int mask)
+        {
+            buf.put ((byte) index);
+            buf.put ((byte) mask);
+            if ((mask & FIELD_STATE) > 0)
+                buf.put ((byte) this.state);
+            if ((mask & FIELD_NAME) > 0)
+            {
+                buf.put ((byte) this.nameBytes.length);
+                buf.put (this.nameBytes);
+            }
+            if ((mask & FIELD_COLOR) > 0)
+                putRGB (buf, this.color);
+            if ((mask & FIELD_VOLUME) > 0)
+                buf.putShort ((short) this.volume);
+            if ((mask & FIELD_PAN) > 0)
+                buf.putShort ((short) this.pan);
+            if ((mask & FIELD_VU) > 0)
+                buf.putShort ((short) this.vu);
+            if ((mask & FIELD_SLOTS) > 0)
+            {
+                buf.put ((byte) this.slots.length);
+                for (int i = 0; i < this.slots.length; i++)
+                {
+                    buf.put ((byte) this.slots[i]);
+                    putRGB (buf, this.slotColors[i]);
+                }
+            }
+        }
+    }
+}
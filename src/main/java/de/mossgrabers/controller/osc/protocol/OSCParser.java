@@ -32,6 +32,8 @@ import de.mossgrabers.framework.osc.AbstractOpenSoundControlParser;
 import de.mossgrabers.framework.osc.IOpenSoundControlConfiguration;
 import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
+import de.mossgrabers.framework.osc.OpenSoundControlAddressTrie;
+import de.mossgrabers.framework.osc.OpenSoundControlSubscriptions;
 import de.mossgrabers.framework.utils.KeyManager;
 
 import java.util.Collections;
@@ -47,16 +49,17 @@ import java.util.regex.Pattern;
  */
 public class OSCParser extends AbstractOpenSoundControlParser
 {
-    private static final String     PART_INDICATE     = "indicate";
-    private static final String     PART_VOLUME       = "volume";
-    private static final String     PART_RESET        = "reset";
-    private static final String     PART_TOUCH        = "touched";
+    private static final String               PART_INDICATE     = "indicate";
+    private static final String               PART_VOLUME       = "volume";
+    private static final String               PART_RESET        = "reset";
+    private static final String               PART_TOUCH        = "touched";
 
-    private static final Pattern    RGB_COLOR_PATTERN = Pattern.compile ("(rgb|RGB)\\((\\d+(\\.\\d+)?),(\\d+(\\.\\d+)?),(\\d+(\\.\\d+)?)\\)");
+    private static final Pattern              RGB_COLOR_PATTERN = Pattern.compile ("(rgb|RGB)\\((\\d+(\\.\\d+)?),(\\d+(\\.\\d+)?),(\\d+(\\.\\d+)?)\\)");
 
-    private final OSCControlSurface surface;
-    private final Display           display;
-    private final KeyManager        keyManager;
+    private final OSCControlSurface           surface;
+    private final Display                     display;
+    private final KeyManager                  keyManager;
+    private final OpenSoundControlAddressTrie routes            = new OpenSoundControlAddressTrie ();
 
 
     /**
@@ -80,6 +83,51 @@ public class OSCParser extends AbstractOpenSoundControlParser
 
         this.model.getCurrentTrackBank ().setIndication (true);
         this.surface.setKeyTranslationTable (model.getScales ().getNoteMatrix ());
+
+        this.addRoutes ();
+    }
+
+
+    /**
+     * Add precompiled routes for the addresses which are sent at a high rate (faders, knobs). They
+     * are handled without splitting the address. All other addresses are parsed below.
+     */
+    private void addRoutes ()
+    {
+        final String track = "/track/" + OpenSoundControlAddressTrie.NUMBER + "/";
+        this.routes.addRoute (track + PART_VOLUME, (numbers, value) -> this.getTrack (numbers[0]).setVolume (toInteger (value)));
+        this.routes.addRoute (track + PART_VOLUME + "/" + PART_TOUCH, (numbers, value) -> this.getTrack (numbers[0]).touchVolume (toInteger (value) > 0));
+        this.routes.addRoute (track + "pan", (numbers, value) -> this.getTrack (numbers[0]).setPan (toInteger (value)));
+        this.routes.addRoute (track + "pan/" + PART_TOUCH, (numbers, value) -> this.getTrack (numbers[0]).touchPan (toInteger (value) > 0));
+
+        final String send = track + "send/" + OpenSoundControlAddressTrie.NUMBER + "/" + PART_VOLUME;
+        this.routes.addRoute (send, (numbers, value) -> {
+            final ISend s = this.getTrack (numbers[0]).getSendBank ().getItem (numbers[1] - 1);
+            if (s != null)
+                s.setValue (toInteger (value));
+        });
+        this.routes.addRoute (send + "/" + PART_TOUCH, (numbers, value) -> {
+            final ISend s = this.getTrack (numbers[0]).getSendBank ().getItem (numbers[1] - 1);
+            if (s != null)
+                s.touchValue (toInteger (value) > 0);
+        });
+
+        this.routes.addRoute ("/master/" + PART_VOLUME, (numbers, value) -> this.masterTrack.setVolume (toInteger (value)));
+        this.routes.addRoute ("/master/" + PART_VOLUME + "/" + PART_TOUCH, (numbers, value) -> this.masterTrack.touchVolume (toInteger (value) > 0));
+        this.routes.addRoute ("/master/pan", (numbers, value) -> this.masterTrack.setPan (toInteger (value)));
+        this.routes.addRoute ("/master/pan/" + PART_TOUCH, (numbers, value) -> this.masterTrack.touchPan (toInteger (value) > 0));
+
+        final String param = "/param/" + OpenSoundControlAddressTrie.NUMBER + "/";
+        this.routes.addRoute ("/device" + param + "value", (numbers, value) -> {
+            if (value != null)
+                this.model.getCursorDevice ().getParameterBank ().getItem (numbers[0] - 1).setValue (toInteger (value));
+        });
+        this.routes.addRoute ("/device" + param + PART_TOUCH, (numbers, value) -> this.model.getCursorDevice ().getParameterBank ().getItem (numbers[0] - 1).touchValue (toInteger (value) > 0));
+        this.routes.addRoute ("/primary" + param + "value", (numbers, value) -> {
+            if (value != null)
+                this.model.getInstrumentDevice ().getParameterBank ().getItem (numbers[0] - 1).setValue (toInteger (value));
+        });
+        this.routes.addRoute ("/primary" + param + PART_TOUCH, (numbers, value) -> this.model.getInstrumentDevice ().getParameterBank ().getItem (numbers[0] - 1).touchValue (toInteger (value) > 0));
     }
 
 
@@ -89,12 +137,15 @@ public class OSCParser extends AbstractOpenSoundControlParser
     {
         this.logMessage (message);
 
+        final Object [] values = message.getValues ();
+        final Object value = values == null || values.length == 0 ? null : values[0];
+        if (this.routes.dispatch (message.getAddress (), value))
+            return;
+
         final LinkedList<String> oscParts = parseAddress (message);
         if (oscParts.isEmpty ())
             return;
 
-        final Object [] values = message.getValues ();
-        final Object value = values == null || values.length == 0 ? null : values[0];
         final double numValue = !(value instanceof Number) ? -1 : ((Number) value).doubleValue ();
 
         final String command = oscParts.removeFirst ();
@@ -105,6 +156,9 @@ public class OSCParser extends AbstractOpenSoundControlParser
         if (this.parseGlobalCommands (command))
             return;
 
+        if (this.parseSubscriptionCommands (command, values))
+            return;
+
         if (this.parsePanelCommands (command, oscParts, value == null ? null : value.toString ()))
             return;
 
@@ -499,6 +553,41 @@ public class OSCParser extends AbstractOpenSoundControlParser
     }
 
 
+    private boolean parseSubscriptionCommands (final String command, final Object [] values)
+    {
+        if (!"subscribe".equals (command) && !"unsubscribe".equals (command))
+            return false;
+
+        // The subscriptions would change the messages of all clients
+        if (this.writer.hasSeveralClients ())
+        {
+            this.host.error ("Subscriptions are only supported if there are no additional clients.");
+            return true;
+        }
+
+        final OpenSoundControlSubscriptions subscriptions = this.writer.getSubscriptions ();
+        switch (command)
+        {
+            case "subscribe":
+                if (values == null || values.length == 0)
+                    return true;
+                subscriptions.subscribe (values[0].toString (), values.length > 1 ? OpenSoundControlSubscriptions.parseRate (values[1]) : 0);
+                break;
+
+            case "unsubscribe":
+                if (values == null || values.length == 0)
+                    subscriptions.clear ();
+                else
+                    subscriptions.unsubscribe (values[0].toString ());
+                break;
+        }
+
+        // Send the current state of the new subscriptions
+        this.writer.flush (true);
+        return true;
+    }
+
+
     private boolean parsePanelCommands (final String command, final LinkedList<String> oscParts, final String value)
     {
         switch (command)
@@ -1684,6 +1773,18 @@ public class OSCParser extends AbstractOpenSoundControlParser
     }
 
 
+    private ITrack getTrack (final int trackNo)
+    {
+        return this.model.getCurrentTrackBank ().getItem (trackNo - 1);
+    }
+
+
+    private static int toInteger (final Object value)
+    {
+        return value instanceof Number ? ((Number) value).intValue () : -1;
+    }
+
+
     private static LinkedList<String> parseAddress (final IOpenSoundControlMessage message)
     {
         final LinkedList<String> oscParts = new LinkedList<> ();
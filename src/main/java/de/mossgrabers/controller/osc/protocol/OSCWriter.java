@@ -31,7 +31,6 @@ import de.mossgrabers.framework.daw.data.IChannel;
 import de.mossgrabers.framework.daw.data.IMarker;
 import de.mossgrabers.framework.daw.data.IParameter;
 import de.mossgrabers.framework.daw.data.IScene;
-import de.mossgrabers.framework.daw.data.ISend;
 import de.mossgrabers.framework.daw.data.ISlot;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.daw.resource.ChannelType;
@@ -48,7 +47,50 @@ import de.mossgrabers.framework.utils.KeyManager;
  */
 public class OSCWriter extends AbstractOpenSoundControlWriter
 {
-    private KeyManager keyManager;
+    /** The addresses of values which change very fast. */
+    private static final String [] FAST_VALUE_PATTERNS =
+    {
+        "/track/*/vu",
+        "/master/vu",
+        "/device/layer/*/vu",
+        "/device/drumpad/*/vu",
+        "/time/str",
+        "/beat/str",
+        // Not sent as a message, limits the VU meters in the bank state blob
+        "/track/bank/state/vu"
+    };
+
+    private static final String [] CHANNEL_TYPE_NAMES  = new String [ChannelType.values ().length];
+
+    static
+    {
+        for (final ChannelType type: ChannelType.values ())
+            CHANNEL_TYPE_NAMES[type.ordinal ()] = type.name ().toLowerCase ();
+    }
+
+    private KeyManager                   keyManager;
+    private final OSCBankSnapshotEncoder bankSnapshotEncoder = new OSCBankSnapshotEncoder ();
+    private final int                    bankStateAddress;
+    private final int                    bankStateVuAddress;
+    private boolean                      wasBankStateBlob;
+
+    private MarkerAddresses []           markerAddresses     = new MarkerAddresses [0];
+    private TrackAddresses []            trackAddresses      = new TrackAddresses [0];
+    private final TrackAddresses         masterAddresses;
+    private final TrackAddresses         selectedAddresses;
+    private SceneAddresses []            sceneAddresses      = new SceneAddresses [0];
+    private final DeviceAddresses        deviceAddresses;
+    private final DeviceAddresses        primaryAddresses;
+    private TrackAddresses []            drumPadAddresses    = new TrackAddresses [0];
+    private TrackAddresses []            layerAddresses      = new TrackAddresses [0];
+    private final BrowserAddresses       browserAddresses;
+    private final int []                 noteColorAddresses  = new int [127];
+
+    private String                       panelLayout;
+    private String                       panelLayoutLowerCase;
+    private int                          numerator           = -1;
+    private int                          denominator         = -1;
+    private String                       timeSignature;
 
 
     /**
@@ -64,6 +106,29 @@ public class OSCWriter extends AbstractOpenSoundControlWriter
     {
         super (host, model, oscServer, configuration);
         this.keyManager = keyManager;
+
+        this.masterAddresses = new TrackAddresses ("/master/");
+        this.selectedAddresses = new TrackAddresses ("/track/selected/");
+        this.deviceAddresses = new DeviceAddresses ("/device/");
+        this.primaryAddresses = new DeviceAddresses ("/primary/");
+        this.browserAddresses = new BrowserAddresses ("/browser/");
+        this.bankStateAddress = this.getAddressId ("/track/bank/state");
+        this.bankStateVuAddress = this.getAddressId ("/track/bank/state/vu");
+        for (int i = 0; i < this.noteColorAddresses.length; i++)
+            this.noteColorAddresses[i] = this.getAddressId ("/vkb_midi/note/" + i + "/color");
+    }
+
+
+    /**
+     * Set the maximum rate at which fast changing values (VU meters, position texts) are sent to
+     * clients, which did not request a specific rate.
+     *
+     * @param rate The rate in Hz, 0 for no limit
+     */
+    public void setFastValueRate (final double rate)
+    {
+        for (final String pattern: FAST_VALUE_PATTERNS)
+            this.subscriptions.setRateLimit (pattern, rate);
     }
 
 
@@ -74,6 +139,22 @@ public class OSCWriter extends AbstractOpenSoundControlWriter
         if (!this.isConnected ())
             return;
 
+        this.flushValues (dump);
+        this.flush ();
+
+        // Newly added clients need the full state, the state of the other clients is not changed
+        if (this.oscServer.hasNewClients ())
+            this.flushNewClients ( () -> this.flushValues (true));
+    }
+
+
+    /**
+     * Collect the messages of all (changed) values.
+     *
+     * @param dump Forces a flush if true otherwise only changed values are flushed
+     */
+    private void flushValues (final boolean dump)
+    {
         //
         // Transport
         //
@@ -98,7 +179,7 @@ public class OSCWriter extends AbstractOpenSoundControlWriter
         this.sendOSC ("/autowrite/launcher", trans.isWritingClipLauncherAutomation (), dump);
         this.sendOSC ("/automationWriteMode", trans.getAutomationWriteMode (), dump);
         this.sendOSC ("/time/str", trans.getPositionText (), dump);
-        this.sendOSC ("/time/signature", trans.getNumerator () + " / " + trans.getDenominator (), dump);
+        this.sendOSC ("/time/signature", this.getTimeSignature (trans.getNumerator (), trans.getDenominator ()), dump);
         this.sendOSC ("/beat/str", trans.getBeatText (), dump);
 
         //
@@ -106,7 +187,7 @@ public class OSCWriter extends AbstractOpenSoundControlWriter
         //
 
         final IApplication app = this.model.getApplication ();
-        this.sendOSC ("/layout", app.getPanelLayout ().toLowerCase (), dump);
+        this.sendOSC ("/layout", this.getPanelLayout (app.getPanelLayout ()), dump);
 
         final IArranger arrange = this.model.getArranger ();
         this.sendOSC ("/arranger/cueMarkerVisibility", arrange.areCueMarkersVisible (), dump);
@@ -129,8 +210,15 @@ public class OSCWriter extends AbstractOpenSoundControlWriter
         // Markers
         //
         final IMarkerBank markerBank = this.model.getMarkerBank ();
-        for (int i = 0; i < markerBank.getPageSize (); i++)
-            this.flushMarker ("/marker/" + (i + 1) + "/", markerBank.getItem (i), dump);
+        final int markerPageSize = markerBank.getPageSize ();
+        if (this.markerAddresses.length != markerPageSize)
+        {
+            this.markerAddresses = new MarkerAddresses [markerPageSize];
+            for (int i = 0; i < markerPageSize; i++)
+                this.markerAddresses[i] = new MarkerAddresses ("/marker/" + (i + 1) + "/");
+        }
+        for (int i = 0; i < markerPageSize; i++)
+            this.flushMarker (this.markerAddresses[i], markerBank.getItem (i), dump);
 
         //
         // Project
@@ -144,11 +232,38 @@ public class OSCWriter extends AbstractOpenSoundControlWriter
         //
 
         final ITrackBank trackBank = this.model.getCurrentTrackBank ();
-        for (int i = 0; i < trackBank.getPageSize (); i++)
-            this.flushTrack ("/track/" + (i + 1) + "/", trackBank.getItem (i), dump);
-        this.flushTrack ("/master/", this.model.getMasterTrack (), dump);
+        // Not all clients might be able to decode the blob
+        if (((OSCConfiguration) this.configuration).isBankStateBlob () && !this.hasSeveralClients ())
+        {
+            // The encoder state is outdated if messages were sent in between
+            final byte [] blob;
+            if (this.isNewClientDump ())
+                blob = this.bankSnapshotEncoder.encodeSnapshot ();
+            else
+            {
+                final boolean isFull = dump || !this.wasBankStateBlob;
+                final boolean isVuEnabled = ((OSCConfiguration) this.configuration).isEnableVUMeters ();
+                // Like the VU messages, the VU meters are rate limited
+                final boolean updateVu = isFull || !isVuEnabled || this.isRateLimitDue (this.bankStateVuAddress);
+                blob = this.bankSnapshotEncoder.encode (trackBank, isFull, isVuEnabled, updateVu);
+            }
+            if (blob != null && this.sendOSCBlob (this.bankStateAddress, blob) && !this.isNewClientDump ())
+                this.bankSnapshotEncoder.advanceSequence ();
+            this.wasBankStateBlob = true;
+        }
+        else
+        {
+            // The message cache is outdated if blobs were sent in between
+            final boolean dumpTracks = dump || this.wasBankStateBlob;
+            final int trackPageSize = trackBank.getPageSize ();
+            this.trackAddresses = createTrackAddresses (this.trackAddresses, "/track/", trackPageSize);
+            for (int i = 0; i < trackPageSize; i++)
+                this.flushTrack (this.trackAddresses[i], trackBank.getItem (i), dumpTracks);
+            this.wasBankStateBlob = false;
+        }
+        this.flushTrack (this.masterAddresses, this.model.getMasterTrack (), dump);
         final ITrack selectedTrack = trackBank.getSelectedItem ();
-        this.flushTrack ("/track/selected/", selectedTrack == null ? EmptyTrackData.INSTANCE : selectedTrack, dump);
+        this.flushTrack (this.selectedAddresses, selectedTrack == null ? EmptyTrackData.INSTANCE : selectedTrack, dump);
         this.sendOSC ("/track/toggleBank", this.model.isEffectTrackBankActive () ? 1 : 0, dump);
 
         //
@@ -156,287 +271,356 @@ public class OSCWriter extends AbstractOpenSoundControlWriter
         //
 
         final ISceneBank sceneBank = this.model.getSceneBank ();
-        for (int i = 0; i < sceneBank.getPageSize (); i++)
-            this.flushScene ("/scene/" + (i + 1) + "/", sceneBank.getItem (i), dump);
+        final int scenePageSize = sceneBank.getPageSize ();
+        if (this.sceneAddresses.length != scenePageSize)
+        {
+            this.sceneAddresses = new SceneAddresses [scenePageSize];
+            for (int i = 0; i < scenePageSize; i++)
+                this.sceneAddresses[i] = new SceneAddresses ("/scene/" + (i + 1) + "/");
+        }
+        for (int i = 0; i < scenePageSize; i++)
+            this.flushScene (this.sceneAddresses[i], sceneBank.getItem (i), dump);
 
         //
         // Device / Primary Device
         //
         final ICursorDevice cd = this.model.getCursorDevice ();
-        this.flushDevice ("/device/", cd, dump);
+        this.flushDevice (this.deviceAddresses, cd, dump);
         if (cd.hasDrumPads ())
         {
             final IDrumPadBank drumPadBank = cd.getDrumPadBank ();
-            for (int i = 0; i < drumPadBank.getPageSize (); i++)
-                this.flushDeviceLayers ("/device/drumpad/" + (i + 1) + "/", drumPadBank.getItem (i), dump);
+            final int drumPadPageSize = drumPadBank.getPageSize ();
+            this.drumPadAddresses = createTrackAddresses (this.drumPadAddresses, "/device/drumpad/", drumPadPageSize);
+            for (int i = 0; i < drumPadPageSize; i++)
+                this.flushDeviceLayers (this.drumPadAddresses[i], drumPadBank.getItem (i), dump);
         }
         final ILayerBank layerBank = cd.getLayerBank ();
-        for (int i = 0; i < layerBank.getPageSize (); i++)
-            this.flushDeviceLayers ("/device/layer/" + (i + 1) + "/", layerBank.getItem (i), dump);
-        this.flushDevice ("/primary/", this.model.getInstrumentDevice (), dump);
+        final int layerPageSize = layerBank.getPageSize ();
+        this.layerAddresses = createTrackAddresses (this.layerAddresses, "/device/layer/", layerPageSize);
+        for (int i = 0; i < layerPageSize; i++)
+            this.flushDeviceLayers (this.layerAddresses[i], layerBank.getItem (i), dump);
+        this.flushDevice (this.primaryAddresses, this.model.getInstrumentDevice (), dump);
 
         //
         // Browser
         //
 
-        this.flushBrowser ("/browser/", this.model.getBrowser (), dump);
+        this.flushBrowser (this.browserAddresses, this.model.getBrowser (), dump);
 
         //
         // Notes
         //
 
-        this.flushNotes ("/vkb_midi/note/", dump);
-
-        this.flush ();
+        this.flushNotes (dump);
     }
 
 
     /**
      * Flush all data of a marker.
      *
-     * @param markerAddress The start address for the marker
+     * @param addresses The addresses for the marker
      * @param marker The marker
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    private void flushMarker (final String markerAddress, final IMarker marker, final boolean dump)
+    private void flushMarker (final MarkerAddresses addresses, final IMarker marker, final boolean dump)
     {
-        this.sendOSC (markerAddress + "exists", marker.doesExist (), dump);
-        this.sendOSC (markerAddress + "name", marker.getName (), dump);
+        this.sendOSC (addresses.exists, marker.doesExist (), dump);
+        this.sendOSC (addresses.name, marker.getName (), dump);
         final double [] color = marker.getColor ();
-        this.sendOSCColor (markerAddress + "color", color[0], color[1], color[2], dump);
+        this.sendOSCColor (addresses.color, color[0], color[1], color[2], dump);
     }
 
 
     /**
      * Flush all data of a track.
      *
-     * @param trackAddress The start address for the track
+     * @param addresses The addresses for the track
      * @param track The track
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    private void flushTrack (final String trackAddress, final ITrack track, final boolean dump)
+    private void flushTrack (final TrackAddresses addresses, final ITrack track, final boolean dump)
     {
-        this.sendOSC (trackAddress + "exists", track.doesExist (), dump);
+        this.sendOSC (addresses.exists, track.doesExist (), dump);
         final ChannelType type = track.getType ();
-        this.sendOSC (trackAddress + "type", type == null ? null : type.name ().toLowerCase (), dump);
-        this.sendOSC (trackAddress + "activated", track.isActivated (), dump);
-        this.sendOSC (trackAddress + "selected", track.isSelected (), dump);
-        this.sendOSC (trackAddress + "isGroup", track.isGroup (), dump);
-        this.sendOSC (trackAddress + "name", track.getName (), dump);
-        this.sendOSC (trackAddress + "volumeStr", track.getVolumeStr (), dump);
-        this.sendOSC (trackAddress + "volume", track.getVolume (), dump);
-        this.sendOSC (trackAddress + "panStr", track.getPanStr (), dump);
-        this.sendOSC (trackAddress + "pan", track.getPan (), dump);
-        this.sendOSC (trackAddress + "mute", track.isMute (), dump);
-        this.sendOSC (trackAddress + "solo", track.isSolo (), dump);
-        this.sendOSC (trackAddress + "recarm", track.isRecArm (), dump);
-        this.sendOSC (trackAddress + "monitor", track.isMonitor (), dump);
-        this.sendOSC (trackAddress + "autoMonitor", track.isAutoMonitor (), dump);
-        this.sendOSC (trackAddress + "canHoldNotes", track.canHoldNotes (), dump);
-        this.sendOSC (trackAddress + "canHoldAudioData", track.canHoldAudioData (), dump);
-        this.sendOSC (trackAddress + "position", track.getPosition (), dump);
+        this.sendOSC (addresses.type, type == null ? null : CHANNEL_TYPE_NAMES[type.ordinal ()], dump);
+        this.sendOSC (addresses.activated, track.isActivated (), dump);
+        this.sendOSC (addresses.selected, track.isSelected (), dump);
+        this.sendOSC (addresses.isGroup, track.isGroup (), dump);
+        this.sendOSC (addresses.name, track.getName (), dump);
+        this.sendOSC (addresses.volumeStr, track.getVolumeStr (), dump);
+        this.sendOSC (addresses.volume, track.getVolume (), dump);
+        this.sendOSC (addresses.panStr, track.getPanStr (), dump);
+        this.sendOSC (addresses.pan, track.getPan (), dump);
+        this.sendOSC (addresses.mute, track.isMute (), dump);
+        this.sendOSC (addresses.solo, track.isSolo (), dump);
+        this.sendOSC (addresses.recarm, track.isRecArm (), dump);
+        this.sendOSC (addresses.monitor, track.isMonitor (), dump);
+        this.sendOSC (addresses.autoMonitor, track.isAutoMonitor (), dump);
+        this.sendOSC (addresses.canHoldNotes, track.canHoldNotes (), dump);
+        this.sendOSC (addresses.canHoldAudioData, track.canHoldAudioData (), dump);
+        this.sendOSC (addresses.position, track.getPosition (), dump);
 
         final ISendBank sendBank = track.getSendBank ();
-        for (int i = 0; i < sendBank.getPageSize (); i++)
-            this.flushParameterData (trackAddress + "send/" + (i + 1) + "/", sendBank.getItem (i), dump);
+        final ParameterAddresses [] sends = addresses.getSends (sendBank.getPageSize ());
+        for (int i = 0; i < sends.length; i++)
+            this.flushParameterData (sends[i], sendBank.getItem (i), dump);
 
         final ISlotBank slotBank = track.getSlotBank ();
-        for (int i = 0; i < slotBank.getPageSize (); i++)
+        final ClipAddresses [] clips = addresses.getClips (slotBank.getPageSize ());
+        for (int i = 0; i < clips.length; i++)
         {
             final ISlot slot = slotBank.getItem (i);
-            final String clipAddress = trackAddress + "clip/" + (i + 1) + "/";
-            this.sendOSC (clipAddress + "name", slot.getName (), dump);
-            this.sendOSC (clipAddress + "isSelected", slot.isSelected (), dump);
-            this.sendOSC (clipAddress + "hasContent", slot.hasContent (), dump);
-            this.sendOSC (clipAddress + "isPlaying", slot.isPlaying (), dump);
-            this.sendOSC (clipAddress + "isRecording", slot.isRecording (), dump);
-            this.sendOSC (clipAddress + "isPlayingQueued", slot.isPlayingQueued (), dump);
-            this.sendOSC (clipAddress + "isRecordingQueued", slot.isRecordingQueued (), dump);
-            this.sendOSC (clipAddress + "isStopQueued", slot.isStopQueued (), dump);
+            final ClipAddresses clipAddresses = clips[i];
+            this.sendOSC (clipAddresses.name, slot.getName (), dump);
+            this.sendOSC (clipAddresses.isSelected, slot.isSelected (), dump);
+            this.sendOSC (clipAddresses.hasContent, slot.hasContent (), dump);
+            this.sendOSC (clipAddresses.isPlaying, slot.isPlaying (), dump);
+            this.sendOSC (clipAddresses.isRecording, slot.isRecording (), dump);
+            this.sendOSC (clipAddresses.isPlayingQueued, slot.isPlayingQueued (), dump);
+            this.sendOSC (clipAddresses.isRecordingQueued, slot.isRecordingQueued (), dump);
+            this.sendOSC (clipAddresses.isStopQueued, slot.isStopQueued (), dump);
 
             final double [] color = slot.getColor ();
-            this.sendOSCColor (clipAddress + "color", color[0], color[1], color[2], dump);
+            this.sendOSCColor (clipAddresses.color, color[0], color[1], color[2], dump);
         }
 
         final double [] color = track.getColor ();
-        this.sendOSCColor (trackAddress + "color", color[0], color[1], color[2], dump);
+        this.sendOSCColor (addresses.color, color[0], color[1], color[2], dump);
 
         final String crossfadeMode = track.getCrossfadeMode ();
-        this.sendOSC (trackAddress + "crossfadeMode/A", "A".equals (crossfadeMode), dump);
-        this.sendOSC (trackAddress + "crossfadeMode/B", "B".equals (crossfadeMode), dump);
-        this.sendOSC (trackAddress + "crossfadeMode/AB", "AB".equals (crossfadeMode), dump);
+        this.sendOSC (addresses.crossfadeModeA, "A".equals (crossfadeMode), dump);
+        this.sendOSC (addresses.crossfadeModeB, "B".equals (crossfadeMode), dump);
+        this.sendOSC (addresses.crossfadeModeAB, "AB".equals (crossfadeMode), dump);
 
-        this.sendOSC (trackAddress + "vu", ((OSCConfiguration) this.configuration).isEnableVUMeters () ? track.getVu () : 0, dump);
+        this.sendOSC (addresses.vu, ((OSCConfiguration) this.configuration).isEnableVUMeters () ? track.getVu () : 0, dump);
     }
 
 
     /**
      * Flush all data of a scene.
      *
-     * @param sceneAddress The start address for the scene
+     * @param addresses The addresses for the scene
      * @param scene The scene
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    private void flushScene (final String sceneAddress, final IScene scene, final boolean dump)
+    private void flushScene (final SceneAddresses addresses, final IScene scene, final boolean dump)
     {
-        this.sendOSC (sceneAddress + "exists", scene.doesExist (), dump);
-        this.sendOSC (sceneAddress + "name", scene.getName (), dump);
-        this.sendOSC (sceneAddress + "selected", scene.isSelected (), dump);
+        this.sendOSC (addresses.exists, scene.doesExist (), dump);
+        this.sendOSC (addresses.name, scene.getName (), dump);
+        this.sendOSC (addresses.selected, scene.isSelected (), dump);
     }
 
 
     /**
      * Flush all data of a device.
      *
-     * @param deviceAddress The start address for the device
+     * @param addresses The addresses for the device
      * @param device The device
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    private void flushDevice (final String deviceAddress, final ICursorDevice device, final boolean dump)
+    private void flushDevice (final DeviceAddresses addresses, final ICursorDevice device, final boolean dump)
     {
-        this.sendOSC (deviceAddress + "exists", device.doesExist (), dump);
-        this.sendOSC (deviceAddress + "name", device.getName (), dump);
-        this.sendOSC (deviceAddress + "bypass", !device.isEnabled (), dump);
-        this.sendOSC (deviceAddress + "expand", device.isExpanded (), dump);
-        this.sendOSC (deviceAddress + "window", device.isWindowOpen (), dump);
+        this.sendOSC (addresses.exists, device.doesExist (), dump);
+        this.sendOSC (addresses.name, device.getName (), dump);
+        this.sendOSC (addresses.bypass, !device.isEnabled (), dump);
+        this.sendOSC (addresses.expand, device.isExpanded (), dump);
+        this.sendOSC (addresses.window, device.isWindowOpen (), dump);
         final int positionInBank = device.getIndex ();
         final IDeviceBank deviceBank = device.getDeviceBank ();
-        for (int i = 0; i < deviceBank.getPageSize (); i++)
+        addresses.updateSiblings (deviceBank.getPageSize ());
+        for (int i = 0; i < addresses.siblingNames.length; i++)
         {
-            final int oneplus = i + 1;
-            this.sendOSC (deviceAddress + "sibling/" + oneplus + "/name", deviceBank.getItem (i).getName (), dump);
-            this.sendOSC (deviceAddress + "sibling/" + oneplus + "/selected", i == positionInBank, dump);
-
+            this.sendOSC (addresses.siblingNames[i], deviceBank.getItem (i).getName (), dump);
+            this.sendOSC (addresses.siblingSelected[i], i == positionInBank, dump);
         }
         final IParameterBank parameterBank = device.getParameterBank ();
-        for (int i = 0; i < parameterBank.getPageSize (); i++)
-        {
-            final int oneplus = i + 1;
-            this.flushParameterData (deviceAddress + "param/" + oneplus + "/", parameterBank.getItem (i), dump);
-        }
+        final ParameterAddresses [] params = addresses.getParameters (parameterBank.getPageSize ());
+        for (int i = 0; i < params.length; i++)
+            this.flushParameterData (params[i], parameterBank.getItem (i), dump);
 
         final IParameterPageBank parameterPageBank = device.getParameterPageBank ();
         final int selectedParameterPage = parameterPageBank.getSelectedItemIndex ();
-        for (int i = 0; i < parameterPageBank.getPageSize (); i++)
+        addresses.updatePages (parameterPageBank.getPageSize ());
+        for (int i = 0; i < addresses.pages.length; i++)
         {
-            final int oneplus = i + 1;
-            this.sendOSC (deviceAddress + "page/" + oneplus + "/", parameterPageBank.getItem (i), dump);
-            this.sendOSC (deviceAddress + "page/" + oneplus + "/selected", selectedParameterPage == i, dump);
+            this.sendOSC (addresses.pages[i], parameterPageBank.getItem (i), dump);
+            this.sendOSC (addresses.pagesSelected[i], selectedParameterPage == i, dump);
         }
-        this.sendOSC (deviceAddress + "page/selected/name", parameterPageBank.getSelectedItem (), dump);
+        this.sendOSC (addresses.pageSelectedName, parameterPageBank.getSelectedItem (), dump);
     }
 
 
     /**
      * Flush all data of the browser.
      *
-     * @param browserAddress The start address for the browser
+     * @param addresses The addresses for the browser
      * @param browser The browser
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    private void flushBrowser (final String browserAddress, final IBrowser browser, final boolean dump)
+    private void flushBrowser (final BrowserAddresses addresses, final IBrowser browser, final boolean dump)
     {
-        this.sendOSC (browserAddress + "isActive", browser.isActive (), dump);
-        this.sendOSC (browserAddress + "tab", browser.getSelectedContentType (), dump);
+        this.sendOSC (addresses.isActive, browser.isActive (), dump);
+        this.sendOSC (addresses.tab, browser.getSelectedContentType (), dump);
 
         IBrowserColumn column;
         // Filter Columns
-        for (int i = 0; i < browser.getFilterColumnCount (); i++)
+        final FilterAddresses [] filters = addresses.getFilters (browser.getFilterColumnCount ());
+        for (int i = 0; i < filters.length; i++)
         {
-            final String filterAddress = browserAddress + "filter/" + (i + 1) + "/";
+            final FilterAddresses filterAddresses = filters[i];
             column = browser.getFilterColumn (i);
-            this.sendOSC (filterAddress + "exists", column.doesExist (), dump);
-            this.sendOSC (filterAddress + "name", column.getName (), dump);
-            this.sendOSC (filterAddress + "wildcard", column.getWildcard (), dump);
+            this.sendOSC (filterAddresses.exists, column.doesExist (), dump);
+            this.sendOSC (filterAddresses.name, column.getName (), dump);
+            this.sendOSC (filterAddresses.wildcard, column.getWildcard (), dump);
             final IBrowserColumnItem [] items = column.getItems ();
+            final ItemAddresses [] itemAddresses = filterAddresses.getItems (items.length);
             for (int j = 0; j < items.length; j++)
-            {
-                this.sendOSC (filterAddress + "item/" + (j + 1) + "/exists", items[j].doesExist (), dump);
-                this.sendOSC (filterAddress + "item/" + (j + 1) + "/name", items[j].getName (), dump);
-                this.sendOSC (filterAddress + "item/" + (j + 1) + "/hits", items[j].getHitCount (), dump);
-                this.sendOSC (filterAddress + "item/" + (j + 1) + "/isSelected", items[j].isSelected (), dump);
-            }
+                this.flushBrowserItem (itemAddresses[j], items[j], dump);
         }
 
         // Presets
-        final String presetAddress = browserAddress + "result/";
         final IBrowserColumnItem [] items = browser.getResultColumnItems ();
+        final ItemAddresses [] resultAddresses = addresses.getResults (items.length);
         for (int i = 0; i < items.length; i++)
-        {
-            this.sendOSC (presetAddress + (i + 1) + "/exists", items[i].doesExist (), dump);
-            this.sendOSC (presetAddress + (i + 1) + "/name", items[i].getName (), dump);
-            this.sendOSC (presetAddress + (i + 1) + "/hits", items[i].getHitCount (), dump);
-            this.sendOSC (presetAddress + (i + 1) + "/isSelected", items[i].isSelected (), dump);
-        }
+            this.flushBrowserItem (resultAddresses[i], items[i], dump);
+    }
+
+
+    /**
+     * Flush all data of a browser item.
+     *
+     * @param addresses The addresses for the item
+     * @param item The item
+     * @param dump Forces a flush if true otherwise only changed values are flushed
+     */
+    private void flushBrowserItem (final ItemAddresses addresses, final IBrowserColumnItem item, final boolean dump)
+    {
+        this.sendOSC (addresses.exists, item.doesExist (), dump);
+        this.sendOSC (addresses.name, item.getName (), dump);
+        this.sendOSC (addresses.hits, item.getHitCount (), dump);
+        this.sendOSC (addresses.isSelected, item.isSelected (), dump);
     }
 
 
     /**
      * Flush all data of a device layer.
      *
-     * @param deviceAddress The start address for the device
+     * @param addresses The addresses for the layer
      * @param channel The channel of the layer
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    private void flushDeviceLayers (final String deviceAddress, final IChannel channel, final boolean dump)
+    private void flushDeviceLayers (final TrackAddresses addresses, final IChannel channel, final boolean dump)
     {
         if (channel == null)
             return;
 
-        this.sendOSC (deviceAddress + "exists", channel.doesExist (), dump);
-        this.sendOSC (deviceAddress + "activated", channel.isActivated (), dump);
-        this.sendOSC (deviceAddress + "selected", channel.isSelected (), dump);
-        this.sendOSC (deviceAddress + "name", channel.getName (), dump);
-        this.sendOSC (deviceAddress + "volumeStr", channel.getVolumeStr (), dump);
-        this.sendOSC (deviceAddress + "volume", channel.getVolume (), dump);
-        this.sendOSC (deviceAddress + "panStr", channel.getPanStr (), dump);
-        this.sendOSC (deviceAddress + "pan", channel.getPan (), dump);
-        this.sendOSC (deviceAddress + "mute", channel.isMute (), dump);
-        this.sendOSC (deviceAddress + "solo", channel.isSolo (), dump);
+        this.sendOSC (addresses.exists, channel.doesExist (), dump);
+        this.sendOSC (addresses.activated, channel.isActivated (), dump);
+        this.sendOSC (addresses.selected, channel.isSelected (), dump);
+        this.sendOSC (addresses.name, channel.getName (), dump);
+        this.sendOSC (addresses.volumeStr, channel.getVolumeStr (), dump);
+        this.sendOSC (addresses.volume, channel.getVolume (), dump);
+        this.sendOSC (addresses.panStr, channel.getPanStr (), dump);
+        this.sendOSC (addresses.pan, channel.getPan (), dump);
+        this.sendOSC (addresses.mute, channel.isMute (), dump);
+        this.sendOSC (addresses.solo, channel.isSolo (), dump);
 
         final ISendBank sendBank = channel.getSendBank ();
-        for (int i = 0; i < sendBank.getPageSize (); i++)
-            this.flushParameterData (deviceAddress + "send/" + (i + 1) + "/", sendBank.getItem (i), dump);
+        final ParameterAddresses [] sends = addresses.getSends (sendBank.getPageSize ());
+        for (int i = 0; i < sends.length; i++)
+            this.flushParameterData (sends[i], sendBank.getItem (i), dump);
 
         if (((OSCConfiguration) this.configuration).isEnableVUMeters ())
-            this.sendOSC (deviceAddress + "vu", channel.getVu (), dump);
+            this.sendOSC (addresses.vu, channel.getVu (), dump);
 
         final double [] color = channel.getColor ();
-        this.sendOSCColor (deviceAddress + "color", color[0], color[1], color[2], dump);
+        this.sendOSCColor (addresses.color, color[0], color[1], color[2], dump);
     }
 
 
     /**
      * Flush all data of a parameter.
      *
-     * @param fxAddress The start address for the effect
+     * @param addresses The addresses for the parameter
      * @param fxParam The parameter
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    private void flushParameterData (final String fxAddress, final IParameter fxParam, final boolean dump)
+    private void flushParameterData (final ParameterAddresses addresses, final IParameter fxParam, final boolean dump)
     {
-        final boolean isSend = fxParam instanceof ISend;
-
-        this.sendOSC (fxAddress + "name", fxParam.getName (), dump);
-        this.sendOSC (fxAddress + (isSend ? "volumeStr" : "valueStr"), fxParam.getDisplayedValue (), dump);
-        this.sendOSC (fxAddress + (isSend ? "volume" : "value"), fxParam.getValue (), dump);
-        this.sendOSC (fxAddress + "modulatedValue", fxParam.getModulatedValue (), dump);
+        this.sendOSC (addresses.name, fxParam.getName (), dump);
+        this.sendOSC (addresses.valueStr, fxParam.getDisplayedValue (), dump);
+        this.sendOSC (addresses.value, fxParam.getValue (), dump);
+        this.sendOSC (addresses.modulatedValue, fxParam.getModulatedValue (), dump);
     }
 
 
     /**
      * Flush all notes.
      *
-     * @param noteAddress The start address for the note
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    private void flushNotes (final String noteAddress, final boolean dump)
+    private void flushNotes (final boolean dump)
     {
-        for (int i = 0; i < 127; i++)
+        for (int i = 0; i < this.noteColorAddresses.length; i++)
         {
             final double [] color = this.getNoteColor (i);
-            this.sendOSCColor (noteAddress + i + "/color", color[0], color[1], color[2], dump);
+            this.sendOSCColor (this.noteColorAddresses[i], color[0], color[1], color[2], dump);
+        }
+    }
+
+
+    /**
+     * Get the time signature text. The text is only created if the time signature changes.
+     *
+     * @param numerator The numerator
+     * @param denominator The denominator
+     * @return The text
+     */
+    private String getTimeSignature (final int numerator, final int denominator)
+    {
+        if (this.timeSignature == null || this.numerator != numerator || this.denominator != denominator)
+        {
+            this.numerator = numerator;
+            this.denominator = denominator;
+            this.timeSignature = numerator + " / " + denominator;
         }
+        return this.timeSignature;
+    }
+
+
+    /**
+     * Get the panel layout in lower case. The text is only converted if the layout changes.
+     *
+     * @param layout The panel layout
+     * @return The layout in lower case
+     */
+    private String getPanelLayout (final String layout)
+    {
+        if (!layout.equals (this.panelLayout))
+        {
+            this.panelLayout = layout;
+            this.panelLayoutLowerCase = layout.toLowerCase ();
+        }
+        return this.panelLayoutLowerCase;
+    }
+
+
+    /**
+     * Creates the addresses of the channels of a bank if the page size has changed.
+     *
+     * @param addresses The current addresses
+     * @param prefix The start address of the bank
+     * @param size The page size of the bank
+     * @return The current or the new addresses
+     */
+    private TrackAddresses [] createTrackAddresses (final TrackAddresses [] addresses, final String prefix, final int size)
+    {
+        if (addresses.length == size)
+            return addresses;
+        final TrackAddresses [] newAddresses = new TrackAddresses [size];
+        for (int i = 0; i < size; i++)
+            newAddresses[i] = new TrackAddresses (prefix + (i + 1) + "/");
+        return newAddresses;
     }
 
 
@@ -458,4 +642,429 @@ public class OSCWriter extends AbstractOpenSoundControlWriter
         final boolean isRecording = this.model.hasRecordingState ();
         return isRecording ? OSCColors.COLOR_RED : OSCColors.COLOR_GREEN;
     }
+
+
+    /** The address IDs of a marker. */
+    private final class MarkerAddresses
+    {
+        private final int exists;
+        private final int name;
+        private final int color;
+
+
+        /**
+         * Constructor.
+         *
+         * @param prefix The start address of the marker
+         */
+        MarkerAddresses (final String prefix)
+        {
+            this.exists = OSCWriter.this.getAddressId (prefix + "exists");
+            this.name = OSCWriter.this.getAddressId (prefix + "name");
+            this.color = OSCWriter.this.getAddressId (prefix + "color");
+        }
+    }
+
+
+    /** The address IDs of a scene. */
+    private final class SceneAddresses
+    {
+        private final int exists;
+        private final int name;
+        private final int selected;
+
+
+        /**
+         * Constructor.
+         *
+         * @param prefix The start address of the scene
+         */
+        SceneAddresses (final String prefix)
+        {
+            this.exists = OSCWriter.this.getAddressId (prefix + "exists");
+            this.name = OSCWriter.this.getAddressId (prefix + "name");
+            this.selected = OSCWriter.this.getAddressId (prefix + "selected");
+        }
+    }
+
+
+    /** The address IDs of a track or layer, including its sends and clips. */
+    private final class TrackAddresses
+    {
+        private final String          prefix;
+        private final int             exists;
+        private final int             type;
+        private final int             activated;
+        private final int             selected;
+        private final int             isGroup;
+        private final int             name;
+        private final int             volumeStr;
+        private final int             volume;
+        private final int             panStr;
+        private final int             pan;
+        private final int             mute;
+        private final int             solo;
+        private final int             recarm;
+        private final int             monitor;
+        private final int             autoMonitor;
+        private final int             canHoldNotes;
+        private final int             canHoldAudioData;
+        private final int             position;
+        private final int             color;
+        private final int             crossfadeModeA;
+        private final int             crossfadeModeB;
+        private final int             crossfadeModeAB;
+        private final int             vu;
+        private ParameterAddresses [] sends = new ParameterAddresses [0];
+        private ClipAddresses []      clips = new ClipAddresses [0];
+
+
+        /**
+         * Constructor.
+         *
+         * @param prefix The start address of the track
+         */
+        TrackAddresses (final String prefix)
+        {
+            this.prefix = prefix;
+            this.exists = OSCWriter.this.getAddressId (prefix + "exists");
+            this.type = OSCWriter.this.getAddressId (prefix + "type");
+            this.activated = OSCWriter.this.getAddressId (prefix + "activated");
+            this.selected = OSCWriter.this.getAddressId (prefix + "selected");
+            this.isGroup = OSCWriter.this.getAddressId (prefix + "isGroup");
+            this.name = OSCWriter.this.getAddressId (prefix + "name");
+            this.volumeStr = OSCWriter.this.getAddressId (prefix + "volumeStr");
+            this.volume = OSCWriter.this.getAddressId (prefix + "volume");
+            this.panStr = OSCWriter.this.getAddressId (prefix + "panStr");
+            this.pan = OSCWriter.this.getAddressId (prefix + "pan");
+            this.mute = OSCWriter.this.getAddressId (prefix + "mute");
+            this.solo = OSCWriter.this.getAddressId (prefix + "solo");
+            this.recarm = OSCWriter.this.getAddressId (prefix + "recarm");
+            this.monitor = OSCWriter.this.getAddressId (prefix + "monitor");
+            this.autoMonitor = OSCWriter.this.getAddressId (prefix + "autoMonitor");
+            this.canHoldNotes = OSCWriter.this.getAddressId (prefix + "canHoldNotes");
+            this.canHoldAudioData = OSCWriter.this.getAddressId (prefix + "canHoldAudioData");
+            this.position = OSCWriter.this.getAddressId (prefix + "position");
+            this.color = OSCWriter.this.getAddressId (prefix + "color");
+            this.crossfadeModeA = OSCWriter.this.getAddressId (prefix + "crossfadeMode/A");
+            this.crossfadeModeB = OSCWriter.this.getAddressId (prefix + "crossfadeMode/B");
+            this.crossfadeModeAB = OSCWriter.this.getAddressId (prefix + "crossfadeMode/AB");
+            this.vu = OSCWriter.this.getAddressId (prefix + "vu");
+        }
+
+
+        /**
+         * Get the addresses of the sends. Creates them if the number of sends has changed.
+         *
+         * @param size The number of sends
+         * @return The addresses
+         */
+        ParameterAddresses [] getSends (final int size)
+        {
+            if (this.sends.length != size)
+            {
+                this.sends = new ParameterAddresses [size];
+                for (int i = 0; i < size; i++)
+                    this.sends[i] = new ParameterAddresses (this.prefix + "send/" + (i + 1) + "/", true);
+            }
+            return this.sends;
+        }
+
+
+        /**
+         * Get the addresses of the clips. Creates them if the number of clips has changed.
+         *
+         * @param size The number of clips
+         * @return The addresses
+         */
+        ClipAddresses [] getClips (final int size)
+        {
+            if (this.clips.length != size)
+            {
+                this.clips = new ClipAddresses [size];
+                for (int i = 0; i < size; i++)
+                    this.clips[i] = new ClipAddresses (this.prefix + "clip/" + (i + 1) + "/");
+            }
+            return this.clips;
+        }
+    }
+
+
+    /** The address IDs of a clip. */
+    private final class ClipAddresses
+    {
+        private final int name;
+        private final int isSelected;
+        private final int hasContent;
+        private final int isPlaying;
+        private final int isRecording;
+        private final int isPlayingQueued;
+        private final int isRecordingQueued;
+        private final int isStopQueued;
+        private final int color;
+
+
+        /**
+         * Constructor.
+         *
+         * @param prefix The start address of the clip
+         */
+        ClipAddresses (final String prefix)
+        {
+            this.name = OSCWriter.this.getAddressId (prefix + "name");
+            this.isSelected = OSCWriter.this.getAddressId (prefix + "isSelected");
+            this.hasContent = OSCWriter.this.getAddressId (prefix + "hasContent");
+            this.isPlaying = OSCWriter.this.getAddressId (prefix + "isPlaying");
+            this.isRecording = OSCWriter.this.getAddressId (prefix + "isRecording");
+            this.isPlayingQueued = OSCWriter.this.getAddressId (prefix + "isPlayingQueued");
+            this.isRecordingQueued = OSCWriter.this.getAddressId (prefix + "isRecordingQueued");
+            this.isStopQueued = OSCWriter.this.getAddressId (prefix + "isStopQueued");
+            this.color = OSCWriter.this.getAddressId (prefix + "color");
+        }
+    }
+
+
+    /** The address IDs of a parameter or send. */
+    private final class ParameterAddresses
+    {
+        private final int name;
+        private final int valueStr;
+        private final int value;
+        private final int modulatedValue;
+
+
+        /**
+         * Constructor.
+         *
+         * @param prefix The start address of the parameter
+         * @param isSend True if the parameter is a send
+         */
+        ParameterAddresses (final String prefix, final boolean isSend)
+        {
+            this.name = OSCWriter.this.getAddressId (prefix + "name");
+            this.valueStr = OSCWriter.this.getAddressId (prefix + (isSend ? "volumeStr" : "valueStr"));
+            this.value = OSCWriter.this.getAddressId (prefix + (isSend ? "volume" : "value"));
+            this.modulatedValue = OSCWriter.this.getAddressId (prefix + "modulatedValue");
+        }
+    }
+
+
+    /** The address IDs of a device. */
+    private final class DeviceAddresses
+    {
+        private final String          prefix;
+        private final int             exists;
+        private final int             name;
+        private final int             bypass;
+        private final int             expand;
+        private final int             window;
+        private final int             pageSelectedName;
+        private int []                siblingNames    = new int [0];
+        private int []                siblingSelected = new int [0];
+        private ParameterAddresses [] parameters      = new ParameterAddresses [0];
+        private int []                pages           = new int [0];
+        private int []                pagesSelected   = new int [0];
+
+
+        /**
+         * Constructor.
+         *
+         * @param prefix The start address of the device
+         */
+        DeviceAddresses (final String prefix)
+        {
+            this.prefix = prefix;
+            this.exists = OSCWriter.this.getAddressId (prefix + "exists");
+            this.name = OSCWriter.this.getAddressId (prefix + "name");
+            this.bypass = OSCWriter.this.getAddressId (prefix + "bypass");
+            this.expand = OSCWriter.this.getAddressId (prefix + "expand");
+            this.window = OSCWriter.this.getAddressId (prefix + "window");
+            this.pageSelectedName = OSCWriter.this.getAddressId (prefix + "page/selected/name");
+        }
+
+
+        /**
+         * Creates the addresses of the siblings if their number has changed.
+         *
+         * @param size The number of siblings
+         */
+        void updateSiblings (final int size)
+        {
+            if (this.siblingNames.length == size)
+                return;
+            this.siblingNames = new int [size];
+            this.siblingSelected = new int [size];
+            for (int i = 0; i < size; i++)
+            {
+                final String siblingAddress = this.prefix + "sibling/" + (i + 1);
+                this.siblingNames[i] = OSCWriter.this.getAddressId (siblingAddress + "/name");
+                this.siblingSelected[i] = OSCWriter.this.getAddressId (siblingAddress + "/selected");
+            }
+        }
+
+
+        /**
+         * Get the addresses of the parameters. Creates them if their number has changed.
+         *
+         * @param size The number of parameters
+         * @return The addresses
+         */
+        ParameterAddresses [] getParameters (final int size)
+        {
+            if (this.parameters.length != size)
+            {
+                this.parameters = new ParameterAddresses [size];
+                for (int i = 0; i < size; i++)
+                    this.parameters[i] = new ParameterAddresses (this.prefix + "param/" + (i + 1) + "/", false);
+            }
+            return this.parameters;
+        }
+
+
+        /**
+         * Creates the addresses of the parameter pages if their number has changed.
+         *
+         * @param size The number of parameter pages
+         */
+        void updatePages (final int size)
+        {
+            if (this.pages.length == size)
+                return;
+            this.pages = new int [size];
+            this.pagesSelected = new int [size];
+            for (int i = 0; i < size; i++)
+            {
+                final String pageAddress = this.prefix + "page/" + (i + 1) + "/";
+                this.pages[i] = OSCWriter.this.getAddressId (pageAddress);
+                this.pagesSelected[i] = OSCWriter.this.getAddressId (pageAddress + "selected");
+            }
+        }
+    }
+
+
+    /** The address IDs of the browser. */
+    private final class BrowserAddresses
+    {
+        private final String       prefix;
+        private final int          isActive;
+        private final int          tab;
+        private FilterAddresses [] filters = new FilterAddresses [0];
+        private ItemAddresses []   results = new ItemAddresses [0];
+
+
+        /**
+         * Constructor.
+         *
+         * @param prefix The start address of the browser
+         */
+        BrowserAddresses (final String prefix)
+        {
+            this.prefix = prefix;
+            this.isActive = OSCWriter.this.getAddressId (prefix + "isActive");
+            this.tab = OSCWriter.this.getAddressId (prefix + "tab");
+        }
+
+
+        /**
+         * Get the addresses of the filter columns. Creates them if their number has changed.
+         *
+         * @param size The number of filter columns
+         * @return The addresses
+         */
+        FilterAddresses [] getFilters (final int size)
+        {
+            if (this.filters.length != size)
+            {
+                this.filters = new FilterAddresses [size];
+                for (int i = 0; i < size; i++)
+                    this.filters[i] = new FilterAddresses (this.prefix + "filter/" + (i + 1) + "/");
+            }
+            return this.filters;
+        }
+
+
+        /**
+         * Get the addresses of the result items. Creates them if their number has changed.
+         *
+         * @param size The number of result items
+         * @return The addresses
+         */
+        ItemAddresses [] getResults (final int size)
+        {
+            if (this.results.length != size)
+            {
+                this.results = new ItemAddresses [size];
+                for (int i = 0; i < size; i++)
+                    this.results[i] = new ItemAddresses (this.prefix + "result/" + (i + 1) + "/");
+            }
+            return this.results;
+        }
+    }
+
+
+    /** The address IDs of a browser filter column. */
+    private final class FilterAddresses
+    {
+        private final String     prefix;
+        private final int        exists;
+        private final int        name;
+        private final int        wildcard;
+        private ItemAddresses [] items = new ItemAddresses [0];
+
+
+        /**
+         * Constructor.
+         *
+         * @param prefix The start address of the filter column
+         */
+        FilterAddresses (final String prefix)
+        {
+            this.prefix = prefix;
+            this.exists = OSCWriter.this.getAddressId (prefix + "exists");
+            this.name = OSCWriter.this.getAddressId (prefix + "name");
+            this.wildcard = OSCWriter.this.getAddressId (prefix + "wildcard");
+        }
+
+
+        /**
+         * Get the addresses of the items. Creates them if their number has changed.
+         *
+         * @param size The number of items
+         * @return The addresses
+         */
+        ItemAddresses [] getItems (final int size)
+        {
+            if (this.items.length != size)
+            {
+                this.items = new ItemAddresses [size];
+                for (int i = 0; i < size; i++)
+                    this.items[i] = new ItemAddresses (this.prefix + "item/" + (i + 1) + "/");
+            }
+            return this.items;
+        }
+    }
+
+
+    /** The address IDs of a browser item. */
+    private final class ItemAddresses
+    {
+        private final int exists;
+        private final int name;
+        private final int hits;
+        private final int isSelected;
+
+
+        /**
+         * Constructor.
+         *
+         * @param prefix The start address of the item
+         */
+        ItemAddresses (final String prefix)
+        {
+            this.exists = OSCWriter.this.getAddressId (prefix + "exists");
+            this.name = OSCWriter.this.getAddressId (prefix + "name");
+            this.hits = OSCWriter.this.getAddressId (prefix + "hits");
+            this.isSelected = OSCWriter.this.getAddressId (prefix + "isSelected");
+        }
+    }
 }
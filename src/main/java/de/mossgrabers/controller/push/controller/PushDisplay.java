@@ -9,6 +9,7 @@ import de.mossgrabers.framework.controller.display.Format;
 import de.mossgrabers.framework.controller.display.GraphicDisplay;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 import de.mossgrabers.framework.graphics.IBitmap;
 import de.mossgrabers.framework.graphics.IGraphicsDimensions;
 import de.mossgrabers.framework.graphics.display.VirtualDisplay;
@@ -23,23 +24,23 @@ import de.mossgrabers.framework.graphics.grid.DefaultGraphicsDimensions;
 public class PushDisplay extends GraphicDisplay
 {
     /** Push character codes for value bars - a dash. */
-    public static final String     BARS_NON      = Character.toString ((char) 6);
+    public static final String     BARS_NON     = Character.toString ((char) 6);
     /** Push character codes for value bars - one bar. */
-    public static final String     BARS_ONE      = Character.toString ((char) 3);
+    public static final String     BARS_ONE     = Character.toString ((char) 3);
     /** Push character codes for value bars - two bars. */
-    public static final String     BARS_TWO      = Character.toString ((char) 5);
+    public static final String     BARS_TWO     = Character.toString ((char) 5);
     /** Push character codes for value bars - one bar to the left. */
-    private static final String    BARS_ONE_L    = Character.toString ((char) 4);
+    private static final String    BARS_ONE_L   = Character.toString ((char) 4);
     /** Push character codes for value bars - four dashes. */
-    private static final String    NON_4         = BARS_NON + BARS_NON + BARS_NON + BARS_NON;
+    private static final String    NON_4        = BARS_NON + BARS_NON + BARS_NON + BARS_NON;
     /** Push character codes for value bars - the right arrow. */
-    public static final String     SELECT_ARROW  = Character.toString ((char) 127);
+    public static final String     SELECT_ARROW = Character.toString ((char) 127);
     /** Push character for a degree sign. */
-    public static final String     DEGREE        = Character.toString ((char) 9);
+    public static final String     DEGREE       = Character.toString ((char) 9);
     /** Push character for a right arrow. */
-    public static final String     RIGHT_ARROW   = Character.toString ((char) 30);
+    public static final String     RIGHT_ARROW  = Character.toString ((char) 30);
 
-    private static final String [] SPACES        =
+    private static final String [] SPACES       =
     {
         "",
         " ",
@@ -57,7 +58,7 @@ public class PushDisplay extends GraphicDisplay
         "             "
     };
 
-    private static final String [] DASHES        =
+    private static final String [] DASHES       =
     {
         "",
         BARS_NON,
@@ -71,18 +72,14 @@ public class PushDisplay extends GraphicDisplay
         BARS_NON + BARS_NON + BARS_NON + BARS_NON + BARS_NON + BARS_NON + BARS_NON + BARS_NON + BARS_NON
     };
 
-    private static final String [] SYSEX_MESSAGE =
-    {
-        "F0 47 7F 15 18 00 45 00 ",
-        "F0 47 7F 15 19 00 45 00 ",
-        "F0 47 7F 15 1A 00 45 00 ",
-        "F0 47 7F 15 1B 00 45 00 "
-    };
+    private static final String    SYSEX_HEADER = "F0 47 7F 15 ";
+    private static final int       SYSEX_ROW_1  = 0x18;
 
     private int                    maxParameterValue;
     private boolean                isPush2;
 
     private final PushUsbDisplay   usbDisplay;
+    private final SysexBuilder     sysexBuilder = new SysexBuilder (SYSEX_HEADER);
 
 
     /**
@@ -173,10 +170,15 @@ public class PushDisplay extends GraphicDisplay
     @Override
     public void writeLine (final int row, final String text)
     {
-        final int [] array = new int [text.length ()];
-        for (int i = 0; i < text.length (); i++)
-            array[i] = text.charAt (i);
-        this.output.sendSysex (PushDisplay.SYSEX_MESSAGE[row] + toHexStr (array) + "F7");
+        this.sysexBuilder.start ().addByte (SYSEX_ROW_1 + row).addByte (0x00).addByte (0x45).addByte (0x00).addText (text).send (this.output);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected void writeSpan (final int row, final char [] text, final int length, final int start, final int end)
+    {
+        this.sysexBuilder.start ().addByte (SYSEX_ROW_1 + row).addByte (0x00).addByte (0x45).addByte (0x00).addText (text, 0, length).send (this.output);
     }
 
 
@@ -255,20 +257,6 @@ public class PushDisplay extends GraphicDisplay
     }
 
 
-    private static String toHexStr (final int [] data)
-    {
-        final StringBuilder sysex = new StringBuilder ();
-        for (final int d: data)
-        {
-            final String v = Integer.toHexString (d).toUpperCase ();
-            if (v.length () < 2)
-                sysex.append ('0');
-            sysex.append (v).append (' ');
-        }
-        return sysex.toString ();
-    }
-
-
     /** {@inheritDoc} */
     @Override
     protected void send (final IBitmap image)
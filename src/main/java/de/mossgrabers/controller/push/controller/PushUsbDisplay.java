@@ -10,9 +10,12 @@ import de.mossgrabers.framework.graphics.IBitmap;
 import de.mossgrabers.framework.usb.IUsbDevice;
 import de.mossgrabers.framework.usb.IUsbEndpoint;
 import de.mossgrabers.framework.usb.UsbException;
+import de.mossgrabers.framework.utils.LatestTaskExecutor;
 
 import java.nio.ByteBuffer;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
 
 
 /**
@@ -23,16 +26,23 @@ import java.util.concurrent.atomic.AtomicBoolean;
 public class PushUsbDisplay
 {
     /** The size of the display content. */
-    private static final int     DATA_SZ        = 20 * 0x4000;
+    private static final int         DATA_SZ        = 20 * 0x4000;
 
-    private static final int     TIMEOUT        = 1000;
+    /** The number of 16 bit words of one line including the padding. */
+    private static final int         LINE_SZ        = 1024;
 
-    private static final byte [] DISPLAY_HEADER =
+    private static final int         TIMEOUT        = 1000;
+
+    /** Signal shaping pattern for 2 consecutive pixels, XORed to the little endian pixel data. */
+    private static final short       MASK_EVEN      = (short) 0xF3E7;
+    private static final short       MASK_ODD       = (short) 0xFFE7;
+
+    private static final byte []     DISPLAY_HEADER =
     {
-        (byte) 0xef,
-        (byte) 0xcd,
-        (byte) 0xab,
-        (byte) 0x89,
+        (byte) 0xff,
+        (byte) 0xcc,
+        (byte) 0xaa,
+        (byte) 0x88,
         0,
         0,
         0,
@@ -47,11 +57,22 @@ public class PushUsbDisplay
         0
     };
 
-    private IUsbDevice           usbDevice;
-    private IUsbEndpoint         usbEndpoint;
-    private final IMemoryBlock   headerBlock;
-    private final IMemoryBlock   imageBlock;
-    private AtomicBoolean        isSending      = new AtomicBoolean (false);
+    private IUsbDevice               usbDevice;
+    private IUsbEndpoint             usbEndpoint;
+    private final IMemoryBlock       headerBlock;
+    private final IMemoryBlock []    imageBlocks    = new IMemoryBlock [2];
+    private final ShortBuffer []     imageData      = new ShortBuffer [2];
+    private final short []           lineData       = new short [LINE_SZ];
+    private int []                   pixelData      = new int [0];
+
+    private final LatestTaskExecutor sendExecutor   = new LatestTaskExecutor ("Push 2 Display");
+    private final Object             frameLock      = new Object ();
+    private int                      writeIndex;
+    private int                      pendingIndex   = -1;
+    private int                      sendingIndex   = -1;
+    private long                     renderedFrames;
+    private long                     sentFrames;
+    private long                     droppedFrames;
 
 
     /**
@@ -75,79 +96,184 @@ public class PushUsbDisplay
 
         this.headerBlock = host.createMemoryBlock (DISPLAY_HEADER.length);
         this.headerBlock.createByteBuffer ().put (DISPLAY_HEADER);
-        this.imageBlock = host.createMemoryBlock (DATA_SZ);
+        for (int i = 0; i < this.imageBlocks.length; i++)
+        {
+            this.imageBlocks[i] = host.createMemoryBlock (DATA_SZ);
+            this.imageData[i] = this.imageBlocks[i].createByteBuffer ().order (ByteOrder.LITTLE_ENDIAN).asShortBuffer ();
+        }
+
+        // The padding at the end of each line is never overwritten
+        for (int i = 0; i < LINE_SZ; i += 2)
+        {
+            this.lineData[i] = MASK_EVEN;
+            this.lineData[i + 1] = MASK_ODD;
+        }
     }
 
 
     /**
-     * Send the buffered image to the screen.
+     * Send the buffered image to the screen. The image is encoded into the buffer which is
+     * currently not transmitted and handed over to the sender thread, which always transmits the
+     * most recent complete frame. Frames which were replaced before they could be sent are dropped.
      *
      * @param image An image of size 960 x 160 pixel
      */
     public void send (final IBitmap image)
     {
-        synchronized (this.isSending)
+        synchronized (this.frameLock)
         {
-            if (this.usbDevice == null || this.usbEndpoint == null || this.isSending.get ())
+            if (this.usbDevice == null || this.usbEndpoint == null)
                 return;
 
-            this.isSending.set (true);
+            // Use the buffer which is not transmitted, a pending frame in it is replaced
+            this.writeIndex = this.sendingIndex == 0 || this.sendingIndex == -1 && this.pendingIndex == 0 ? 1 : 0;
+            if (this.pendingIndex == this.writeIndex)
+            {
+                this.pendingIndex = -1;
+                this.droppedFrames++;
+            }
+        }
+
+        image.encode (this::encode);
+
+        synchronized (this.frameLock)
+        {
+            this.renderedFrames++;
+            if (this.pendingIndex != -1)
+                this.droppedFrames++;
+            this.pendingIndex = this.writeIndex;
+
+            if (this.usbEndpoint != null)
+                this.sendExecutor.execute (this::transmit);
+        }
+    }
+
+
+    /**
+     * Stops all transfers to the device. Nulls the device.
+     */
+    public void shutdown ()
+    {
+        synchronized (this.frameLock)
+        {
+            this.usbDevice = null;
+            this.usbEndpoint = null;
+            this.sendExecutor.shutdown ();
+        }
+    }
+
+
+    /**
+     * Get the number of frames which were encoded.
+     *
+     * @return The number of frames
+     */
+    public long getRenderedFrames ()
+    {
+        synchronized (this.frameLock)
+        {
+            return this.renderedFrames;
+        }
+    }
 
-            final ByteBuffer buffer = this.imageBlock.createByteBuffer ();
 
-            image.encode ( (imageBuffer, width, height) -> {
-                buffer.clear ();
+    /**
+     * Get the number of frames which were transmitted to the device.
+     *
+     * @return The number of frames
+     */
+    public long getSentFrames ()
+    {
+        synchronized (this.frameLock)
+        {
+            return this.sentFrames;
+        }
+    }
 
-                final int padding = (buffer.capacity () - height * width * 2) / height;
 
-                for (int y = 0; y < height; y++)
-                {
-                    for (int x = 0; x < width; x++)
-                    {
-                        final int blue = imageBuffer.get ();
-                        final int green = imageBuffer.get ();
-                        final int red = imageBuffer.get ();
-                        imageBuffer.get (); // Drop unused Alpha
+    /**
+     * Get the number of frames which were replaced by a newer frame before they could be sent.
+     *
+     * @return The number of frames
+     */
+    public long getDroppedFrames ()
+    {
+        synchronized (this.frameLock)
+        {
+            return this.droppedFrames;
+        }
+    }
 
-                        final int pixel = sPixelFromRGB (red, green, blue);
-                        buffer.put ((byte) (pixel & 0x00FF));
-                        buffer.put ((byte) ((pixel & 0xFF00) >> 8));
-                    }
 
-                    for (int x = 0; x < padding; x++)
-                        buffer.put ((byte) 0x00);
-                }
+    /**
+     * Transmits the pending frame, if any. Runs on the sender thread.
+     */
+    private void transmit ()
+    {
+        final IUsbEndpoint endpoint;
+        final int index;
+        synchronized (this.frameLock)
+        {
+            if (this.pendingIndex == -1 || this.usbEndpoint == null)
+                return;
+            endpoint = this.usbEndpoint;
+            index = this.pendingIndex;
+            this.sendingIndex = index;
+            this.pendingIndex = -1;
+        }
 
-                imageBuffer.rewind ();
-            });
+        endpoint.send (this.headerBlock, TIMEOUT);
+        endpoint.send (this.imageBlocks[index], TIMEOUT);
 
-            this.usbEndpoint.send (this.headerBlock, TIMEOUT);
-            this.usbEndpoint.send (this.imageBlock, TIMEOUT);
-            this.isSending.set (false);
+        synchronized (this.frameLock)
+        {
+            this.sendingIndex = -1;
+            this.sentFrames++;
         }
     }
 
 
     /**
-     * Stops all transfers to the device. Nulls the device.
+     * Converts the bitmap to the format of the display: little endian BGR565 pixels, lines padded
+     * to 2048 bytes and XORed with the signal shaping pattern. The bitmap is read and the display
+     * data is written one line at a time.
+     *
+     * @param imageBuffer The bitmap data (blue, green, red, alpha, ...)
+     * @param width The width of the bitmap
+     * @param height The height of the bitmap
      */
-    public void shutdown ()
+    private void encode (final ByteBuffer imageBuffer, final int width, final int height)
     {
-        synchronized (this.isSending)
+        final IntBuffer pixels = imageBuffer.order (ByteOrder.LITTLE_ENDIAN).asIntBuffer ();
+        if (this.pixelData.length != width)
+            this.pixelData = new int [width];
+        final int [] src = this.pixelData;
+        final short [] dest = this.lineData;
+
+        final ShortBuffer data = this.imageData[this.writeIndex];
+        data.clear ();
+        for (int y = 0; y < height; y++)
         {
-            this.usbDevice = null;
-            this.usbEndpoint = null;
+            pixels.get (src);
+            for (int x = 0; x < width; x += 2)
+            {
+                dest[x] = (short) (pixelFromBGRA (src[x]) ^ MASK_EVEN);
+                dest[x + 1] = (short) (pixelFromBGRA (src[x + 1]) ^ MASK_ODD);
+            }
+            data.put (dest);
         }
     }
 
 
-    private static int sPixelFromRGB (final int red, final int green, final int blue)
+    /**
+     * Converts a 32 bit pixel (alpha, red, green, blue from high to low) to a 16 bit pixel with 5
+     * bits blue, 6 bits green and 5 bits red (from high to low).
+     *
+     * @param pixel The 32 bit pixel
+     * @return The 16 bit pixel
+     */
+    private static int pixelFromBGRA (final int pixel)
     {
-        int pixel = (blue & 0xF8) >> 3;
-        pixel <<= 6;
-        pixel += (green & 0xFC) >> 2;
-        pixel <<= 5;
-        pixel += (red & 0xF8) >> 3;
-        return pixel;
+        return (pixel & 0xF8) << 8 | (pixel >> 5) & 0x07E0 | (pixel >> 19) & 0x1F;
     }
 }
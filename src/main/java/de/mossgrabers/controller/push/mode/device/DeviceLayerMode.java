@@ -18,6 +18,7 @@ import de.mossgrabers.framework.daw.ICursorDevice;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.ISendBank;
 import de.mossgrabers.framework.daw.ITrackBank;
+import de.mossgrabers.framework.daw.ModelRegion;
 import de.mossgrabers.framework.daw.data.IChannel;
 import de.mossgrabers.framework.daw.data.ISend;
 import de.mossgrabers.framework.daw.data.ITrack;
@@ -41,7 +42,9 @@ import java.util.List;
  */
 public class DeviceLayerMode extends BaseMode
 {
-    protected final List<Pair<String, Boolean>> menu = new ArrayList<> ();
+    private static final int                    DEPENDENCIES = ModelRegion.mask (ModelRegion.TRACKS, ModelRegion.VU, ModelRegion.DEVICE);
+
+    protected final List<Pair<String, Boolean>> menu         = new ArrayList<> ();
 
 
     /**
@@ -675,4 +678,12 @@ public class DeviceLayerMode extends BaseMode
         final ICursorDevice cursorDevice = this.model.getCursorDevice ();
         return cursorDevice == null ? null : cursorDevice.getLayerOrDrumPadBank ();
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getDependencies ()
+    {
+        return DEPENDENCIES;
+    }
 }
\ No newline at end of file
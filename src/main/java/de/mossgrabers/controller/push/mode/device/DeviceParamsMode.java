@@ -18,6 +18,7 @@ import de.mossgrabers.framework.daw.IDeviceBank;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.IParameterBank;
 import de.mossgrabers.framework.daw.IParameterPageBank;
+import de.mossgrabers.framework.daw.ModelRegion;
 import de.mossgrabers.framework.daw.data.IChannel;
 import de.mossgrabers.framework.daw.data.IDevice;
 import de.mossgrabers.framework.daw.data.IItem;
@@ -37,7 +38,8 @@ import de.mossgrabers.framework.view.View;
  */
 public class DeviceParamsMode extends BaseMode
 {
-    private static final String [] MENU =
+    private static final int       DEPENDENCIES = ModelRegion.mask (ModelRegion.TRACKS, ModelRegion.MASTER, ModelRegion.DEVICE, ModelRegion.PARAMETERS);
+    private static final String [] MENU         =
     {
         "On",
         "Parameters",
@@ -479,4 +481,12 @@ public class DeviceParamsMode extends BaseMode
             return null;
         return this.showDevices ? cursorDevice.getDeviceBank () : cursorDevice.getParameterBank ();
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getDependencies ()
+    {
+        return DEPENDENCIES;
+    }
 }
\ No newline at end of file
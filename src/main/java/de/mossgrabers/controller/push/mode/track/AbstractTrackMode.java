@@ -14,6 +14,7 @@ import de.mossgrabers.framework.controller.IValueChanger;
 import de.mossgrabers.framework.controller.display.Display;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.ITrackBank;
+import de.mossgrabers.framework.daw.ModelRegion;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.graphics.display.DisplayModel;
 import de.mossgrabers.framework.mode.ModeManager;
@@ -33,7 +34,9 @@ import java.util.List;
  */
 public abstract class AbstractTrackMode extends BaseMode
 {
-    protected final List<Pair<String, Boolean>> menu = new ArrayList<> ();
+    private static final int                    DEPENDENCIES = ModelRegion.mask (ModelRegion.TRACKS, ModelRegion.VU);
+
+    protected final List<Pair<String, Boolean>> menu         = new ArrayList<> ();
 
 
     /**
@@ -463,4 +466,12 @@ public abstract class AbstractTrackMode extends BaseMode
     {
         return this.model.getCurrentTrackBank ();
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getDependencies ()
+    {
+        return DEPENDENCIES;
+    }
 }
\ No newline at end of file
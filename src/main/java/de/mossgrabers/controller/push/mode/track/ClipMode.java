@@ -13,6 +13,7 @@ import de.mossgrabers.framework.daw.IClip;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.INoteClip;
 import de.mossgrabers.framework.daw.ITrackBank;
+import de.mossgrabers.framework.daw.ModelChangeTracker;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.graphics.display.DisplayModel;
 import de.mossgrabers.framework.utils.ButtonEvent;
@@ -206,4 +207,12 @@ public class ClipMode extends AbstractTrackMode
     {
         return StringUtils.formatMeasures (this.model.getTransport ().getQuartersPerMeasure (), time, startOffset);
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getDependencies ()
+    {
+        return ModelChangeTracker.ALL_REGIONS;
+    }
 }
\ No newline at end of file
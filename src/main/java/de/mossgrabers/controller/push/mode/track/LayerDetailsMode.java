@@ -11,6 +11,7 @@ import de.mossgrabers.controller.push.view.ColorView;
 import de.mossgrabers.framework.controller.display.Display;
 import de.mossgrabers.framework.daw.IChannelBank;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.ModelRegion;
 import de.mossgrabers.framework.daw.data.IChannel;
 import de.mossgrabers.framework.graphics.display.DisplayModel;
 import de.mossgrabers.framework.utils.ButtonEvent;
@@ -25,6 +26,9 @@ import de.mossgrabers.framework.view.Views;
  */
 public class LayerDetailsMode extends BaseMode
 {
+    private static final int DEPENDENCIES = ModelRegion.mask (ModelRegion.DEVICE);
+
+
     /**
      * Constructor.
      *
@@ -148,4 +152,12 @@ public class LayerDetailsMode extends BaseMode
     {
         return this.model.getCursorDevice ().getLayerOrDrumPadBank ();
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getDependencies ()
+    {
+        return DEPENDENCIES;
+    }
 }
\ No newline at end of file
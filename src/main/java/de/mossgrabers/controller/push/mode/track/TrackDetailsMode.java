@@ -11,6 +11,7 @@ import de.mossgrabers.controller.push.view.ColorView;
 import de.mossgrabers.framework.controller.display.Display;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.ITrackBank;
+import de.mossgrabers.framework.daw.ModelRegion;
 import de.mossgrabers.framework.daw.data.IMasterTrack;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.graphics.display.DisplayModel;
@@ -26,6 +27,9 @@ import de.mossgrabers.framework.view.Views;
  */
 public class TrackDetailsMode extends BaseMode
 {
+    private static final int DEPENDENCIES = ModelRegion.mask (ModelRegion.TRACKS, ModelRegion.MASTER);
+
+
     /**
      * Constructor.
      *
@@ -220,4 +224,12 @@ public class TrackDetailsMode extends BaseMode
     {
         return this.model.getCurrentTrackBank ();
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getDependencies ()
+    {
+        return DEPENDENCIES;
+    }
 }
\ No newline at end of file
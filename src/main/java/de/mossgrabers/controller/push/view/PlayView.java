@@ -11,6 +11,7 @@ import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.ISceneBank;
+import de.mossgrabers.framework.daw.ModelChangeTracker;
 import de.mossgrabers.framework.daw.data.IScene;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.ButtonEvent;
@@ -128,4 +129,12 @@ public class PlayView extends AbstractPlayView<PushControlSurface, PushConfigura
         }
         super.onGridNote (note, velocity);
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getControlSurfaceDependencies ()
+    {
+        return ModelChangeTracker.NO_REGIONS;
+    }
 }
\ No newline at end of file
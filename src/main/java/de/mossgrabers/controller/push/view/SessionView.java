@@ -14,6 +14,7 @@ import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.ISceneBank;
 import de.mossgrabers.framework.daw.ITrackBank;
+import de.mossgrabers.framework.daw.ModelChangeTracker;
 import de.mossgrabers.framework.daw.data.IScene;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.mode.ModeManager;
@@ -201,4 +202,12 @@ public class SessionView extends AbstractSessionView<PushControlSurface, PushCon
                 return !this.surface.getConfiguration ().isPush2 () || buttonID != PushControlSurface.PUSH_BUTTON_USER_MODE;
         }
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getControlSurfaceDependencies ()
+    {
+        return ModelChangeTracker.NO_REGIONS;
+    }
 }
\ No newline at end of file
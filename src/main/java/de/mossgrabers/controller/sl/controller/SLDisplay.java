@@ -9,7 +9,7 @@ import de.mossgrabers.framework.controller.display.Display;
 import de.mossgrabers.framework.controller.display.Format;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
-import de.mossgrabers.framework.utils.StringUtils;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 
 
 /**
@@ -20,9 +20,9 @@ import de.mossgrabers.framework.utils.StringUtils;
 public class SLDisplay extends AbstractDisplay
 {
     /** The right arrow. */
-    public static final String     RIGHT_ARROW = ">";
+    public static final String     RIGHT_ARROW  = ">";
 
-    private static final String [] SPACES      =
+    private static final String [] SPACES       =
     {
         "",
         " ",
@@ -36,6 +36,8 @@ public class SLDisplay extends AbstractDisplay
         "         "
     };
 
+    private final SysexBuilder     sysexBuilder = new SysexBuilder (SLControlSurface.SYSEX_HEADER);
+
 
     /**
      * Constructor. 2 rows (0-1) with 4 blocks (0-3). Each block consists of 18 characters or 2
@@ -107,11 +109,15 @@ public class SLDisplay extends AbstractDisplay
     @Override
     public void writeLine (final int row, final String text)
     {
-        final int length = text.length ();
-        final int [] array = new int [length];
-        for (int i = 0; i < length; i++)
-            array[i] = text.charAt (i);
-        this.output.sendSysex (SLControlSurface.SYSEX_HEADER + "02 01 00 " + uint7ToHex (row + 1) + "04 " + StringUtils.toHexStr (array) + "00 F7");
+        this.sysexBuilder.start ().addByte (0x02).addByte (0x01).addByte (0x00).addByte (row + 1).addByte (0x04).addText (text).addByte (0x00).send (this.output);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected void writeSpan (final int row, final char [] text, final int length, final int start, final int end)
+    {
+        this.sysexBuilder.start ().addByte (0x02).addByte (0x01).addByte (0x00).addByte (row + 1).addByte (0x04).addText (text, 0, length).addByte (0x00).send (this.output);
     }
 
 
@@ -133,12 +139,4 @@ public class SLDisplay extends AbstractDisplay
             return text + SPACES[diff];
         return text;
     }
-
-
-    private static String uint7ToHex (final int x)
-    {
-        final int upper = x >> 4 & 0x7;
-        final int lower = x & 0xF;
-        return Integer.toString (upper, 16) + Integer.toString (lower, 16) + " ";
-    }
 }
\ No newline at end of file
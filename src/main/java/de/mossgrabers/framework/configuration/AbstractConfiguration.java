@@ -88,6 +88,8 @@ public abstract class AbstractConfiguration implements Configuration
     public static final Integer    KNOB_SPEED_NORMAL                 = Integer.valueOf (29);
     /** The speed of a knob in slow mode. */
     public static final Integer    KNOB_SPEED_SLOW                   = Integer.valueOf (30);
+    /** Register an observer with this ID to get notified about the changes of all settings. */
+    public static final Integer    ALL_SETTINGS                      = Integer.valueOf (-1);
 
     // Implementation IDs start at 50
 
@@ -1041,6 +1043,9 @@ public abstract class AbstractConfiguration implements Configuration
         final Set<SettingObserver> set = this.observers.get (settingID);
         if (set != null)
             set.forEach (SettingObserver::call);
+        final Set<SettingObserver> allSet = this.observers.get (ALL_SETTINGS);
+        if (allSet != null)
+            allSet.forEach (SettingObserver::call);
     }
 
 
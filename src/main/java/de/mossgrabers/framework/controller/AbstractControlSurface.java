@@ -4,13 +4,16 @@
 
 package de.mossgrabers.framework.controller;
 
+import de.mossgrabers.framework.configuration.AbstractConfiguration;
 import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.display.Display;
 import de.mossgrabers.framework.controller.grid.PadGrid;
 import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.ModelChangeTracker;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.mode.Mode;
 import de.mossgrabers.framework.mode.ModeManager;
 import de.mossgrabers.framework.utils.ButtonEvent;
 import de.mossgrabers.framework.utils.LatestTaskExecutor;
@@ -19,9 +22,7 @@ import de.mossgrabers.framework.view.ViewManager;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 
 /**
@@ -36,6 +37,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     protected static final int                          BUTTON_STATE_INTERVAL = 400;
     protected static final int                          NUM_NOTES             = 128;
     protected static final int                          NUM_BUTTONS           = 256;
+    protected static final int                          NUM_MIDI_CHANNELS     = 16;
 
     protected final IHost                               host;
     protected final C                                   configuration;
@@ -67,9 +69,9 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
 
     protected Display                                   display;
     protected final PadGrid                             pads;
-    protected final Map<Integer, Map<Integer, Integer>> triggerCommands       = new HashMap<> ();
-    protected final Map<Integer, Map<Integer, Integer>> continuousCommands    = new HashMap<> ();
-    protected final Map<Integer, Integer>               noteCommands          = new HashMap<> ();
+    protected final Integer [] []                       triggerCommands       = new Integer [NUM_MIDI_CHANNELS] [NUM_BUTTONS];
+    protected final Integer [] []                       continuousCommands    = new Integer [NUM_MIDI_CHANNELS] [NUM_BUTTONS];
+    protected final Integer []                          noteCommands          = new Integer [NUM_NOTES];
 
     private final boolean []                            gridNoteConsumed;
     private final ButtonEvent []                        gridNoteStates;
@@ -78,6 +80,12 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
 
     private final LatestTaskExecutor                    flushExecutor         = new LatestTaskExecutor ();
 
+    private ModelChangeTracker                          changeTracker;
+    private final int []                                seenRevisions         = ModelChangeTracker.createRevisions ();
+    private volatile boolean                            isFullUpdateRequested = true;
+    private View                                        lastView;
+    private Mode                                        lastMode;
+
 
     /**
      * Constructor.
@@ -102,6 +110,10 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
         if (this.input != null)
             this.input.setMidiCallback (this::handleMidi);
 
+        // Settings are not tracked as a model region but can change everything which is drawn
+        if (this.configuration != null)
+            this.configuration.addSettingObserver (AbstractConfiguration.ALL_SETTINGS, this::requestFullUpdate);
+
         this.gridNotes = new int [64];
 
         // Button related
@@ -232,7 +244,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     @Override
     public void assignTriggerCommand (final int midiCC, final int midiChannel, final Integer commandID)
     {
-        this.triggerCommands.computeIfAbsent (Integer.valueOf (midiCC), k -> new HashMap<> ()).put (Integer.valueOf (midiChannel), commandID);
+        this.triggerCommands[midiChannel][midiCC] = commandID;
     }
 
 
@@ -248,8 +260,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     @Override
     public Integer getTriggerCommand (final int midiCC, final int midiChannel)
     {
-        final Map<Integer, Integer> channelMap = this.triggerCommands.get (Integer.valueOf (midiCC));
-        return channelMap == null ? null : channelMap.get (Integer.valueOf (midiChannel));
+        return lookupCommand (this.triggerCommands, midiChannel, midiCC);
     }
 
 
@@ -265,13 +276,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     @Override
     public void assignContinuousCommand (final int midiCC, final int midiChannel, final Integer commandID)
     {
-        Map<Integer, Integer> channelMap = this.continuousCommands.get (Integer.valueOf (midiCC));
-        if (channelMap == null)
-        {
-            channelMap = new HashMap<> ();
-            this.continuousCommands.put (Integer.valueOf (midiCC), channelMap);
-        }
-        channelMap.put (Integer.valueOf (midiChannel), commandID);
+        this.continuousCommands[midiChannel][midiCC] = commandID;
     }
 
 
@@ -287,8 +292,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     @Override
     public Integer getContinuousCommand (final int midiCC, final int midiChannel)
     {
-        final Map<Integer, Integer> channelMap = this.continuousCommands.get (Integer.valueOf (midiCC));
-        return channelMap == null ? null : channelMap.get (Integer.valueOf (midiChannel));
+        return lookupCommand (this.continuousCommands, midiChannel, midiCC);
     }
 
 
@@ -296,7 +300,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     @Override
     public void assignNoteCommand (final int midiNote, final Integer commandID)
     {
-        this.noteCommands.put (Integer.valueOf (midiNote), commandID);
+        this.noteCommands[midiNote] = commandID;
     }
 
 
@@ -304,7 +308,23 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     @Override
     public Integer getNoteCommand (final int midiNote)
     {
-        return this.noteCommands.get (Integer.valueOf (midiNote));
+        return midiNote >= 0 && midiNote < NUM_NOTES ? this.noteCommands[midiNote] : null;
+    }
+
+
+    /**
+     * Get a command ID from a channel/CC dispatch table.
+     *
+     * @param table The dispatch table indexed by [channel][cc]
+     * @param midiChannel The midi channel
+     * @param midiCC The midi CC
+     * @return The ID of the command or null if none is assigned or the indices are out of range
+     */
+    private static Integer lookupCommand (final Integer [] [] table, final int midiChannel, final int midiCC)
+    {
+        if (midiChannel < 0 || midiChannel >= NUM_MIDI_CHANNELS || midiCC < 0 || midiCC >= NUM_BUTTONS)
+            return null;
+        return table[midiChannel][midiCC];
     }
 
 
@@ -613,8 +633,20 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
         this.flushExecutor.execute ( () -> {
             try
             {
-                this.scheduledFlush ();
-                this.redrawGrid ();
+                final int changes = this.collectChanges ();
+                final View view = this.viewManager.getActiveView ();
+                if (view == null)
+                {
+                    this.scheduledFlush ();
+                    return;
+                }
+
+                final Mode mode = this.modeManager.getActiveOrTempMode ();
+                final int surfaceDependencies = view.getControlSurfaceDependencies () | (mode == null ? ModelChangeTracker.NO_REGIONS : mode.getDependencies ());
+                if (isAffected (changes, surfaceDependencies))
+                    this.scheduledFlush ();
+                if (isAffected (changes, view.getGridDependencies ()))
+                    this.redrawGrid ();
             }
             catch (final RuntimeException ex)
             {
@@ -624,6 +656,68 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void setChangeTracker (final ModelChangeTracker changeTracker)
+    {
+        this.changeTracker = changeTracker;
+        this.requestFullUpdate ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void requestFullUpdate ()
+    {
+        this.isFullUpdateRequested = true;
+    }
+
+
+    /**
+     * Test if a part of the surface needs to be redrawn. Parts which depend on all regions are
+     * always redrawn since they might also depend on state which is not tracked (e.g. the browser).
+     *
+     * @param changes The bit mask of the changed regions
+     * @param dependencies The bit mask of the regions the part depends on
+     * @return True if the part needs to be redrawn
+     */
+    private static boolean isAffected (final int changes, final int dependencies)
+    {
+        return dependencies == ModelChangeTracker.ALL_REGIONS || (changes & dependencies) != 0;
+    }
+
+
+    /**
+     * Get the model regions which have changed since the last flush. All regions are reported as
+     * changed if there is no change tracker, a full update was requested or the active view or mode
+     * has changed.
+     *
+     * @return The bit mask of the changed regions
+     */
+    private int collectChanges ()
+    {
+        if (this.changeTracker == null)
+            return ModelChangeTracker.ALL_REGIONS;
+
+        int changes = this.changeTracker.pollChanges (this.seenRevisions);
+        if (this.isFullUpdateRequested)
+        {
+            this.isFullUpdateRequested = false;
+            changes = ModelChangeTracker.ALL_REGIONS;
+        }
+
+        final View view = this.viewManager.getActiveView ();
+        final Mode mode = this.modeManager.getActiveOrTempMode ();
+        if (view != this.lastView || mode != this.lastMode)
+        {
+            this.lastView = view;
+            this.lastMode = mode;
+            changes = ModelChangeTracker.ALL_REGIONS;
+        }
+        return changes;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void shutdown ()
@@ -642,7 +736,10 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
 
 
     /**
-     * Handle received midi data.
+     * Handle received midi data. Inputs which change the state of the surface (buttons, pads and
+     * note commands) request a full update, see handleCC, handleGridNote and handleNoteEvent. All
+     * other inputs (e.g. knobs, faders, pitch bend) change the model, which reports its changes
+     * itself.
      *
      * @param status The midi status byte
      * @param data1 The midi data byte 1
@@ -798,6 +895,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
      */
     protected void handleGridNote (final int note, final int velocity)
     {
+        this.requestFullUpdate ();
         this.gridNoteStates[note] = velocity > 0 ? ButtonEvent.DOWN : ButtonEvent.UP;
         if (velocity > 0)
             this.gridNoteVelocities[note] = velocity;
@@ -823,6 +921,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
             return;
 
         this.gridNoteStates[note] = ButtonEvent.LONG;
+        this.requestFullUpdate ();
 
         final View view = this.viewManager.getActiveView ();
         if (view != null)
@@ -876,6 +975,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     {
         if (this.isButton (cc))
         {
+            this.requestFullUpdate ();
             this.buttonStates[cc] = value > 0 ? ButtonEvent.DOWN : ButtonEvent.UP;
 
             if (this.buttonStates[cc] == ButtonEvent.DOWN)
@@ -910,6 +1010,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
         final Integer commandID = this.getNoteCommand (note);
         if (commandID != null)
         {
+            this.requestFullUpdate ();
             view.executeNoteCommand (commandID, velocity);
             return;
         }
@@ -934,6 +1035,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
         Integer commandID = this.getTriggerCommand (cc, channel);
         if (commandID != null)
         {
+            this.requestFullUpdate ();
             final ButtonEvent event = this.isButton (cc) ? this.buttonStates[cc] : null;
             view.executeTriggerCommand (commandID, event);
             return;
@@ -989,6 +1091,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
             return;
 
         this.buttonStates[buttonID] = ButtonEvent.LONG;
+        this.requestFullUpdate ();
         this.handleCCEvent (0, buttonID, 127);
     }
 }
\ No newline at end of file
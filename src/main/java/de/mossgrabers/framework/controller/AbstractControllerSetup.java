@@ -14,6 +14,7 @@ import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.mode.Modes;
 import de.mossgrabers.framework.scale.Scales;
+import de.mossgrabers.framework.utils.OutputScheduler;
 import de.mossgrabers.framework.view.View;
 
 import java.util.ArrayList;
@@ -105,6 +106,11 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
         this.createScales ();
         this.createModel ();
         this.createSurface ();
+        if (this.model != null)
+        {
+            for (final S surface: this.surfaces)
+                surface.setChangeTracker (this.model.getChangeTracker ());
+        }
         this.createModes ();
         this.createObservers ();
         this.createViews ();
@@ -122,6 +128,9 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
         this.configuration.clearSettingObservers ();
         for (final S surface: this.surfaces)
             surface.shutdown ();
+
+        final OutputScheduler scheduler = OutputScheduler.getInstance ();
+        this.host.println ("Output tasks: " + scheduler.getSubmitted () + " submitted, " + scheduler.getCoalesced () + " coalesced, " + scheduler.getExecuted () + " executed, " + scheduler.getQueueDepth () + " pending.");
         this.host.println ("Exited.");
     }
 
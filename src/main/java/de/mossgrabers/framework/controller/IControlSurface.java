@@ -7,6 +7,7 @@ package de.mossgrabers.framework.controller;
 import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.display.Display;
 import de.mossgrabers.framework.controller.grid.PadGrid;
+import de.mossgrabers.framework.daw.ModelChangeTracker;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.mode.ModeManager;
@@ -501,6 +502,23 @@ public interface IControlSurface<C extends Configuration>
     void flush ();
 
 
+    /**
+     * Set the tracker which counts the changes of the model. If set, the control surface and the
+     * grid are only updated on a flush if one of the model regions, on which the active view and
+     * mode depend, has changed. If not set, everything is updated on every flush.
+     *
+     * @param changeTracker The change tracker, may be null
+     */
+    void setChangeTracker (ModelChangeTracker changeTracker);
+
+
+    /**
+     * Request that the control surface and the grid are completely updated on the next flush
+     * independent of the model changes, e.g. because the state of the surface itself has changed.
+     */
+    void requestFullUpdate ();
+
+
     /**
      * Overwrite for shutdown cleanups.
      */
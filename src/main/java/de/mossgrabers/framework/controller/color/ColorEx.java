@@ -167,4 +167,27 @@ public class ColorEx
     {
         return this.blueValue;
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals (final Object obj)
+    {
+        if (this == obj)
+            return true;
+        if (obj == null || this.getClass () != obj.getClass ())
+            return false;
+        final ColorEx other = (ColorEx) obj;
+        return Double.compare (this.redValue, other.redValue) == 0 && Double.compare (this.greenValue, other.greenValue) == 0 && Double.compare (this.blueValue, other.blueValue) == 0;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode ()
+    {
+        int result = Double.hashCode (this.redValue);
+        result = 31 * result + Double.hashCode (this.greenValue);
+        return 31 * result + Double.hashCode (this.blueValue);
+    }
 }
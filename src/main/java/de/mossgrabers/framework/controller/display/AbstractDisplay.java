@@ -7,6 +7,8 @@ package de.mossgrabers.framework.controller.display;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 
+import java.util.Arrays;
+
 
 /**
  * Abstract implementation of a display.
@@ -26,13 +28,27 @@ public abstract class AbstractDisplay implements Display
     protected int           noOfCharacters;
 
     protected final String  emptyLine;
-    protected String        notificationMessage;
     protected boolean       isNotificationActive;
 
-    protected String []     currentMessage;
-    protected String []     message;
     protected String []     cells;
 
+    /** The composed text of each row, only the first rowLengths[row] characters are valid. */
+    protected char [] []    rows;
+    protected int []        rowLengths;
+    /** The text which was last handed to the device. */
+    protected char [] []    currentRows;
+    protected int []        currentRowLengths;
+    /** One bit for each cell of a row which differs from the text on the device. */
+    protected long []       dirtyCells;
+
+    /** The padded notification message and an empty row, both noOfCharacters long. */
+    protected final char [] notificationRow;
+    private final char []   emptyRow;
+    /** The text which was last handed to writeLine by the default implementation of writeSpan. */
+    private final String [] lineTexts;
+    private final int []    dirtyRowCounts;
+    private final int []    cleanRowCounts;
+
 
     /**
      * Constructor.
@@ -56,13 +72,25 @@ public abstract class AbstractDisplay implements Display
         for (int i = 0; i < this.noOfCharacters; i++)
             sb.append (' ');
         this.emptyLine = sb.toString ();
-        this.notificationMessage = this.emptyLine;
         this.isNotificationActive = false;
 
-        this.currentMessage = new String [this.noOfLines];
-
-        this.message = new String [this.noOfLines];
         this.cells = new String [this.noOfLines * this.noOfCells];
+
+        this.rows = new char [this.noOfLines] [this.noOfCharacters];
+        this.currentRows = new char [this.noOfLines] [this.noOfCharacters];
+        // -1 marks a row which has not been composed or sent yet
+        this.rowLengths = new int [this.noOfLines];
+        this.currentRowLengths = new int [this.noOfLines];
+        Arrays.fill (this.rowLengths, -1);
+        Arrays.fill (this.currentRowLengths, -1);
+        this.dirtyCells = new long [this.noOfLines];
+        this.notificationRow = new char [this.noOfCharacters];
+        this.emptyRow = new char [this.noOfCharacters];
+        Arrays.fill (this.notificationRow, ' ');
+        Arrays.fill (this.emptyRow, ' ');
+        this.lineTexts = new String [this.noOfLines];
+        this.dirtyRowCounts = new int [this.noOfLines];
+        this.cleanRowCounts = new int [this.noOfLines];
     }
 
 
@@ -70,7 +98,12 @@ public abstract class AbstractDisplay implements Display
     @Override
     public AbstractDisplay setRow (final int row, final String str)
     {
-        this.message[row] = str;
+        final String text = str == null ? "" : str;
+        final int length = text.length ();
+        this.ensureRowCapacity (row, length);
+        text.getChars (0, length, this.rows[row], 0);
+        this.rowLengths[row] = length;
+        this.dirtyCells[row] = -1;
         return this;
     }
 
@@ -121,9 +154,47 @@ public abstract class AbstractDisplay implements Display
     public AbstractDisplay done (final int row)
     {
         final int index = row * this.noOfCells;
-        this.message[row] = "";
+
+        int length = 0;
+        for (int i = 0; i < this.noOfCells; i++)
+        {
+            final String cell = this.cells[index + i];
+            if (cell != null)
+                length += cell.length ();
+        }
+        this.ensureRowCapacity (row, length);
+
+        final char [] text = this.rows[row];
+        final char [] current = this.currentRows[row];
+        final boolean isSameLength = length == this.currentRowLengths[row];
+        long dirty = 0;
+        int pos = 0;
         for (int i = 0; i < this.noOfCells; i++)
-            this.message[row] += this.cells[index + i];
+        {
+            final String cell = this.cells[index + i];
+            if (cell == null)
+                continue;
+            final int end = pos + cell.length ();
+            cell.getChars (0, cell.length (), text, pos);
+            final long cellBit = 1L << Math.min (i, 63);
+            if (isSameLength)
+            {
+                for (int j = pos; j < end; j++)
+                {
+                    if (text[j] != current[j])
+                    {
+                        dirty |= cellBit;
+                        break;
+                    }
+                }
+            }
+            else
+                dirty |= cellBit;
+            pos = end;
+        }
+
+        this.rowLengths[row] = length;
+        this.dirtyCells[row] = dirty;
         return this;
     }
 
@@ -152,9 +223,7 @@ public abstract class AbstractDisplay implements Display
 
     protected void notifyOnDisplay (final String message)
     {
-        final int padLength = (this.noOfCharacters - message.length ()) / 2 + 1;
-        final String padding = padLength > 0 ? this.emptyLine.substring (0, padLength) : "";
-        this.notificationMessage = (padding + message + padding).substring (0, this.noOfCharacters);
+        this.setNotificationRow (message, (this.noOfCharacters - message.length ()) / 2 + 1);
         this.isNotificationActive = true;
         this.flush ();
         this.host.scheduleTask ( () -> {
@@ -164,27 +233,105 @@ public abstract class AbstractDisplay implements Display
     }
 
 
+    /**
+     * Write the message into the notification row. The rest of the row is filled with spaces.
+     *
+     * @param message The message
+     * @param padLength The number of spaces in front of the message
+     */
+    protected void setNotificationRow (final String message, final int padLength)
+    {
+        Arrays.fill (this.notificationRow, ' ');
+        final int start = Math.max (0, padLength);
+        final int length = Math.min (message.length (), this.noOfCharacters - start);
+        if (length > 0)
+            message.getChars (0, length, this.notificationRow, start);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void flush ()
     {
         if (this.isNotificationActive)
         {
-            this.writeLine (0, this.notificationMessage);
-            for (int row = 1; row < this.noOfLines; row++)
-                this.writeLine (row, this.emptyLine);
+            for (int row = 0; row < this.noOfLines; row++)
+            {
+                // The row text is no longer on the device
+                this.dirtyCells[row] = -1;
+                this.flushRow (row, row == 0 ? this.notificationRow : this.emptyRow, this.noOfCharacters);
+            }
             return;
         }
 
         for (int row = 0; row < this.noOfLines; row++)
         {
-            // Has anything changed?
-            if (this.currentMessage[row] != null && this.currentMessage[row].equals (this.message[row]))
+            final int length = this.rowLengths[row];
+            if (length < 0 || this.dirtyCells[row] == 0 && length == this.currentRowLengths[row])
+            {
+                this.cleanRowCounts[row]++;
                 continue;
-            this.currentMessage[row] = this.message[row];
-            if (this.currentMessage[row] != null)
-                this.writeLine (row, this.currentMessage[row]);
+            }
+            this.flushRow (row, this.rows[row], length);
+            this.dirtyCells[row] = 0;
+        }
+    }
+
+
+    /**
+     * Compares the text of a row with the text on the device and sends the changed characters.
+     *
+     * @param row The row
+     * @param text The new text of the row
+     * @param length The number of valid characters in the text
+     */
+    private void flushRow (final int row, final char [] text, final int length)
+    {
+        final char [] current = this.currentRows[row];
+        int start = 0;
+        int end = length;
+        if (length == this.currentRowLengths[row])
+        {
+            while (start < length && text[start] == current[start])
+                start++;
+            if (start == length)
+            {
+                this.cleanRowCounts[row]++;
+                return;
+            }
+            while (end > start && text[end - 1] == current[end - 1])
+                end--;
+        }
+
+        this.ensureRowCapacity (row, length);
+        System.arraycopy (text, 0, this.currentRows[row], 0, length);
+        this.currentRowLengths[row] = length;
+        this.dirtyRowCounts[row]++;
+        this.writeSpan (row, this.currentRows[row], length, start, end);
+    }
+
+
+    /**
+     * Send the changed part of a row to the display. The default implementation sends the whole
+     * row with writeLine, the text is only converted to a string if it differs from the previous
+     * one of the row. Overwrite to send the characters directly or only the changed characters, if
+     * the device supports it. The text array must not be modified or kept after the call.
+     *
+     * @param row The row
+     * @param text The complete text of the row
+     * @param length The number of valid characters in the text
+     * @param start The index of the first changed character
+     * @param end The index after the last changed character
+     */
+    protected void writeSpan (final int row, final char [] text, final int length, final int start, final int end)
+    {
+        String line = this.lineTexts[row];
+        if (line == null || !isEqual (line, text, length))
+        {
+            line = new String (text, 0, length);
+            this.lineTexts[row] = line;
         }
+        this.writeLine (row, line);
     }
 
 
@@ -193,6 +340,81 @@ public abstract class AbstractDisplay implements Display
     public void forceFlush ()
     {
         for (int row = 0; row < this.noOfLines; row++)
-            this.currentMessage[row] = "";
+        {
+            this.currentRowLengths[row] = -1;
+            this.dirtyCells[row] = -1;
+        }
+    }
+
+
+    /**
+     * Get how often a row was sent to the device since the display was created.
+     *
+     * @param row The row
+     * @return The number of flushes in which the row had changed
+     */
+    public int getDirtyRowCount (final int row)
+    {
+        return this.dirtyRowCounts[row];
+    }
+
+
+    /**
+     * Get how often sending a row was skipped since the display was created.
+     *
+     * @param row The row
+     * @return The number of flushes in which the row had not changed
+     */
+    public int getCleanRowCount (final int row)
+    {
+        return this.cleanRowCounts[row];
+    }
+
+
+    /**
+     * Get the cells of a row which differ from the text on the device.
+     *
+     * @param row The row
+     * @return One bit for each cell (bit 0 is the first cell)
+     */
+    public long getDirtyCells (final int row)
+    {
+        return this.dirtyCells[row];
+    }
+
+
+    /**
+     * Compares a text with the characters of an array.
+     *
+     * @param text The text
+     * @param chars The characters
+     * @param length The number of valid characters in the array
+     * @return True if they are equal
+     */
+    private static boolean isEqual (final String text, final char [] chars, final int length)
+    {
+        if (text.length () != length)
+            return false;
+        for (int i = 0; i < length; i++)
+        {
+            if (text.charAt (i) != chars[i])
+                return false;
+        }
+        return true;
+    }
+
+
+    /**
+     * Make sure that the row buffers can hold the given number of characters.
+     *
+     * @param row The row
+     * @param length The number of characters
+     */
+    private void ensureRowCapacity (final int row, final int length)
+    {
+        if (this.rows[row].length < length)
+            this.rows[row] = Arrays.copyOf (this.rows[row], length);
+        if (this.currentRows[row].length < length)
+            this.currentRows[row] = Arrays.copyOf (this.currentRows[row], length);
     }
 }
\ No newline at end of file
@@ -0,0 +1,100 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.display;
+
+/**
+ * Collects the changed character spans of display rows until they are sent. Intended for displays
+ * which send their rows asynchronously with a LatestTaskExecutor: such an executor drops tasks
+ * which were not started yet, therefore the span of a dropped task is merged into the next one.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class PendingSpans
+{
+    /**
+     * Sends a span of a row to the device.
+     */
+    public interface Sender
+    {
+        /**
+         * Send the span.
+         *
+         * @param row The row
+         * @param text The text of the row
+         * @param start The index of the first character to send
+         * @param end The index after the last character to send
+         */
+        void send (int row, char [] text, int start, int end);
+    }
+
+
+    private final char [] [] texts;
+    private final int []     starts;
+    private final int []     ends;
+
+
+    /**
+     * Constructor.
+     *
+     * @param noOfLines The number of rows
+     * @param noOfCharacters The number of characters of a row
+     */
+    public PendingSpans (final int noOfLines, final int noOfCharacters)
+    {
+        this.texts = new char [noOfLines] [noOfCharacters];
+        this.starts = new int [noOfLines];
+        this.ends = new int [noOfLines];
+        for (int row = 0; row < noOfLines; row++)
+            this.reset (row);
+    }
+
+
+    /**
+     * Store the text of a row and merge the changed span with the not yet sent span.
+     *
+     * @param row The row
+     * @param text The text of the row, is copied
+     * @param start The index of the first changed character
+     * @param end The index after the last changed character
+     */
+    public void add (final int row, final char [] text, final int start, final int end)
+    {
+        final char [] pending = this.texts[row];
+        synchronized (pending)
+        {
+            final int length = Math.min (pending.length, text.length);
+            System.arraycopy (text, 0, pending, 0, length);
+            this.starts[row] = Math.min (this.starts[row], start);
+            this.ends[row] = Math.min (length, Math.max (this.ends[row], end));
+        }
+    }
+
+
+    /**
+     * Send the pending span of a row, if any, and clear it.
+     *
+     * @param row The row
+     * @param sender Sends the span to the device
+     */
+    public void send (final int row, final Sender sender)
+    {
+        final char [] pending = this.texts[row];
+        synchronized (pending)
+        {
+            final int start = this.starts[row];
+            final int end = this.ends[row];
+            this.reset (row);
+            if (start < end)
+                sender.send (row, pending, start, end);
+        }
+    }
+
+
+    private void reset (final int row)
+    {
+        this.starts[row] = Integer.MAX_VALUE;
+        this.ends[row] = 0;
+    }
+}
@@ -0,0 +1,40 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.grid;
+
+import de.mossgrabers.framework.daw.midi.IMidiOutput;
+
+
+/**
+ * Encodes all pad changes of one flush into as few device specific messages as possible (e.g. a
+ * single sysex which sets multiple LEDs).
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public interface PadGridEncoder
+{
+    /**
+     * Send the base colors of all pads which changed in the current frame.
+     *
+     * @param output The midi output to send to
+     * @param notes The (controller) notes of the changed pads
+     * @param colors The colors of the pads
+     * @param count The number of valid entries in the arrays
+     */
+    void sendNoteStates (IMidiOutput output, int [] notes, int [] colors, int count);
+
+
+    /**
+     * Send the blink colors of all pads which changed in the current frame. Called after
+     * {@link #sendNoteStates(IMidiOutput, int[], int[], int)} since blinking needs a base color.
+     *
+     * @param output The midi output to send to
+     * @param notes The (controller) notes of the changed pads
+     * @param blinkColors The colors to use for blinking
+     * @param fast Blink fast or slow
+     * @param count The number of valid entries in the arrays
+     */
+    void sendBlinkStates (IMidiOutput output, int [] notes, int [] blinkColors, boolean [] fast, int count);
+}
@@ -29,6 +29,13 @@ public class PadGridImpl implements PadGrid
     protected final boolean []   currentBlinkFast;
     protected final boolean []   blinkFast;
 
+    private final int []         pendingNotes;
+    private final int []         pendingColors;
+    private final int []         pendingBlinkNotes;
+    private final int []         pendingBlinkColors;
+    private final boolean []     pendingBlinkFast;
+    private PadGridEncoder       encoder;
+
     private final int            rows;
     private final int            cols;
     private final int            startNote;
@@ -75,6 +82,12 @@ public class PadGridImpl implements PadGrid
         this.currentBlinkFast = new boolean [NUM_NOTES];
         this.blinkFast = new boolean [NUM_NOTES];
 
+        this.pendingNotes = new int [NUM_NOTES];
+        this.pendingColors = new int [NUM_NOTES];
+        this.pendingBlinkNotes = new int [NUM_NOTES];
+        this.pendingBlinkColors = new int [NUM_NOTES];
+        this.pendingBlinkFast = new boolean [NUM_NOTES];
+
         final int color = colorManager.getColor (GRID_OFF);
         Arrays.fill (this.currentButtonColors, color);
         Arrays.fill (this.buttonColors, color);
@@ -85,6 +98,19 @@ public class PadGridImpl implements PadGrid
     }
 
 
+    /**
+     * Set an encoder which sends all pad changes of a flush in one go. If no encoder is set each
+     * changed pad is sent individually with {@link #sendNoteState(int, int)} and
+     * {@link #sendBlinkState(int, int, boolean)}.
+     *
+     * @param encoder The encoder, null to send pads individually
+     */
+    public void setEncoder (final PadGridEncoder encoder)
+    {
+        this.encoder = encoder;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void light (final int note, final int color)
@@ -200,28 +226,50 @@ public class PadGridImpl implements PadGrid
     @Override
     public void flush ()
     {
+        final int offColor = this.colorManager.getColor (GRID_OFF);
+
+        int noteCount = 0;
+        int blinkCount = 0;
         for (int i = this.startNote; i < this.endNote; i++)
         {
+            final boolean baseChanged = this.currentButtonColors[i] != this.buttonColors[i];
+            // Blinking color needs a base color, therefore the base color is sent as well
+            if (!baseChanged && this.currentBlinkColors[i] == this.blinkColors[i] && this.currentBlinkFast[i] == this.blinkFast[i])
+                continue;
+
+            this.currentButtonColors[i] = this.buttonColors[i];
+            this.currentBlinkColors[i] = this.blinkColors[i];
+            this.currentBlinkFast[i] = this.blinkFast[i];
+
             final int note = this.translateToController (i);
+            this.pendingNotes[noteCount] = note;
+            this.pendingColors[noteCount] = this.currentButtonColors[i];
+            noteCount++;
 
-            boolean baseChanged = false;
-            if (this.currentButtonColors[i] != this.buttonColors[i])
+            if (this.blinkColors[i] != offColor)
             {
-                this.currentButtonColors[i] = this.buttonColors[i];
-                this.sendNoteState (note, this.buttonColors[i]);
-                baseChanged = true;
+                this.pendingBlinkNotes[blinkCount] = note;
+                this.pendingBlinkColors[blinkCount] = this.blinkColors[i];
+                this.pendingBlinkFast[blinkCount] = this.blinkFast[i];
+                blinkCount++;
             }
-            // No "else" here: Blinking color needs a base color
-            if (baseChanged || this.currentBlinkColors[i] != this.blinkColors[i] || this.currentBlinkFast[i] != this.blinkFast[i])
-            {
-                this.currentBlinkColors[i] = this.blinkColors[i];
-                this.currentBlinkFast[i] = this.blinkFast[i];
+        }
 
-                this.sendNoteState (note, this.currentButtonColors[i]);
-                if (this.blinkColors[i] != this.colorManager.getColor (GRID_OFF))
-                    this.sendBlinkState (note, this.blinkColors[i], this.blinkFast[i]);
-            }
+        if (noteCount == 0)
+            return;
+
+        if (this.encoder != null)
+        {
+            this.encoder.sendNoteStates (this.output, this.pendingNotes, this.pendingColors, noteCount);
+            if (blinkCount > 0)
+                this.encoder.sendBlinkStates (this.output, this.pendingBlinkNotes, this.pendingBlinkColors, this.pendingBlinkFast, blinkCount);
+            return;
         }
+
+        for (int i = 0; i < noteCount; i++)
+            this.sendNoteState (this.pendingNotes[i], this.pendingColors[i]);
+        for (int i = 0; i < blinkCount; i++)
+            this.sendBlinkState (this.pendingBlinkNotes[i], this.pendingBlinkColors[i], this.pendingBlinkFast[i]);
     }
 
 
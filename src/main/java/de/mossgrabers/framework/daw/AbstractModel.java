@@ -39,7 +39,8 @@ public abstract class AbstractModel implements IModel
     protected ICursorDevice      instrumentDevice;
     protected ICursorDevice      cursorDevice;
     protected ICursorDevice      drumDevice64;
-    protected Map<String, IClip> cursorClips = new HashMap<> ();
+    protected Map<String, IClip> cursorClips   = new HashMap<> ();
+    protected ModelChangeTracker changeTracker = new ModelChangeTracker ();
 
     protected Scales             scales;
     protected ColorManager       colorManager;
@@ -74,6 +75,14 @@ public abstract class AbstractModel implements IModel
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public ModelChangeTracker getChangeTracker ()
+    {
+        return this.changeTracker;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public IValueChanger getValueChanger ()
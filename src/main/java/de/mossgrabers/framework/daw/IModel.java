@@ -27,6 +27,14 @@ public interface IModel
     IHost getHost ();
 
 
+    /**
+     * Get the tracker which counts the changes of the model regions.
+     *
+     * @return The change tracker
+     */
+    ModelChangeTracker getChangeTracker ();
+
+
     /**
      * Get the value changer.
      *
@@ -0,0 +1,91 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+
+/**
+ * Counts the changes of the model regions. The DAW observers increase the revision of a region
+ * when one of its values changes. Consumers (e.g. control surfaces) keep the revisions they have
+ * seen and poll for the regions which have changed since then. Since every consumer keeps its own
+ * revisions, several surfaces can share the same tracker.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class ModelChangeTracker
+{
+    /**
+     * Bit mask which contains all regions. Use it for views and modes which need to be redrawn on
+     * every flush.
+     */
+    public static final int          ALL_REGIONS = -1;
+
+    /** Bit mask which contains no region. */
+    public static final int          NO_REGIONS  = 0;
+
+    private static final int         NUM_REGIONS = ModelRegion.values ().length;
+
+    private final AtomicIntegerArray revisions   = new AtomicIntegerArray (NUM_REGIONS);
+
+
+    /**
+     * Mark a region as changed.
+     *
+     * @param region The region which has changed
+     */
+    public void markChanged (final ModelRegion region)
+    {
+        this.revisions.incrementAndGet (region.ordinal ());
+    }
+
+
+    /**
+     * Mark all regions as changed.
+     */
+    public void markAllChanged ()
+    {
+        for (int i = 0; i < NUM_REGIONS; i++)
+            this.revisions.incrementAndGet (i);
+    }
+
+
+    /**
+     * Create an array to store the revisions seen by a consumer. The revisions are initialised so
+     * that the first poll reports all regions as changed.
+     *
+     * @return The array
+     */
+    public static int [] createRevisions ()
+    {
+        final int [] seen = new int [NUM_REGIONS];
+        for (int i = 0; i < NUM_REGIONS; i++)
+            seen[i] = -1;
+        return seen;
+    }
+
+
+    /**
+     * Get the regions which have changed since the given revisions were stored and update them to
+     * the current revisions.
+     *
+     * @param seen The revisions seen by the consumer, created with {@link #createRevisions()}
+     * @return The bit mask of the changed regions (see {@link ModelRegion#getMask()})
+     */
+    public int pollChanges (final int [] seen)
+    {
+        int changes = NO_REGIONS;
+        for (int i = 0; i < NUM_REGIONS; i++)
+        {
+            final int revision = this.revisions.get (i);
+            if (seen[i] != revision)
+            {
+                seen[i] = revision;
+                changes |= 1 << i;
+            }
+        }
+        return changes;
+    }
+}
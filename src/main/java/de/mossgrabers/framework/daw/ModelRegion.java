@@ -0,0 +1,59 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+/**
+ * The regions of the model for which changes are tracked. Views and modes declare the regions they
+ * depend on so that they only need to be redrawn if one of them has changed.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public enum ModelRegion
+{
+    /** The transport states like play, record, tempo and automation. */
+    TRANSPORT,
+    /** The play position. */
+    POSITION,
+    /** The tracks of the track banks including volume, pan and sends. */
+    TRACKS,
+    /** The VU meters of all channels. */
+    VU,
+    /** The clip launcher slots. */
+    SLOTS,
+    /** The scenes. */
+    SCENES,
+    /** The master track. */
+    MASTER,
+    /** The cursor device, its siblings, layers and drum pads. */
+    DEVICE,
+    /** The parameters of the cursor device. */
+    PARAMETERS;
+
+
+    /**
+     * Get the bit mask of the region.
+     *
+     * @return The bit mask
+     */
+    public int getMask ()
+    {
+        return 1 << this.ordinal ();
+    }
+
+
+    /**
+     * Combine several regions into one bit mask.
+     *
+     * @param regions The regions
+     * @return The bit mask
+     */
+    public static int mask (final ModelRegion... regions)
+    {
+        int mask = 0;
+        for (final ModelRegion region: regions)
+            mask |= region.getMask ();
+        return mask;
+    }
+}
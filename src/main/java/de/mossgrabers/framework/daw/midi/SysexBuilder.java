@@ -0,0 +1,185 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+import de.mossgrabers.framework.utils.StringUtils;
+
+import java.util.Arrays;
+
+
+/**
+ * Builds binary system exclusive messages in a preallocated buffer. The message always starts
+ * with the fixed header given to the constructor and is terminated with F7 when sent. Each sent
+ * message is a new array of exactly the length of the message, since the output (e.g. the host)
+ * might keep a reference to it. A builder is not thread-safe, use one instance per sending thread.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SysexBuilder
+{
+    private static final int INITIAL_SIZE = 128;
+
+    private final int        headerLength;
+    private byte []          buffer;
+    private int              position;
+
+
+    /**
+     * Constructor.
+     *
+     * @param header The header of the message, e.g. "F0 00 20 29 02 18 "
+     */
+    public SysexBuilder (final String header)
+    {
+        this (toBytes (header));
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param header The header of the message including the starting F0
+     */
+    public SysexBuilder (final byte [] header)
+    {
+        this.headerLength = header.length;
+        this.buffer = new byte [Math.max (INITIAL_SIZE, header.length + 1)];
+        System.arraycopy (header, 0, this.buffer, 0, header.length);
+        this.position = this.headerLength;
+    }
+
+
+    /**
+     * Start a new message. Everything after the header is discarded.
+     *
+     * @return The builder for chaining
+     */
+    public SysexBuilder start ()
+    {
+        this.position = this.headerLength;
+        return this;
+    }
+
+
+    /**
+     * Add one byte.
+     *
+     * @param value The value of the byte, only the lower 7 bits are used
+     * @return The builder for chaining
+     */
+    public SysexBuilder addByte (final int value)
+    {
+        this.ensureCapacity (1);
+        this.buffer[this.position++] = (byte) (value & 0x7F);
+        return this;
+    }
+
+
+    /**
+     * Add several bytes.
+     *
+     * @param values The values of the bytes, only the lower 7 bits are used
+     * @return The builder for chaining
+     */
+    public SysexBuilder addBytes (final int [] values)
+    {
+        this.ensureCapacity (values.length);
+        for (final int value: values)
+            this.buffer[this.position++] = (byte) (value & 0x7F);
+        return this;
+    }
+
+
+    /**
+     * Add the characters of a text as 7 bit ASCII.
+     *
+     * @param text The text
+     * @return The builder for chaining
+     */
+    public SysexBuilder addText (final String text)
+    {
+        return this.addText (text, 0, text.length ());
+    }
+
+
+    /**
+     * Add a part of the characters of a text as 7 bit ASCII.
+     *
+     * @param text The text
+     * @param start The index of the first character to add
+     * @param end The index after the last character to add
+     * @return The builder for chaining
+     */
+    public SysexBuilder addText (final String text, final int start, final int end)
+    {
+        this.ensureCapacity (end - start);
+        for (int i = start; i < end; i++)
+            this.buffer[this.position++] = (byte) (text.charAt (i) & 0x7F);
+        return this;
+    }
+
+
+    /**
+     * Add a part of a character array as 7 bit ASCII.
+     *
+     * @param text The characters
+     * @param start The index of the first character to add
+     * @param end The index after the last character to add
+     * @return The builder for chaining
+     */
+    public SysexBuilder addText (final char [] text, final int start, final int end)
+    {
+        this.ensureCapacity (end - start);
+        for (int i = start; i < end; i++)
+            this.buffer[this.position++] = (byte) (text[i] & 0x7F);
+        return this;
+    }
+
+
+    /**
+     * Terminate the message with F7 and send it. Afterwards, the next message can be started.
+     *
+     * @param output The output to send to
+     */
+    public void send (final IMidiOutput output)
+    {
+        this.ensureCapacity (1);
+        this.buffer[this.position++] = (byte) 0xF7;
+
+        final byte [] message = Arrays.copyOf (this.buffer, this.position);
+        this.position = this.headerLength;
+
+        output.sendSysex (message);
+    }
+
+
+    /**
+     * Grow the buffer if it cannot hold the given number of additional bytes.
+     *
+     * @param size The number of bytes to add
+     */
+    private void ensureCapacity (final int size)
+    {
+        final int required = this.position + size;
+        if (required > this.buffer.length)
+            this.buffer = Arrays.copyOf (this.buffer, Math.max (required, this.buffer.length * 2));
+    }
+
+
+    /**
+     * Convert a header in hex string notation (bytes separated by spaces) to bytes.
+     *
+     * @param header The header
+     * @return The bytes
+     */
+    private static byte [] toBytes (final String header)
+    {
+        final int [] values = StringUtils.fromHexStr (header.replace (" ", ""));
+        final byte [] bytes = new byte [values.length];
+        for (int i = 0; i < values.length; i++)
+            bytes[i] = (byte) values[i];
+        return bytes;
+    }
+}
@@ -204,4 +204,22 @@ public interface IGraphicsContext
      * @return The text height or -1 if the minimum height of 10 does not fit into the width
      */
     double calculateFontSize (double maxHeight, double maxWidth);
+
+
+    /**
+     * Restrict all following drawing operations to a rectangle. Must be followed by a call to
+     * resetClip.
+     *
+     * @param left The left edge of the rectangle
+     * @param top The top edge of the rectangle
+     * @param width The width of the rectangle
+     * @param height The height of the rectangle
+     */
+    void setClip (double left, double top, double width, double height);
+
+
+    /**
+     * Removes the restriction set with setClip.
+     */
+    void resetClip ();
 }
@@ -0,0 +1,214 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.graphics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+
+/**
+ * A bounded cache for the extents of texts. Track names, parameter labels, etc. rarely change but
+ * are drawn on every frame. The least recently used entry is removed if the cache is full. Not
+ * thread safe, use one cache per render thread.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class TextMeasurementCache
+{
+    /** The index of the width in the extents array. */
+    public static final int           WIDTH     = 0;
+    /** The index of the height in the extents array. */
+    public static final int           HEIGHT    = 1;
+
+    private final Map<Key, double []> cache;
+    private final Key                 lookupKey = new Key ();
+    private long                      hits;
+    private long                      misses;
+
+
+    /**
+     * Measures a text.
+     */
+    public interface ITextMeasurer
+    {
+        /**
+         * Measure a text.
+         *
+         * @param text The text to measure
+         * @param fontSize The size of the font
+         * @return The width and height of the text
+         */
+        double [] measure (String text, double fontSize);
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param capacity The maximum number of texts to cache
+     */
+    public TextMeasurementCache (final int capacity)
+    {
+        this.cache = new LinkedHashMap<Key, double []> (capacity * 4 / 3 + 1, 0.75f, true)
+        {
+            private static final long serialVersionUID = 7395823471820519475L;
+
+
+            /** {@inheritDoc} */
+            @Override
+            protected boolean removeEldestEntry (final Map.Entry<Key, double []> eldest)
+            {
+                return this.size () > capacity;
+            }
+        };
+    }
+
+
+    /**
+     * Get the extents of a text. Measures the text if it is not cached.
+     *
+     * @param text The text
+     * @param fontSize The size of the font
+     * @param measurer Measures the text if it is not cached
+     * @return The width and height of the text, do not modify
+     */
+    public double [] getExtents (final String text, final double fontSize, final ITextMeasurer measurer)
+    {
+        this.lookupKey.set (text, fontSize);
+        final double [] extents = this.cache.get (this.lookupKey);
+        if (extents != null)
+        {
+            this.hits++;
+            return extents;
+        }
+
+        this.misses++;
+        final double [] measured = measurer.measure (text, fontSize);
+        this.cache.put (new Key (text, fontSize), measured);
+        return measured;
+    }
+
+
+    /**
+     * Get the width of a text. Measures the text if it is not cached.
+     *
+     * @param text The text
+     * @param fontSize The size of the font
+     * @param measurer Measures the text if it is not cached
+     * @return The width of the text
+     */
+    public double getWidth (final String text, final double fontSize, final ITextMeasurer measurer)
+    {
+        return this.getExtents (text, fontSize, measurer)[WIDTH];
+    }
+
+
+    /**
+     * Get the height of a text. Measures the text if it is not cached.
+     *
+     * @param text The text
+     * @param fontSize The size of the font
+     * @param measurer Measures the text if it is not cached
+     * @return The height of the text
+     */
+    public double getHeight (final String text, final double fontSize, final ITextMeasurer measurer)
+    {
+        return this.getExtents (text, fontSize, measurer)[HEIGHT];
+    }
+
+
+    /**
+     * Get the number of lookups which were found in the cache.
+     *
+     * @return The number of hits
+     */
+    public long getHits ()
+    {
+        return this.hits;
+    }
+
+
+    /**
+     * Get the number of lookups which needed to measure the text.
+     *
+     * @return The number of misses
+     */
+    public long getMisses ()
+    {
+        return this.misses;
+    }
+
+
+    /**
+     * Removes all cached texts.
+     */
+    public void clear ()
+    {
+        this.cache.clear ();
+    }
+
+
+    /** The key of a cache entry. */
+    private static final class Key
+    {
+        private String text;
+        private double fontSize;
+
+
+        /**
+         * Constructor.
+         */
+        Key ()
+        {
+            // Intentionally empty
+        }
+
+
+        /**
+         * Constructor.
+         *
+         * @param text The text
+         * @param fontSize The size of the font
+         */
+        Key (final String text, final double fontSize)
+        {
+            this.set (text, fontSize);
+        }
+
+
+        /**
+         * Set the values of the key.
+         *
+         * @param text The text
+         * @param fontSize The size of the font
+         */
+        void set (final String text, final double fontSize)
+        {
+            this.text = text;
+            this.fontSize = fontSize;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean equals (final Object obj)
+        {
+            if (this == obj)
+                return true;
+            if (!(obj instanceof Key))
+                return false;
+            final Key other = (Key) obj;
+            return Double.compare (this.fontSize, other.fontSize) == 0 && this.text.equals (other.text);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public int hashCode ()
+        {
+            return 31 * this.text.hashCode () + Double.hashCode (this.fontSize);
+        }
+    }
+}
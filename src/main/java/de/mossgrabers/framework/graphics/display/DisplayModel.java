@@ -22,13 +22,13 @@ import de.mossgrabers.framework.graphics.grid.SceneListGridElement;
 import de.mossgrabers.framework.graphics.grid.SelectionGridElement;
 import de.mossgrabers.framework.graphics.grid.SendData;
 import de.mossgrabers.framework.graphics.grid.SendsGridElement;
+import de.mossgrabers.framework.utils.OutputScheduler;
 import de.mossgrabers.framework.utils.Pair;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -64,7 +64,8 @@ public class DisplayModel
     private static final int               TIMEOUT                         = 2;
 
     private final AtomicInteger            counter                         = new AtomicInteger ();
-    private final ScheduledExecutorService executor                        = Executors.newSingleThreadScheduledExecutor ();
+    private final ScheduledFuture<?>       countDown;
+    private volatile boolean               isShutdown;
 
     private final List<GridChangeListener> listeners                       = new ArrayList<> ();
     private final List<IGridElement>       elements                        = new ArrayList<> (8);
@@ -78,13 +79,15 @@ public class DisplayModel
     public DisplayModel ()
     {
         // Manage notification message display time
-        this.executor.scheduleAtFixedRate ( () -> {
+        final OutputScheduler scheduler = OutputScheduler.getInstance ();
+        scheduler.acquire ();
+        this.countDown = scheduler.scheduleAtFixedRate ( () -> {
             final int c = this.counter.get ();
             if (c <= 0)
                 return;
             if (this.counter.decrementAndGet () == 0)
                 this.notificationMessage.set (null);
-        }, 1, 1, TimeUnit.SECONDS);
+        }, 1, TimeUnit.SECONDS);
     }
 
 
@@ -93,7 +96,11 @@ public class DisplayModel
      */
     public void shutdown ()
     {
-        this.executor.shutdown ();
+        if (this.isShutdown)
+            return;
+        this.isShutdown = true;
+        this.countDown.cancel (false);
+        OutputScheduler.getInstance ().release ();
     }
 
 
@@ -113,7 +120,7 @@ public class DisplayModel
      */
     public void send ()
     {
-        if (this.executor.isShutdown ())
+        if (this.isShutdown)
             return;
 
         this.info = new ModelInfo (this.notificationMessage.get (), this.elements);
@@ -10,10 +10,13 @@ import de.mossgrabers.framework.daw.resource.ResourceHandler;
 import de.mossgrabers.framework.graphics.Align;
 import de.mossgrabers.framework.graphics.IBitmap;
 import de.mossgrabers.framework.graphics.IGraphicsConfiguration;
+import de.mossgrabers.framework.graphics.IGraphicsContext;
 import de.mossgrabers.framework.graphics.IGraphicsDimensions;
 import de.mossgrabers.framework.graphics.grid.IGridElement;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 
 
 /**
@@ -28,6 +31,12 @@ public class VirtualDisplay
     private final IGraphicsConfiguration configuration;
     private final IGraphicsDimensions    dimensions;
 
+    private List<IGridElement>           lastElements = Collections.emptyList ();
+    private String                       lastNotification;
+    private final ColorEx []             lastColors   = new ColorEx [11];
+    private boolean []                   damaged      = new boolean [0];
+    private int                          damagedColumns;
+
 
     /**
      * Constructor.
@@ -74,39 +83,193 @@ public class VirtualDisplay
 
 
     /**
-     * Draws the N grid elements of the grid.
+     * Get the number of grid columns which were redrawn for the last frame.
+     *
+     * @return The number of columns, 0 if the bitmap was reused completely
+     */
+    public int getDamagedColumns ()
+    {
+        return this.damagedColumns;
+    }
+
+
+    /**
+     * Draws the N grid elements of the grid. Only the columns whose elements differ from the
+     * previous frame are redrawn, the rest of the bitmap is kept.
      *
      * @param bitmap The bitmap to draw to
      */
     private void drawGrid (final IBitmap bitmap)
     {
-        bitmap.render (gc -> {
-            final int width = this.dimensions.getWidth ();
-            final int height = this.dimensions.getHeight ();
-            final double separatorSize = this.dimensions.getSeparatorSize ();
-
-            // Clear display
-            final ColorEx colorBorder = this.configuration.getColorBorder ();
-            gc.fillRectangle (0, 0, width, height, colorBorder);
-
-            final ModelInfo info = this.model.getInfo ();
-            final List<IGridElement> elements = info.getElements ();
-            final int size = elements.size ();
-            if (size == 0)
-                return;
-            final int gridWidth = width / size;
-            final double paintWidth = gridWidth - separatorSize;
-            final double offsetX = separatorSize / 2.0;
-
-            for (int i = 0; i < size; i++)
-                elements.get (i).draw (gc, this.configuration, this.dimensions, i * gridWidth + offsetX, paintWidth, height);
-
-            final String notification = info.getNotification ();
-            if (notification == null)
-                return;
-
-            final ColorEx colorText = this.configuration.getColorText ();
-            gc.drawTextInBounds (notification, 0, 0, width, height, Align.CENTER, colorText, colorBorder, height / 4.0);
-        });
+        final ModelInfo info = this.model.getInfo ();
+        final List<IGridElement> elements = info.getElements ();
+        final String notification = info.getNotification ();
+
+        final boolean isFullRedraw = this.calcDamage (elements, notification);
+        this.lastElements = elements;
+        this.lastNotification = notification;
+
+        if (isFullRedraw)
+        {
+            this.damagedColumns = elements.size ();
+            bitmap.render (gc -> this.drawAll (gc, elements, notification));
+        }
+        else if (this.damagedColumns > 0)
+            bitmap.render (gc -> this.drawDamaged (gc, elements));
+    }
+
+
+    /**
+     * Compares the elements with the ones of the previous frame and marks the changed columns.
+     *
+     * @param elements The elements of the new frame
+     * @param notification The notification of the new frame, may be null
+     * @return True if the whole display needs to be redrawn
+     */
+    private boolean calcDamage (final List<IGridElement> elements, final String notification)
+    {
+        final boolean colorsChanged = this.updateColors ();
+
+        // A notification is drawn on top of all columns
+        final int size = elements.size ();
+        if (colorsChanged || size == 0 || size != this.lastElements.size () || notification != null || this.lastNotification != null)
+            return true;
+
+        if (this.damaged.length < size)
+            this.damaged = new boolean [size];
+
+        int count = 0;
+        for (int i = 0; i < size; i++)
+        {
+            final IGridElement element = elements.get (i);
+            if (element.drawsOutsideBounds () || this.lastElements.get (i).drawsOutsideBounds ())
+                return true;
+            this.damaged[i] = !element.equals (this.lastElements.get (i));
+            if (this.damaged[i])
+                count++;
+        }
+        this.damagedColumns = count;
+
+        // Each damaged column also needs its neighbours to be drawn into the shared separators,
+        // redraw everything if that is not cheaper than a full redraw
+        int draws = 0;
+        for (int i = 0; i < size; i++)
+        {
+            if (this.damaged[i] || i > 0 && this.damaged[i - 1] || i + 1 < size && this.damaged[i + 1])
+                draws++;
+        }
+        return draws >= size;
+    }
+
+
+    /**
+     * Store the colors of the configuration.
+     *
+     * @return True if a color has changed since the previous frame
+     */
+    private boolean updateColors ()
+    {
+        boolean hasChanged = this.updateColor (0, this.configuration.getColorText ());
+        hasChanged |= this.updateColor (1, this.configuration.getColorBackground ());
+        hasChanged |= this.updateColor (2, this.configuration.getColorBackgroundDarker ());
+        hasChanged |= this.updateColor (3, this.configuration.getColorBackgroundLighter ());
+        hasChanged |= this.updateColor (4, this.configuration.getColorBorder ());
+        hasChanged |= this.updateColor (5, this.configuration.getColorEdit ());
+        hasChanged |= this.updateColor (6, this.configuration.getColorFader ());
+        hasChanged |= this.updateColor (7, this.configuration.getColorVu ());
+        hasChanged |= this.updateColor (8, this.configuration.getColorRecord ());
+        hasChanged |= this.updateColor (9, this.configuration.getColorSolo ());
+        hasChanged |= this.updateColor (10, this.configuration.getColorMute ());
+        return hasChanged;
+    }
+
+
+    /**
+     * Store a color of the configuration.
+     *
+     * @param index The index of the color
+     * @param color The current color
+     * @return True if the color has changed since the previous frame
+     */
+    private boolean updateColor (final int index, final ColorEx color)
+    {
+        if (Objects.equals (color, this.lastColors[index]))
+            return false;
+        this.lastColors[index] = color;
+        return true;
+    }
+
+
+    /**
+     * Redraws only the damaged columns. Each column is clipped to its area including the
+     * separators to its neighbours. Since elements draw into these separators (e.g. the menu line),
+     * the neighbours are drawn clipped as well to get the same result as for a full redraw.
+     *
+     * @param gc The graphics context
+     * @param elements The elements to draw
+     */
+    private void drawDamaged (final IGraphicsContext gc, final List<IGridElement> elements)
+    {
+        final int width = this.dimensions.getWidth ();
+        final int height = this.dimensions.getHeight ();
+        final double separatorSize = this.dimensions.getSeparatorSize ();
+        final ColorEx colorBorder = this.configuration.getColorBorder ();
+
+        final int size = elements.size ();
+        final int gridWidth = width / size;
+        final double paintWidth = gridWidth - separatorSize;
+        final double offsetX = separatorSize / 2.0;
+
+        for (int i = 0; i < size; i++)
+        {
+            if (!this.damaged[i])
+                continue;
+
+            final double clipLeft = i * gridWidth - offsetX;
+            final double clipWidth = i == size - 1 ? width - clipLeft : gridWidth + separatorSize;
+            gc.setClip (clipLeft, 0, clipWidth, height);
+            gc.fillRectangle (clipLeft, 0, clipWidth, height, colorBorder);
+
+            final int last = Math.min (size - 1, i + 1);
+            for (int j = Math.max (0, i - 1); j <= last; j++)
+                elements.get (j).draw (gc, this.configuration, this.dimensions, j * gridWidth + offsetX, paintWidth, height);
+
+            gc.resetClip ();
+        }
+    }
+
+
+    /**
+     * Draws the whole display.
+     *
+     * @param gc The graphics context
+     * @param elements The elements to draw
+     * @param notification The notification to draw on top, may be null
+     */
+    private void drawAll (final IGraphicsContext gc, final List<IGridElement> elements, final String notification)
+    {
+        final int width = this.dimensions.getWidth ();
+        final int height = this.dimensions.getHeight ();
+        final double separatorSize = this.dimensions.getSeparatorSize ();
+
+        // Clear display
+        final ColorEx colorBorder = this.configuration.getColorBorder ();
+        gc.fillRectangle (0, 0, width, height, colorBorder);
+
+        final int size = elements.size ();
+        if (size == 0)
+            return;
+        final int gridWidth = width / size;
+        final double paintWidth = gridWidth - separatorSize;
+        final double offsetX = separatorSize / 2.0;
+
+        for (int i = 0; i < size; i++)
+            elements.get (i).draw (gc, this.configuration, this.dimensions, i * gridWidth + offsetX, paintWidth, height);
+
+        if (notification == null)
+            return;
+
+        final ColorEx colorText = this.configuration.getColorText ();
+        gc.drawTextInBounds (notification, 0, 0, width, height, Align.CENTER, colorText, colorBorder, height / 4.0);
     }
 }
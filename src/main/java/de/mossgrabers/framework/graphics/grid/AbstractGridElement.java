@@ -10,6 +10,8 @@ import de.mossgrabers.framework.graphics.IGraphicsConfiguration;
 import de.mossgrabers.framework.graphics.IGraphicsContext;
 import de.mossgrabers.framework.graphics.IGraphicsDimensions;
 
+import java.util.Objects;
+
 
 /**
  * Abstract base class for an element in the grid.
@@ -145,4 +147,33 @@ public abstract class AbstractGridElement implements IGridElement
     {
         AbstractGridElement.maxValue = maxValue;
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean drawsOutsideBounds ()
+    {
+        return false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals (final Object obj)
+    {
+        if (this == obj)
+            return true;
+        if (obj == null || this.getClass () != obj.getClass ())
+            return false;
+        final AbstractGridElement other = (AbstractGridElement) obj;
+        return this.isSelected == other.isSelected && this.isMenuSelected == other.isMenuSelected && Objects.equals (this.name, other.name) && Objects.equals (this.icon, other.icon) && Objects.equals (this.color, other.color) && Objects.equals (this.menuName, other.menuName);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode ()
+    {
+        return Objects.hash (this.name, this.icon, this.color, Boolean.valueOf (this.isSelected), this.menuName, Boolean.valueOf (this.isMenuSelected));
+    }
 }
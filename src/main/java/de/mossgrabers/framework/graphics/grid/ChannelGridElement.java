@@ -13,6 +13,8 @@ import de.mossgrabers.framework.graphics.IGraphicsContext;
 import de.mossgrabers.framework.graphics.IGraphicsDimensions;
 import de.mossgrabers.framework.graphics.IImage;
 
+import java.util.Objects;
+
 
 /**
  * An element in the grid which contains the channel settings: Volume, VU, Pan, Mute, Solo and Arm.
@@ -289,4 +291,23 @@ public class ChannelGridElement extends SelectionGridElement
         final IImage icon = ResourceHandler.getSVGImage (iconName);
         gc.maskImage (icon, left + (width - icon.getWidth ()) / 2, top + (height - icon.getHeight ()) / 2, isOn ? borderColor : textColor);
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals (final Object obj)
+    {
+        if (!super.equals (obj))
+            return false;
+        final ChannelGridElement other = (ChannelGridElement) obj;
+        return this.editType == other.editType && Double.compare (this.volumeValue, other.volumeValue) == 0 && Double.compare (this.modulatedVolumeValue, other.modulatedVolumeValue) == 0 && Double.compare (this.panValue, other.panValue) == 0 && Double.compare (this.modulatedPanValue, other.modulatedPanValue) == 0 && Double.compare (this.vuValueLeft, other.vuValueLeft) == 0 && Double.compare (this.vuValueRight, other.vuValueRight) == 0 && Double.compare (this.crossfadeMode, other.crossfadeMode) == 0 && this.isMute == other.isMute && this.isSolo == other.isSolo && this.isArm == other.isArm && Objects.equals (this.volumeText, other.volumeText) && Objects.equals (this.panText, other.panText);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode ()
+    {
+        return 31 * super.hashCode () + Objects.hash (Double.valueOf (this.volumeValue), this.volumeText, Double.valueOf (this.panValue), this.panText, Double.valueOf (this.vuValueLeft), Double.valueOf (this.vuValueRight));
+    }
 }
@@ -126,4 +126,25 @@ public class ClipListGridElement extends AbstractGridElement
             gc.strokeRectangle (itemLeft, itemTop + separatorSize, itemWidth, itemHeight - 2 * separatorSize, color, slot.isSelected () ? 2 : 1);
         }
     }
+
+
+    /**
+     * The element draws the live state of the tracks and slots, therefore it is never equal to the
+     * element of a previous frame.
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals (final Object obj)
+    {
+        return this == obj;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode ()
+    {
+        return System.identityHashCode (this);
+    }
 }
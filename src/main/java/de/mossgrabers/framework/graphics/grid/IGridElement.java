@@ -10,7 +10,8 @@ import de.mossgrabers.framework.graphics.IGraphicsDimensions;
 
 
 /**
- * An element in the grid.
+ * An element in the grid. Elements are created for each frame and implement value equality, which
+ * allows to redraw only the grid columns whose content has changed since the previous frame.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
@@ -27,4 +28,13 @@ public interface IGridElement
      * @param height The height of the drawing area of the element
      */
     void draw (final IGraphicsContext gc, final IGraphicsConfiguration configuration, IGraphicsDimensions dimensions, final double left, final double width, final double height);
+
+
+    /**
+     * Does the element draw outside of its drawing area and the separators to its neighbours, e.g.
+     * texts which reach into the next elements? If true, the element cannot be redrawn on its own.
+     *
+     * @return True if the element draws outside of its bounds
+     */
+    boolean drawsOutsideBounds ();
 }
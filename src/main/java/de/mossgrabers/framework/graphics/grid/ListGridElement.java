@@ -13,6 +13,7 @@ import de.mossgrabers.framework.utils.Pair;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 
 /**
@@ -63,4 +64,36 @@ public class ListGridElement extends AbstractGridElement
             gc.drawTextInBounds (item.getKey (), itemLeft + inset, itemTop, itemWidth - 2 * inset, itemHeight, Align.LEFT, isSelected ? borderColor : textColor, itemHeight / 2);
         }
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals (final Object obj)
+    {
+        if (!super.equals (obj))
+            return false;
+        final ListGridElement other = (ListGridElement) obj;
+        final int size = this.items.size ();
+        if (size != other.items.size ())
+            return false;
+        for (int i = 0; i < size; i++)
+        {
+            final Pair<String, Boolean> item = this.items.get (i);
+            final Pair<String, Boolean> otherItem = other.items.get (i);
+            if (!Objects.equals (item.getKey (), otherItem.getKey ()) || !Objects.equals (item.getValue (), otherItem.getValue ()))
+                return false;
+        }
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode ()
+    {
+        int result = super.hashCode ();
+        for (final Pair<String, Boolean> item: this.items)
+            result = 31 * result + Objects.hash (item.getKey (), item.getValue ());
+        return result;
+    }
 }
@@ -167,4 +167,25 @@ public class MidiClipElement extends AbstractGridElement
         if (playStep >= 0)
             gc.fillRectangle (left + playStep * stepWidth - 1, 0, 3, height, ColorEx.WHITE);
     }
+
+
+    /**
+     * The element draws the live state of the clip, therefore it is never equal to the element of
+     * a previous frame.
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals (final Object obj)
+    {
+        return this == obj;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode ()
+    {
+        return System.identityHashCode (this);
+    }
 }
@@ -10,6 +10,8 @@ import de.mossgrabers.framework.graphics.IGraphicsConfiguration;
 import de.mossgrabers.framework.graphics.IGraphicsContext;
 import de.mossgrabers.framework.graphics.IGraphicsDimensions;
 
+import java.util.Objects;
+
 
 /**
  * An element in the grid which can display on option on top and on the bottom of the element. In
@@ -113,4 +115,35 @@ public class OptionsGridElement extends AbstractGridElement
         gc.fillRectangle (left, top, width, height, backgroundColor);
         gc.drawTextInBounds (menu, left, top, width, height, Align.CENTER, ColorEx.calcContrastColor (backgroundColor), height / 2);
     }
+
+
+    /**
+     * The header texts are not clipped and can reach into the next elements.
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean drawsOutsideBounds ()
+    {
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals (final Object obj)
+    {
+        if (!super.equals (obj))
+            return false;
+        final OptionsGridElement other = (OptionsGridElement) obj;
+        return this.isMenuBottomSelected == other.isMenuBottomSelected && this.useSmallTopMenu == other.useSmallTopMenu && this.isBottomHeaderSelected == other.isBottomHeaderSelected && Objects.equals (this.headerTop, other.headerTop) && Objects.equals (this.headerBottom, other.headerBottom) && Objects.equals (this.menuBottomName, other.menuBottomName) && Objects.equals (this.menuTopColor, other.menuTopColor) && Objects.equals (this.menuBottomColor, other.menuBottomColor);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode ()
+    {
+        return 31 * super.hashCode () + Objects.hash (this.headerTop, this.headerBottom, this.menuBottomName, this.menuTopColor, this.menuBottomColor);
+    }
 }
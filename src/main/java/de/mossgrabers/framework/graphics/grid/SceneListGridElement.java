@@ -67,4 +67,25 @@ public class SceneListGridElement extends AbstractGridElement
             gc.strokeRectangle (itemLeft, itemTop + separatorSize, itemWidth, itemHeight - 2 * separatorSize, scene.isSelected () ? textColor : borderColor, scene.isSelected () ? 2 : 1);
         }
     }
+
+
+    /**
+     * The element draws the live state of the scenes, therefore it is never equal to the element of
+     * a previous frame.
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals (final Object obj)
+    {
+        return this == obj;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode ()
+    {
+        return System.identityHashCode (this);
+    }
 }
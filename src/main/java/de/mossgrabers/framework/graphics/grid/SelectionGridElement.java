@@ -14,6 +14,7 @@ import de.mossgrabers.framework.graphics.IGraphicsDimensions;
 import de.mossgrabers.framework.graphics.IImage;
 
 import java.util.EnumMap;
+import java.util.Objects;
 
 
 /**
@@ -141,4 +142,23 @@ public class SelectionGridElement extends AbstractGridElement
     {
         return configuration.getColorText ();
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals (final Object obj)
+    {
+        if (!super.equals (obj))
+            return false;
+        final SelectionGridElement other = (SelectionGridElement) obj;
+        return this.type == other.type;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode ()
+    {
+        return 31 * super.hashCode () + Objects.hashCode (this.type);
+    }
 }
@@ -11,6 +11,8 @@ import de.mossgrabers.framework.graphics.IGraphicsConfiguration;
 import de.mossgrabers.framework.graphics.IGraphicsContext;
 import de.mossgrabers.framework.graphics.IGraphicsDimensions;
 
+import java.util.Arrays;
+
 
 /**
  * An element in the grid which contains a menu and a channels' sends 1-4 or 5-8.
@@ -130,4 +132,23 @@ public class SendsGridElement extends SelectionGridElement
             topy += sendRowHeight;
         }
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals (final Object obj)
+    {
+        if (!super.equals (obj))
+            return false;
+        final SendsGridElement other = (SendsGridElement) obj;
+        return this.isExMode == other.isExMode && Arrays.equals (this.sendData, other.sendData);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode ()
+    {
+        return 31 * (31 * super.hashCode () + Arrays.hashCode (this.sendData)) + Boolean.hashCode (this.isExMode);
+    }
 }
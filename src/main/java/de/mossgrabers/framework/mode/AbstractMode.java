@@ -8,6 +8,7 @@ import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.IControlSurface;
 import de.mossgrabers.framework.daw.IBank;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.ModelChangeTracker;
 import de.mossgrabers.framework.daw.data.IItem;
 import de.mossgrabers.framework.utils.ButtonEvent;
 
@@ -105,6 +106,14 @@ public abstract class AbstractMode<S extends IControlSurface<C>, C extends Confi
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public int getDependencies ()
+    {
+        return ModelChangeTracker.ALL_REGIONS;
+    }
+
+
     /**
      * Get if absolute or relative value changing is enabled for the mode.
      *
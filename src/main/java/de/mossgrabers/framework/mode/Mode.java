@@ -51,6 +51,16 @@ public interface Mode
     void updateDisplay ();
 
 
+    /**
+     * Get the model regions on which the display and the button rows of the mode depend. They are
+     * only updated if one of these regions has changed since the last flush.
+     *
+     * @return The bit mask of the regions (see ModelRegion), use ModelChangeTracker.ALL_REGIONS to
+     *         update on every flush
+     */
+    int getDependencies ();
+
+
     /**
      * Update the first row buttons.
      */
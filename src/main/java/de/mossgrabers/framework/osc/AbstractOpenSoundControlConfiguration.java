@@ -7,6 +7,7 @@ package de.mossgrabers.framework.osc;
 import de.mossgrabers.framework.configuration.AbstractConfiguration;
 import de.mossgrabers.framework.configuration.IEnumSetting;
 import de.mossgrabers.framework.configuration.ISettingsUI;
+import de.mossgrabers.framework.configuration.IStringSetting;
 import de.mossgrabers.framework.controller.IValueChanger;
 import de.mossgrabers.framework.daw.IHost;
 
@@ -24,12 +25,15 @@ public abstract class AbstractOpenSoundControlConfiguration extends AbstractConf
     public static final Integer   LOG_OUTPUT_COMMANDS       = Integer.valueOf (51);
     /** ID for filtering heartbeat OSC messages from logging. */
     public static final Integer   FILTER_HEARTBEAT_COMMANDS = Integer.valueOf (52);
+    /** ID for the OSC journal file option. */
+    public static final Integer   JOURNAL_FILE              = Integer.valueOf (58);
 
     protected static final String DEFAULT_SERVER            = "127.0.0.1";
 
     private boolean               logInputCommands          = false;
     private boolean               logOutputCommands         = false;
     private boolean               filterHeartbeatCommands   = false;
+    private String                journalFile               = "";
 
 
     /**
@@ -66,6 +70,11 @@ public abstract class AbstractOpenSoundControlConfiguration extends AbstractConf
             this.filterHeartbeatCommands = "On".equals (value);
             this.notifyObservers (FILTER_HEARTBEAT_COMMANDS);
         });
+        final IStringSetting journalFileSetting = settingsUI.getStringSetting ("Journal file (binary, empty = off)", CATEGORY_DEBUG, 200, "");
+        journalFileSetting.addValueObserver (value -> {
+            this.journalFile = value.trim ();
+            this.notifyObservers (JOURNAL_FILE);
+        });
     }
 
 
@@ -91,4 +100,12 @@ public abstract class AbstractOpenSoundControlConfiguration extends AbstractConf
     {
         return this.filterHeartbeatCommands;
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getJournalFile ()
+    {
+        return this.journalFile;
+    }
 }
@@ -31,6 +31,8 @@ public abstract class AbstractOpenSoundControlParser implements IOpenSoundContro
     protected final IOpenSoundControlConfiguration configuration;
     protected final IOpenSoundControlWriter        writer;
 
+    private volatile OpenSoundControlJournal       journal;
+
 
     protected AbstractOpenSoundControlParser (final IHost host, final IModel model, final IMidiInput midiInput, final IOpenSoundControlConfiguration configuration, final IOpenSoundControlWriter writer)
     {
@@ -47,8 +49,23 @@ public abstract class AbstractOpenSoundControlParser implements IOpenSoundContro
     }
 
 
+    /**
+     * Set the journal into which all received messages are recorded.
+     *
+     * @param journal The journal, null to stop recording
+     */
+    public void setJournal (final OpenSoundControlJournal journal)
+    {
+        this.journal = journal;
+    }
+
+
     protected void logMessage (final IOpenSoundControlMessage message)
     {
+        final OpenSoundControlJournal j = this.journal;
+        if (j != null)
+            j.record (OpenSoundControlJournal.INCOMING, message);
+
         if (!this.configuration.shouldLogInputCommands ())
             return;
 
@@ -9,11 +9,9 @@ import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.utils.StringUtils;
 
 import java.io.IOException;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 
 /**
@@ -23,14 +21,37 @@ import java.util.Map;
  */
 public abstract class AbstractOpenSoundControlWriter implements IOpenSoundControlWriter
 {
+    private static final int                       COLOR_CACHE_SIZE = 512;
+
     protected final IHost                          host;
     protected final IModel                         model;
     protected final IOpenSoundControlConfiguration configuration;
 
-    protected final IOpenSoundControlServer        oscServer;
-    protected final Map<String, Object>            oldValues = new HashMap<> ();
+    protected final OpenSoundControlClientGroup    oscServer        = new OpenSoundControlClientGroup ();
+    protected final OpenSoundControlAddressTable   addresses        = new OpenSoundControlAddressTable ();
+    protected final OpenSoundControlSubscriptions  subscriptions    = new OpenSoundControlSubscriptions ();
+
+    private final OpenSoundControlMessageBuffer    messages         = new OpenSoundControlMessageBuffer ();
+
+    // The last sent values indexed by the address ID
+    private boolean []                             hasValue         = new boolean [0];
+    private long []                                primitiveValues  = new long [0];
+    private Object []                              objectValues     = new Object [0];
+
+    // The formatted texts of strings and colors
+    private String []                              asciiSources     = new String [0];
+    private String []                              asciiTexts       = new String [0];
+    private final FormattedColor []                colorTexts       = new FormattedColor [COLOR_CACHE_SIZE];
 
-    private final List<IOpenSoundControlMessage>   messages  = new ArrayList<> ();
+    // The subscription state indexed by the address ID
+    private int []                                 intervals        = new int [0];
+    private int []                                 intervalVersions = new int [0];
+    private long []                                lastSendTimes    = new long [0];
+    private int                                    pendingInterval  = -1;
+    private boolean                                isFlushScheduled;
+    private boolean                                isNewClientDump;
+
+    private volatile OpenSoundControlJournal       journal;
 
 
     /**
@@ -38,29 +59,114 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
      *
      * @param host The host
      * @param model The model
-     * @param oscServer The OSC server to write to
+     * @param oscServer The OSC server to write to, might be null
      * @param configuration The OSC configuration
      */
     protected AbstractOpenSoundControlWriter (final IHost host, final IModel model, final IOpenSoundControlServer oscServer, final IOpenSoundControlConfiguration configuration)
     {
         this.host = host;
         this.model = model;
-        this.oscServer = oscServer;
+        if (oscServer != null)
+            this.oscServer.add (oscServer);
         this.configuration = configuration;
     }
 
 
     /**
-     * Send all collected messages.
+     * Add another OSC server (client) to write to. It receives a full dump with the next flush, all
+     * other clients only receive the changes.
+     *
+     * @param client The OSC server
+     */
+    public void addClient (final IOpenSoundControlServer client)
+    {
+        this.oscServer.add (client);
+    }
+
+
+    /**
+     * Set the maximum size of an UDP packet of all clients.
+     *
+     * @param maxPacketSize The maximum size in bytes
+     */
+    public void setMaxPacketSize (final int maxPacketSize)
+    {
+        this.oscServer.setMaxPacketSize (maxPacketSize);
+    }
+
+
+    /**
+     * Set the journal into which all sent messages are recorded.
+     *
+     * @param journal The journal, null to stop recording
+     */
+    public void setJournal (final OpenSoundControlJournal journal)
+    {
+        this.journal = journal;
+    }
+
+
+    /**
+     * Send all collected messages to all clients which already received the full state.
      */
     public void flush ()
+    {
+        this.sendMessages (false);
+    }
+
+
+    /**
+     * Collect the full state and send it to all clients which were added since the last call. The
+     * value cache and the rate limits are not changed, since the other clients do not receive these
+     * messages.
+     *
+     * @param collector Collects the messages of all values
+     */
+    protected void flushNewClients (final Runnable collector)
+    {
+        this.isNewClientDump = true;
+        try
+        {
+            collector.run ();
+        }
+        finally
+        {
+            this.isNewClientDump = false;
+        }
+        this.sendMessages (true);
+    }
+
+
+    /**
+     * Returns true while the full state for new clients is collected.
+     *
+     * @return True if collecting for new clients
+     */
+    protected boolean isNewClientDump ()
+    {
+        return this.isNewClientDump;
+    }
+
+
+    private void sendMessages (final boolean toNewClients)
     {
         synchronized (this.messages)
         {
             try
             {
-                this.logMessages (this.messages);
-                this.oscServer.sendBundle (this.messages);
+                final List<IOpenSoundControlMessage> bundle = this.messages.getMessages ();
+                final OpenSoundControlJournal j = this.journal;
+                if (j != null)
+                {
+                    for (final IOpenSoundControlMessage message: bundle)
+                        j.record (OpenSoundControlJournal.OUTGOING, message);
+                }
+                this.logMessages (bundle);
+                if (toNewClients)
+                    this.oscServer.sendBundleToNewClients (bundle);
+                else
+                    this.oscServer.sendBundle (bundle);
+                this.logBundles (bundle.size ());
             }
             catch (final IOException ex)
             {
@@ -69,6 +175,24 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
 
             this.messages.clear ();
         }
+
+        this.schedulePendingFlush ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public OpenSoundControlSubscriptions getSubscriptions ()
+    {
+        return this.subscriptions;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasSeveralClients ()
+    {
+        return this.oscServer.size () > 1;
     }
 
 
@@ -76,10 +200,11 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     @Override
     public void fastSendOSC (final String address, final int [] numbers)
     {
-        final List<Object> params = new ArrayList<> ();
-        for (final int number: numbers)
-            params.add (Integer.valueOf (number));
-        this.fastSendOSC (address, params);
+        synchronized (this.messages)
+        {
+            this.messages.addInts (address, numbers);
+        }
+        this.flush ();
     }
 
 
@@ -87,48 +212,162 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     @Override
     public void fastSendOSC (final String address)
     {
-        this.fastSendOSC (address, Collections.emptyList ());
+        synchronized (this.messages)
+        {
+            this.messages.add (address);
+        }
+        this.flush ();
     }
 
 
-    protected void fastSendOSC (final String address, final List<Object> parameters)
+    /** {@inheritDoc} */
+    @Override
+    public void sendInt (final String address, final int value)
     {
-        this.sendOSC (address, parameters, true);
-        this.flush ();
+        synchronized (this.messages)
+        {
+            this.messages.addInt (address, value);
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendFloat (final String address, final double value)
+    {
+        // Using float here since Double seems to be always received as 0 in Max.
+        synchronized (this.messages)
+        {
+            this.messages.addFloat (address, (float) value);
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendString (final String address, final String value)
+    {
+        final String text = StringUtils.fixASCII (value);
+        synchronized (this.messages)
+        {
+            this.messages.addValue (address, text);
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendRgb (final String address, final double red, final double green, final double blue)
+    {
+        final String text = this.formatColor ((int) Math.round (red * 255.0), (int) Math.round (green * 255.0), (int) Math.round (blue * 255.0));
+        synchronized (this.messages)
+        {
+            this.messages.addValue (address, text);
+        }
     }
 
 
     protected void sendOSCColor (final String address, final double red, final double green, final double blue, final boolean dump)
     {
-        final int r = (int) Math.round (red * 255.0);
-        final int g = (int) Math.round (green * 255.0);
-        final int b = (int) Math.round (blue * 255.0);
-        this.sendOSC (address, "rgb(" + r + "," + g + "," + b + ")", dump);
+        this.sendOSCColor (this.addresses.getId (address), red, green, blue, dump);
     }
 
 
     protected void sendOSC (final String address, final boolean value, final boolean dump)
     {
-        this.sendOSC (address, Boolean.valueOf (value), dump);
+        this.sendOSC (this.addresses.getId (address), value, dump);
     }
 
 
     protected void sendOSC (final String address, final double value, final boolean dump)
     {
-        // Using float here since Double seems to be always received as 0 in Max.
-        this.sendOSC (address, Float.valueOf ((float) value), dump);
+        this.sendOSC (this.addresses.getId (address), value, dump);
     }
 
 
     protected void sendOSC (final String address, final int value, final boolean dump)
     {
-        this.sendOSC (address, Integer.valueOf (value), dump);
+        this.sendOSC (this.addresses.getId (address), value, dump);
     }
 
 
     protected void sendOSC (final String address, final String value, final boolean dump)
     {
-        this.sendOSC (address, (Object) StringUtils.fixASCII (value), dump);
+        this.sendOSC (this.addresses.getId (address), value, dump);
+    }
+
+
+    /**
+     * Get the ID of an OSC address, registers it if necessary. Use the ID with the sendOSC methods
+     * to prevent building and looking up the address on each flush.
+     *
+     * @param address The OSC address
+     * @return The ID
+     */
+    protected int getAddressId (final String address)
+    {
+        return this.addresses.getId (address);
+    }
+
+
+    protected void sendOSCColor (final int addressId, final double red, final double green, final double blue, final boolean dump)
+    {
+        final int r = (int) Math.round (red * 255.0);
+        final int g = (int) Math.round (green * 255.0);
+        final int b = (int) Math.round (blue * 255.0);
+        // Only format the color text if the color has changed
+        if (this.updatePrimitive (addressId, (long) r << 42 | (long) g << 21 | b, dump))
+        {
+            final String text = this.formatColor (r, g, b);
+            synchronized (this.messages)
+            {
+                this.messages.addValue (this.addresses.getAddress (addressId), text);
+            }
+        }
+    }
+
+
+    protected void sendOSC (final int addressId, final boolean value, final boolean dump)
+    {
+        final int v = value ? 1 : 0;
+        if (this.updatePrimitive (addressId, v, dump))
+            this.sendInt (this.addresses.getAddress (addressId), v);
+    }
+
+
+    protected void sendOSC (final int addressId, final double value, final boolean dump)
+    {
+        final float v = (float) value;
+        if (this.updatePrimitive (addressId, Float.floatToIntBits (v), dump))
+            this.sendFloat (this.addresses.getAddress (addressId), v);
+    }
+
+
+    protected void sendOSC (final int addressId, final int value, final boolean dump)
+    {
+        if (this.updatePrimitive (addressId, value, dump))
+            this.sendInt (this.addresses.getAddress (addressId), value);
+    }
+
+
+    protected void sendOSC (final int addressId, final String value, final boolean dump)
+    {
+        if (!this.updateObject (addressId, value, dump))
+            return;
+
+        // Only fix the text if it differs from the one which was fixed last time for the address
+        // (e.g. on a dump)
+        String text = this.asciiTexts[addressId];
+        if (text == null || value == null || !value.equals (this.asciiSources[addressId]))
+        {
+            text = StringUtils.fixASCII (value);
+            this.asciiSources[addressId] = value;
+            this.asciiTexts[addressId] = text;
+        }
+        synchronized (this.messages)
+        {
+            this.messages.addValue (this.addresses.getAddress (addressId), text);
+        }
     }
 
 
@@ -152,20 +391,193 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     @SuppressWarnings("unchecked")
     protected void sendOSC (final String cacheAddress, final String address, final Object testValue, final Object value, final boolean dump)
     {
-        if (!dump && compareValues (this.oldValues.get (cacheAddress), testValue))
+        if (!this.updateObject (this.addresses.getId (cacheAddress), testValue, dump))
             return;
-        this.oldValues.put (cacheAddress, testValue);
+        final Object converted = convertBooleanToInt (value);
+        synchronized (this.messages)
+        {
+            if (converted instanceof List)
+                this.messages.addValues (address, (List<Object>) converted);
+            else
+                this.messages.addValue (address, converted);
+        }
+    }
+
+
+    /**
+     * Adds a message with a binary blob to the messages list. The blob is not cached since it is
+     * expected to only be created if something has changed.
+     *
+     * @param addressId The ID of the OSC address
+     * @param blob The binary data
+     * @return True if the blob was added, false if the address is not subscribed
+     */
+    protected boolean sendOSCBlob (final int addressId, final byte [] blob)
+    {
+        this.ensureCacheCapacity (addressId);
+        if (this.getInterval (addressId) == OpenSoundControlSubscriptions.NOT_SUBSCRIBED)
+            return false;
+        final String address = this.addresses.getAddress (addressId);
         synchronized (this.messages)
         {
-            final Object converted = convertBooleanToInt (value);
-            this.messages.add (this.host.createOSCMessage (address, converted instanceof List ? (List<Object>) converted : Collections.singletonList (converted)));
+            this.messages.addValue (address, blob);
+        }
+        return true;
+    }
+
+
+    /**
+     * Tests if a fast changing value, which is sent as a part of another message (e.g. the VU
+     * meters in a blob), can be updated. The rate limit of the given (virtual) address is used. If
+     * it is not due, another flush is scheduled.
+     *
+     * @param addressId The ID of the OSC address which defines the rate limit
+     * @return True if the value can be updated now
+     */
+    protected boolean isRateLimitDue (final int addressId)
+    {
+        this.ensureCacheCapacity (addressId);
+        return this.isDue (addressId, this.subscriptions.getRateLimit (this.addresses.getAddress (addressId)), false);
+    }
+
+
+    /**
+     * Tests if the primitive value differs from the cached value of the address and stores it.
+     * Values of addresses which are not subscribed are never sent. While collecting for new clients
+     * all values are sent and the cache is not changed.
+     *
+     * @param addressId The ID of the OSC address
+     * @param value The value, floating point values need to be converted to their bits
+     * @param dump True to dump (ignore cache)
+     * @return True if the value needs to be sent
+     */
+    private boolean updatePrimitive (final int addressId, final long value, final boolean dump)
+    {
+        this.ensureCacheCapacity (addressId);
+        final int interval = this.getInterval (addressId);
+        if (interval == OpenSoundControlSubscriptions.NOT_SUBSCRIBED)
+            return false;
+        if (this.isNewClientDump)
+            return true;
+        if (!dump && this.hasValue[addressId] && this.primitiveValues[addressId] == value)
+            return false;
+        if (!this.isDue (addressId, interval, dump))
+            return false;
+        this.hasValue[addressId] = true;
+        this.primitiveValues[addressId] = value;
+        return true;
+    }
+
+
+    /**
+     * Tests if the value differs from the cached value of the address and stores it. A missing
+     * value is treated like null. Values of addresses which are not subscribed are never sent.
+     * While collecting for new clients all values are sent and the cache is not changed.
+     *
+     * @param addressId The ID of the OSC address
+     * @param value The value
+     * @param dump True to dump (ignore cache)
+     * @return True if the value needs to be sent
+     */
+    private boolean updateObject (final int addressId, final Object value, final boolean dump)
+    {
+        this.ensureCacheCapacity (addressId);
+        final int interval = this.getInterval (addressId);
+        if (interval == OpenSoundControlSubscriptions.NOT_SUBSCRIBED)
+            return false;
+        if (this.isNewClientDump)
+            return true;
+        if (!dump && compareValues (this.objectValues[addressId], value))
+            return false;
+        if (!this.isDue (addressId, interval, dump))
+            return false;
+        this.objectValues[addressId] = value;
+        return true;
+    }
+
+
+    private void ensureCacheCapacity (final int addressId)
+    {
+        if (addressId < this.hasValue.length)
+            return;
+        final int capacity = Math.max (addressId + 1, this.addresses.size ());
+        this.hasValue = Arrays.copyOf (this.hasValue, capacity);
+        this.primitiveValues = Arrays.copyOf (this.primitiveValues, capacity);
+        this.objectValues = Arrays.copyOf (this.objectValues, capacity);
+        this.asciiSources = Arrays.copyOf (this.asciiSources, capacity);
+        this.asciiTexts = Arrays.copyOf (this.asciiTexts, capacity);
+        this.intervals = Arrays.copyOf (this.intervals, capacity);
+        this.intervalVersions = Arrays.copyOf (this.intervalVersions, capacity);
+        this.lastSendTimes = Arrays.copyOf (this.lastSendTimes, capacity);
+    }
+
+
+    /**
+     * Get the minimum interval between two messages of an address. The result is cached until the
+     * subscriptions change.
+     *
+     * @param addressId The ID of the OSC address
+     * @return The interval in milliseconds, 0 for no limit or NOT_SUBSCRIBED
+     */
+    private int getInterval (final int addressId)
+    {
+        // Add 1 since the versions of new addresses are 0
+        final int version = this.subscriptions.getVersion () + 1;
+        if (this.intervalVersions[addressId] != version)
+        {
+            this.intervals[addressId] = this.subscriptions.getInterval (this.addresses.getAddress (addressId));
+            this.intervalVersions[addressId] = version;
         }
+        return this.intervals[addressId];
+    }
+
+
+    /**
+     * Tests if the minimum interval since the last message of the address has passed. If not, the
+     * cached value is not updated, therefore the newest value is sent on one of the next flushes
+     * (coalescing all values in between).
+     *
+     * @param addressId The ID of the OSC address
+     * @param interval The minimum interval in milliseconds
+     * @param dump True to dump (ignore the interval)
+     * @return True if the value can be sent now
+     */
+    private boolean isDue (final int addressId, final int interval, final boolean dump)
+    {
+        if (interval == 0)
+            return true;
+        final long now = System.currentTimeMillis ();
+        if (!dump && now - this.lastSendTimes[addressId] < interval)
+        {
+            if (this.pendingInterval < 0 || interval < this.pendingInterval)
+                this.pendingInterval = interval;
+            return false;
+        }
+        this.lastSendTimes[addressId] = now;
+        return true;
+    }
+
+
+    /**
+     * If values were held back due to rate limiting, make sure that another flush happens even if
+     * nothing else changes.
+     */
+    private void schedulePendingFlush ()
+    {
+        if (this.pendingInterval < 0 || this.isFlushScheduled)
+            return;
+        this.isFlushScheduled = true;
+        this.host.scheduleTask ( () -> {
+            this.isFlushScheduled = false;
+            this.flush (false);
+        }, this.pendingInterval);
+        this.pendingInterval = -1;
     }
 
 
     protected boolean isConnected ()
     {
-        return this.oscServer != null;
+        return !this.oscServer.isEmpty ();
     }
 
 
@@ -218,6 +630,28 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     }
 
 
+    /**
+     * Get the text of a color in the format 'rgb(r,g,b)'. The texts are cached since there are
+     * usually only a few different colors (e.g. of the clip color palette).
+     *
+     * @param red The red part of the color, 0..255
+     * @param green The green part of the color, 0..255
+     * @param blue The blue part of the color, 0..255
+     * @return The text
+     */
+    private String formatColor (final int red, final int green, final int blue)
+    {
+        final int rgb = (red & 0xFF) << 16 | (green & 0xFF) << 8 | blue & 0xFF;
+        final int index = (rgb ^ rgb >>> 9 ^ rgb >>> 18) & COLOR_CACHE_SIZE - 1;
+        final FormattedColor cached = this.colorTexts[index];
+        if (cached != null && cached.rgb == rgb)
+            return cached.text;
+        final String text = "rgb(" + red + "," + green + "," + blue + ")";
+        this.colorTexts[index] = new FormattedColor (rgb, text);
+        return text;
+    }
+
+
     private static Object convertBooleanToInt (final Object value)
     {
         return value instanceof Boolean ? Integer.valueOf (((Boolean) value).booleanValue () ? 1 : 0) : value;
@@ -254,6 +688,19 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     }
 
 
+    /**
+     * Log the number of bundles and bytes of the last flush, if output logging is enabled.
+     *
+     * @param numMessages The number of messages which were sent
+     */
+    protected void logBundles (final int numMessages)
+    {
+        if (!this.configuration.shouldLogOutputCommands () || numMessages == 0)
+            return;
+        this.model.getHost ().println ("Sent " + numMessages + " messages in " + this.oscServer.getLastBundleCount () + " bundle(s), " + this.oscServer.getLastBundleBytes () + " bytes");
+    }
+
+
     /**
      * Hook to ignore specific messages from logging.
      *
@@ -264,4 +711,27 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     {
         return false;
     }
+
+
+    /**
+     * A cached color text. Immutable, therefore it can be read without synchronization.
+     */
+    private static class FormattedColor
+    {
+        final int    rgb;
+        final String text;
+
+
+        /**
+         * Constructor.
+         *
+         * @param rgb The packed color
+         * @param text The formatted color
+         */
+        FormattedColor (final int rgb, final String text)
+        {
+            this.rgb = rgb;
+            this.text = text;
+        }
+    }
 }
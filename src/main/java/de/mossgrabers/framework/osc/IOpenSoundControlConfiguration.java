@@ -33,4 +33,12 @@ public interface IOpenSoundControlConfiguration
      * @return True to enable filtering
      */
     boolean filterHeartbeatMessages ();
+
+
+    /**
+     * Get the file into which all incoming and outgoing messages are recorded.
+     *
+     * @return The absolute path of the file, empty if recording is off
+     */
+    String getJournalFile ();
 }
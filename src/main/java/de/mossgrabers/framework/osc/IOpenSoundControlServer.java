@@ -25,10 +25,37 @@ public interface IOpenSoundControlServer
 
 
     /**
-     * Send several messages to the server as an OSC bundle.
+     * Send several messages to the server as OSC bundles. The messages are split into as few
+     * bundles as possible, which do not exceed the maximum packet size.
      *
      * @param messages The messages to send
      * @throws IOException Could not send the messages
      */
     void sendBundle (List<IOpenSoundControlMessage> messages) throws IOException;
+
+
+    /**
+     * Set the maximum size of an UDP packet. Bundles are split to stay below this size. A single
+     * message which is larger is sent in its own bundle anyway.
+     *
+     * @param maxPacketSize The maximum size in bytes, e.g. 1472 for a LAN or up to 65507 for
+     *            localhost
+     */
+    void setMaxPacketSize (int maxPacketSize);
+
+
+    /**
+     * Get the number of bundles which were sent by the last call to sendBundle.
+     *
+     * @return The number of bundles
+     */
+    int getLastBundleCount ();
+
+
+    /**
+     * Get the number of bytes which were sent by the last call to sendBundle.
+     *
+     * @return The number of bytes
+     */
+    int getLastBundleBytes ();
 }
@@ -34,4 +34,64 @@ public interface IOpenSoundControlWriter
      * @param address The OSC address
      */
     void fastSendOSC (String address);
+
+
+    /**
+     * Adds a message with an integer value to the next bundle. The value is sent with the next
+     * flush without comparing it to the last sent value.
+     *
+     * @param address The OSC address
+     * @param value The value
+     */
+    void sendInt (String address, int value);
+
+
+    /**
+     * Adds a message with a floating point value to the next bundle. The value is sent as a 32 bit
+     * float with the next flush without comparing it to the last sent value.
+     *
+     * @param address The OSC address
+     * @param value The value
+     */
+    void sendFloat (String address, double value);
+
+
+    /**
+     * Adds a message with a text value to the next bundle. The value is sent with the next flush
+     * without comparing it to the last sent value.
+     *
+     * @param address The OSC address
+     * @param value The value
+     */
+    void sendString (String address, String value);
+
+
+    /**
+     * Adds a message with a color value (formatted as 'rgb(r,g,b)') to the next bundle. The value
+     * is sent with the next flush without comparing it to the last sent value.
+     *
+     * @param address The OSC address
+     * @param red The red part of the color, 0..1
+     * @param green The green part of the color, 0..1
+     * @param blue The blue part of the color, 0..1
+     */
+    void sendRgb (String address, double red, double green, double blue);
+
+
+    /**
+     * Get the subscriptions of the client, which control which addresses are sent at which rate.
+     * Since the messages are created once for all clients, the subscriptions apply to all of them.
+     * Therefore, clients may only subscribe if there is a single client, see hasSeveralClients.
+     *
+     * @return The subscriptions
+     */
+    OpenSoundControlSubscriptions getSubscriptions ();
+
+
+    /**
+     * Test if the messages are sent to more than one client.
+     *
+     * @return True if there are several clients
+     */
+    boolean hasSeveralClients ();
 }
@@ -0,0 +1,69 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+
+/**
+ * Assigns a unique ID to each OSC address. The IDs start at 0 and are consecutive, which allows to
+ * use them as indices, e.g. for caching the last sent value of an address. Addresses are interned
+ * and should be registered once (e.g. per bank layout) and then only be referenced by their ID.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OpenSoundControlAddressTable
+{
+    private final Map<String, Integer> ids       = new HashMap<> ();
+    private String []                  addresses = new String [256];
+    private int                        size;
+
+
+    /**
+     * Get the ID of an address. Registers the address if it is not known yet.
+     *
+     * @param address The OSC address
+     * @return The ID
+     */
+    public synchronized int getId (final String address)
+    {
+        final Integer id = this.ids.get (address);
+        if (id != null)
+            return id.intValue ();
+
+        if (this.size == this.addresses.length)
+            this.addresses = Arrays.copyOf (this.addresses, this.size * 2);
+        final int newID = this.size++;
+        final String interned = address.intern ();
+        this.addresses[newID] = interned;
+        this.ids.put (interned, Integer.valueOf (newID));
+        return newID;
+    }
+
+
+    /**
+     * Get the address of an ID.
+     *
+     * @param id The ID
+     * @return The OSC address
+     */
+    public synchronized String getAddress (final int id)
+    {
+        return this.addresses[id];
+    }
+
+
+    /**
+     * Get the number of registered addresses.
+     *
+     * @return The number of addresses
+     */
+    public synchronized int size ()
+    {
+        return this.size;
+    }
+}
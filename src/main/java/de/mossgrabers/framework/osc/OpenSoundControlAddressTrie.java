@@ -0,0 +1,198 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import java.util.Arrays;
+
+
+/**
+ * A trie of precompiled OSC address routes. A route consists of fixed path elements and numeric
+ * path elements (e.g. the track number), which are written as '#', e.g. "/track/#/volume". An
+ * incoming address is walked character-wise without splitting it into strings, the numeric path
+ * elements are parsed on the way and handed to the handler of the route. Not thread safe, use it
+ * only from the thread which receives the OSC messages.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OpenSoundControlAddressTrie
+{
+    /** Placeholder for a numeric path element in a route. */
+    public static final String NUMBER      = "#";
+
+    private static final int   MAX_NUMBERS = 8;
+
+    private final Node         root        = new Node ();
+    private final int []       numbers     = new int [MAX_NUMBERS];
+
+
+    /**
+     * Handles the message of a route.
+     */
+    public interface IRouteHandler
+    {
+        /**
+         * Handle the message.
+         *
+         * @param numbers The values of the numeric path elements in the order of the address, as
+         *            sent (not decremented)
+         * @param value The first value of the message, may be null
+         */
+        void handle (int [] numbers, Object value);
+    }
+
+
+    /**
+     * Add a route.
+     *
+     * @param route The route, e.g. "/track/#/volume"
+     * @param handler The handler for the route
+     */
+    public void addRoute (final String route, final IRouteHandler handler)
+    {
+        if (route.length () < 2 || route.charAt (0) != '/')
+            throw new IllegalArgumentException ("Route must start with a slash: " + route);
+
+        Node node = this.root;
+        for (final String part: route.substring (1).split ("/"))
+            node = NUMBER.equals (part) ? node.getOrCreateNumberChild () : node.getOrCreateChild (part);
+        node.handler = handler;
+    }
+
+
+    /**
+     * Dispatch a message to the handler of the matching route.
+     *
+     * @param address The OSC address of the message
+     * @param value The first value of the message, may be null
+     * @return True if a route matched, false if the message needs to be handled differently
+     */
+    public boolean dispatch (final String address, final Object value)
+    {
+        final int length = address.length ();
+        if (length < 2 || address.charAt (0) != '/')
+            return false;
+
+        Node node = this.root;
+        int count = 0;
+        int start = 1;
+        while (start <= length)
+        {
+            int end = address.indexOf ('/', start);
+            if (end < 0)
+                end = length;
+
+            Node next = node.findChild (address, start, end);
+            if (next == null && node.numberChild != null)
+            {
+                final int number = parseNumber (address, start, end);
+                if (number < 0 || count == MAX_NUMBERS)
+                    return false;
+                this.numbers[count++] = number;
+                next = node.numberChild;
+            }
+            if (next == null)
+                return false;
+
+            node = next;
+            start = end + 1;
+        }
+
+        if (node.handler == null)
+            return false;
+        node.handler.handle (this.numbers, value);
+        return true;
+    }
+
+
+    /**
+     * Parse a positive decimal number from a part of a text.
+     *
+     * @param text The text
+     * @param start The start of the number (inclusive)
+     * @param end The end of the number (exclusive)
+     * @return The number or -1 if the part is empty, is not a number or is too large
+     */
+    private static int parseNumber (final String text, final int start, final int end)
+    {
+        if (start == end || end - start > 9)
+            return -1;
+        int number = 0;
+        for (int i = start; i < end; i++)
+        {
+            final char c = text.charAt (i);
+            if (c < '0' || c > '9')
+                return -1;
+            number = number * 10 + c - '0';
+        }
+        return number;
+    }
+
+
+    /** A node in the trie, which represents one path element. */
+    private static final class Node
+    {
+        private String []     names    = new String [0];
+        private Node []       children = new Node [0];
+        private Node          numberChild;
+        private IRouteHandler handler;
+
+
+        /**
+         * Find the child for a fixed path element.
+         *
+         * @param address The address
+         * @param start The start of the path element in the address (inclusive)
+         * @param end The end of the path element in the address (exclusive)
+         * @return The child or null if there is none
+         */
+        Node findChild (final String address, final int start, final int end)
+        {
+            final int length = end - start;
+            for (int i = 0; i < this.names.length; i++)
+            {
+                final String name = this.names[i];
+                if (name.length () == length && address.regionMatches (start, name, 0, length))
+                    return this.children[i];
+            }
+            return null;
+        }
+
+
+        /**
+         * Get the child for a fixed path element. Creates it if it does not exist.
+         *
+         * @param name The path element
+         * @return The child
+         */
+        Node getOrCreateChild (final String name)
+        {
+            for (int i = 0; i < this.names.length; i++)
+            {
+                if (this.names[i].equals (name))
+                    return this.children[i];
+            }
+
+            final int size = this.names.length;
+            this.names = Arrays.copyOf (this.names, size + 1);
+            this.children = Arrays.copyOf (this.children, size + 1);
+            this.names[size] = name;
+            this.children[size] = new Node ();
+            return this.children[size];
+        }
+
+
+        /**
+         * Get the child for a numeric path element. Creates it if it does not exist.
+         *
+         * @return The child
+         */
+        Node getOrCreateNumberChild ()
+        {
+            if (this.numberChild == null)
+                this.numberChild = new Node ();
+            return this.numberChild;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Sends OSC messages to several clients. The messages are created once and sent to all clients.
+ * Clients which were added recently did not receive the current state yet. They only receive the
+ * messages of sendBundleToNewClients, which should contain a full dump, all other clients receive
+ * the changes sent with sendMessage and sendBundle. The bundle statistics are the sum of all
+ * clients.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OpenSoundControlClientGroup implements IOpenSoundControlServer
+{
+    private final List<IOpenSoundControlServer> clients       = new ArrayList<> ();
+    private final List<IOpenSoundControlServer> newClients    = new ArrayList<> ();
+    private int                                 maxPacketSize = OpenSoundControlEncoder.MAX_PACKET_SIZE_LAN;
+    private int                                 lastBundleCount;
+    private int                                 lastBundleBytes;
+
+
+    /**
+     * Add a client. It receives a full dump with the next call of sendBundleToNewClients.
+     *
+     * @param client The client
+     */
+    public synchronized void add (final IOpenSoundControlServer client)
+    {
+        client.setMaxPacketSize (this.maxPacketSize);
+        this.newClients.add (client);
+    }
+
+
+    /**
+     * Test if there are no clients.
+     *
+     * @return True if there are no clients
+     */
+    public synchronized boolean isEmpty ()
+    {
+        return this.clients.isEmpty () && this.newClients.isEmpty ();
+    }
+
+
+    /**
+     * Get the number of clients.
+     *
+     * @return The number of clients including the new ones
+     */
+    public synchronized int size ()
+    {
+        return this.clients.size () + this.newClients.size ();
+    }
+
+
+    /**
+     * Test if there are clients which did not receive a full dump yet.
+     *
+     * @return True if there are new clients
+     */
+    public synchronized boolean hasNewClients ()
+    {
+        return !this.newClients.isEmpty ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void sendMessage (final IOpenSoundControlMessage message) throws IOException
+    {
+        IOException exception = null;
+        for (final IOpenSoundControlServer client: this.clients)
+        {
+            try
+            {
+                client.sendMessage (message);
+            }
+            catch (final IOException ex)
+            {
+                exception = ex;
+            }
+        }
+        if (exception != null)
+            throw exception;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void sendBundle (final List<IOpenSoundControlMessage> messages) throws IOException
+    {
+        this.sendBundle (this.clients, messages);
+    }
+
+
+    /**
+     * Send the messages, which should contain the full state, to all new clients. Afterwards, they
+     * receive the changes sent with sendBundle.
+     *
+     * @param messages The messages to send
+     * @throws IOException Could not send the messages to one of the clients
+     */
+    public synchronized void sendBundleToNewClients (final List<IOpenSoundControlMessage> messages) throws IOException
+    {
+        final List<IOpenSoundControlServer> receivers = new ArrayList<> (this.newClients);
+        this.clients.addAll (receivers);
+        this.newClients.clear ();
+        this.sendBundle (receivers, messages);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void setMaxPacketSize (final int maxPacketSize)
+    {
+        this.maxPacketSize = maxPacketSize;
+        for (final IOpenSoundControlServer client: this.clients)
+            client.setMaxPacketSize (maxPacketSize);
+        for (final IOpenSoundControlServer client: this.newClients)
+            client.setMaxPacketSize (maxPacketSize);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized int getLastBundleCount ()
+    {
+        return this.lastBundleCount;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized int getLastBundleBytes ()
+    {
+        return this.lastBundleBytes;
+    }
+
+
+    /**
+     * Send the messages to the given clients. A failing client does not prevent sending to the
+     * other clients.
+     *
+     * @param receivers The clients to send to
+     * @param messages The messages to send
+     * @throws IOException Could not send the messages to one of the clients
+     */
+    private void sendBundle (final List<IOpenSoundControlServer> receivers, final List<IOpenSoundControlMessage> messages) throws IOException
+    {
+        this.lastBundleCount = 0;
+        this.lastBundleBytes = 0;
+
+        IOException exception = null;
+        for (final IOpenSoundControlServer client: receivers)
+        {
+            try
+            {
+                client.sendBundle (messages);
+            }
+            catch (final IOException ex)
+            {
+                exception = ex;
+            }
+            this.lastBundleCount += client.getLastBundleCount ();
+            this.lastBundleBytes += client.getLastBundleBytes ();
+        }
+        if (exception != null)
+            throw exception;
+    }
+}
@@ -0,0 +1,195 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Decodes OSC packets (OSC 1.0), which contain a message or a (nested) bundle. The time tags of
+ * bundles are ignored. Supported argument types are i, f, h, d, s, S, c, b, T, F, N, I and arrays.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public final class OpenSoundControlDecoder
+{
+    /**
+     * Handles a decoded message.
+     */
+    public interface IMessageHandler
+    {
+        /**
+         * Handle a message.
+         *
+         * @param address The OSC address
+         * @param values The arguments of the message
+         */
+        void handle (String address, Object [] values);
+    }
+
+
+    /**
+     * Private due to utility class.
+     */
+    private OpenSoundControlDecoder ()
+    {
+        // Intentionally empty
+    }
+
+
+    /**
+     * Decode an OSC packet.
+     *
+     * @param buffer The buffer which contains the packet between its position and its limit, needs
+     *            to be big endian
+     * @param handler Handles each message of the packet
+     * @throws IllegalArgumentException The packet is malformed
+     */
+    public static void decode (final ByteBuffer buffer, final IMessageHandler handler)
+    {
+        if (buffer.remaining () > 0 && buffer.get (buffer.position ()) == '#')
+        {
+            decodeBundle (buffer, handler);
+            return;
+        }
+
+        final String address;
+        final Object [] values;
+        try
+        {
+            address = readString (buffer);
+            values = readArguments (buffer);
+        }
+        catch (final RuntimeException ex)
+        {
+            throw new IllegalArgumentException ("Malformed OSC message.", ex);
+        }
+        handler.handle (address, values);
+    }
+
+
+    private static void decodeBundle (final ByteBuffer buffer, final IMessageHandler handler)
+    {
+        if (buffer.remaining () < OpenSoundControlEncoder.BUNDLE_HEADER_SIZE)
+            throw new IllegalArgumentException ("Bundle header too short.");
+        final String tag = readString (buffer);
+        if (!"#bundle".equals (tag))
+            throw new IllegalArgumentException ("Not a bundle: " + tag);
+        // Skip the time tag
+        buffer.getLong ();
+
+        final int end = buffer.limit ();
+        while (buffer.position () < end)
+        {
+            if (end - buffer.position () < OpenSoundControlEncoder.BUNDLE_ELEMENT_SIZE)
+                throw new IllegalArgumentException ("Bundle element too short.");
+            final int size = buffer.getInt ();
+            if (size < 0 || size > end - buffer.position ())
+                throw new IllegalArgumentException ("Bundle element exceeds the bundle.");
+            final int elementEnd = buffer.position () + size;
+            buffer.limit (elementEnd);
+            decode (buffer, handler);
+            buffer.position (elementEnd);
+            buffer.limit (end);
+        }
+    }
+
+
+    private static Object [] readArguments (final ByteBuffer buffer)
+    {
+        if (!buffer.hasRemaining ())
+            return new Object [0];
+
+        final String tags = readString (buffer);
+        if (tags.isEmpty () || tags.charAt (0) != ',')
+            throw new IllegalArgumentException ("Missing type tags.");
+
+        final List<Object> values = new ArrayList<> ();
+        readArguments (buffer, tags, 1, values);
+        return values.toArray ();
+    }
+
+
+    private static int readArguments (final ByteBuffer buffer, final String tags, final int start, final List<Object> values)
+    {
+        int i = start;
+        while (i < tags.length ())
+        {
+            final char tag = tags.charAt (i++);
+            switch (tag)
+            {
+                case 'i':
+                    values.add (Integer.valueOf (buffer.getInt ()));
+                    break;
+                case 'f':
+                    values.add (Float.valueOf (buffer.getFloat ()));
+                    break;
+                case 'h':
+                    values.add (Long.valueOf (buffer.getLong ()));
+                    break;
+                case 'd':
+                    values.add (Double.valueOf (buffer.getDouble ()));
+                    break;
+                case 's':
+                case 'S':
+                    values.add (readString (buffer));
+                    break;
+                case 'c':
+                    values.add (Character.valueOf ((char) buffer.getInt ()));
+                    break;
+                case 'b':
+                    final byte [] blob = new byte [buffer.getInt ()];
+                    buffer.get (blob);
+                    skipPadding (buffer, blob.length);
+                    values.add (blob);
+                    break;
+                case 'T':
+                    values.add (Boolean.TRUE);
+                    break;
+                case 'F':
+                    values.add (Boolean.FALSE);
+                    break;
+                case 'N':
+                case 'I':
+                    values.add (null);
+                    break;
+                case '[':
+                    final List<Object> array = new ArrayList<> ();
+                    i = readArguments (buffer, tags, i, array);
+                    values.add (array);
+                    break;
+                case ']':
+                    return i;
+                default:
+                    throw new IllegalArgumentException ("Unsupported type tag: " + tag);
+            }
+        }
+        return i;
+    }
+
+
+    private static String readString (final ByteBuffer buffer)
+    {
+        final int start = buffer.position ();
+        int end = start;
+        while (buffer.get (end) != 0)
+            end++;
+        final byte [] bytes = new byte [end - start];
+        buffer.get (bytes);
+        // Skip the terminating zero and the padding
+        buffer.get ();
+        skipPadding (buffer, bytes.length + 1);
+        return new String (bytes, StandardCharsets.UTF_8);
+    }
+
+
+    private static void skipPadding (final ByteBuffer buffer, final int length)
+    {
+        buffer.position (buffer.position () + ((4 - length % 4) % 4));
+    }
+}
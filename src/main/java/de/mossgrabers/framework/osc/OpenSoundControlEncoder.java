@@ -0,0 +1,320 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+
+/**
+ * Calculates the exact number of bytes of OSC messages and bundles as they are encoded on the wire
+ * (OSC 1.0) and encodes them. Strings and blobs are padded to a multiple of 4 bytes, booleans and
+ * null values are only encoded in the type tag.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public final class OpenSoundControlEncoder
+{
+    /** The size of the bundle header: "#bundle" string and time tag. */
+    public static final int      BUNDLE_HEADER_SIZE  = 16;
+    /** The size of the length prefix of each element in a bundle. */
+    public static final int      BUNDLE_ELEMENT_SIZE = 4;
+    /** The maximum UDP payload for a typical LAN (Ethernet MTU of 1500 minus IP and UDP header). */
+    public static final int      MAX_PACKET_SIZE_LAN = 1472;
+    /** The maximum UDP payload over IPv4, e.g. for localhost. */
+    public static final int      MAX_PACKET_SIZE_UDP = 65507;
+
+    private static final byte [] BUNDLE_TAG          = "#bundle\0".getBytes (StandardCharsets.US_ASCII);
+    // The time tag which means 'immediately'
+    private static final long    IMMEDIATELY         = 1;
+
+
+    /**
+     * Private due to utility class.
+     */
+    private OpenSoundControlEncoder ()
+    {
+        // Intentionally empty
+    }
+
+
+    /**
+     * Encode a bundle header. Each message which is added to the bundle needs to be encoded with
+     * encodeBundleElement.
+     *
+     * @param buffer The buffer to write to, needs to be big endian
+     */
+    public static void encodeBundleHeader (final ByteBuffer buffer)
+    {
+        buffer.put (BUNDLE_TAG);
+        buffer.putLong (IMMEDIATELY);
+    }
+
+
+    /**
+     * Encode a message as an element of a bundle (prefixed with its size).
+     *
+     * @param buffer The buffer to write to, needs to be big endian
+     * @param message The message
+     */
+    public static void encodeBundleElement (final ByteBuffer buffer, final IOpenSoundControlMessage message)
+    {
+        final int sizePosition = buffer.position ();
+        buffer.putInt (0);
+        encodeMessage (buffer, message.getAddress (), message.getValues ());
+        buffer.putInt (sizePosition, buffer.position () - sizePosition - BUNDLE_ELEMENT_SIZE);
+    }
+
+
+    /**
+     * Encode a message.
+     *
+     * @param buffer The buffer to write to, needs to be big endian and to have at least
+     *            getMessageSize bytes remaining
+     * @param address The OSC address
+     * @param values The arguments of the message
+     */
+    public static void encodeMessage (final ByteBuffer buffer, final String address, final Object [] values)
+    {
+        encodeString (buffer, address);
+
+        final int start = buffer.position ();
+        buffer.put ((byte) ',');
+        encodeTypeTags (buffer, values);
+        buffer.put ((byte) 0);
+        pad (buffer, buffer.position () - start);
+
+        encodeArguments (buffer, values);
+    }
+
+
+    /**
+     * Get the number of bytes of a message when it is added to a bundle, which is the message size
+     * plus the length prefix.
+     *
+     * @param message The message
+     * @return The number of bytes
+     */
+    public static int getBundleElementSize (final IOpenSoundControlMessage message)
+    {
+        return BUNDLE_ELEMENT_SIZE + getMessageSize (message.getAddress (), message.getValues ());
+    }
+
+
+    /**
+     * Get the number of bytes of an encoded message.
+     *
+     * @param address The OSC address
+     * @param values The arguments of the message
+     * @return The number of bytes
+     */
+    public static int getMessageSize (final String address, final Object [] values)
+    {
+        // The type tag string contains the comma, the type tags and the terminating zero
+        int size = getStringSize (address) + getPaddedSize (2 + getTypeTagCount (values));
+        for (final Object value: values)
+            size += getArgumentSize (value);
+        return size;
+    }
+
+
+    /**
+     * Get the number of bytes of an encoded argument without its type tag.
+     *
+     * @param value The argument
+     * @return The number of bytes
+     */
+    public static int getArgumentSize (final Object value)
+    {
+        if (value == null || value instanceof Boolean)
+            return 0;
+        if (value instanceof Integer || value instanceof Float || value instanceof Character)
+            return 4;
+        if (value instanceof Long || value instanceof Double)
+            return 8;
+        if (value instanceof byte [])
+            return 4 + (((byte []) value).length + 3 & ~3);
+        if (value instanceof List)
+            return getArgumentSize (((List<?>) value).toArray ());
+        if (value instanceof Object [])
+        {
+            // An OSC array, only the type tags have brackets
+            int size = 0;
+            for (final Object item: (Object []) value)
+                size += getArgumentSize (item);
+            return size;
+        }
+        return getStringSize (value.toString ());
+    }
+
+
+    /**
+     * Get the number of bytes of an encoded string including the terminating zero and the padding.
+     *
+     * @param text The text
+     * @return The number of bytes
+     */
+    public static int getStringSize (final String text)
+    {
+        return getPaddedSize (getByteLength (text) + 1);
+    }
+
+
+    private static void encodeTypeTags (final ByteBuffer buffer, final Object [] values)
+    {
+        for (final Object value: values)
+        {
+            if (value == null)
+                buffer.put ((byte) 'N');
+            else if (value instanceof Boolean)
+                buffer.put ((byte) (((Boolean) value).booleanValue () ? 'T' : 'F'));
+            else if (value instanceof Integer)
+                buffer.put ((byte) 'i');
+            else if (value instanceof Float)
+                buffer.put ((byte) 'f');
+            else if (value instanceof Long)
+                buffer.put ((byte) 'h');
+            else if (value instanceof Double)
+                buffer.put ((byte) 'd');
+            else if (value instanceof Character)
+                buffer.put ((byte) 'c');
+            else if (value instanceof byte [])
+                buffer.put ((byte) 'b');
+            else if (value instanceof Object [] || value instanceof List)
+            {
+                buffer.put ((byte) '[');
+                encodeTypeTags (buffer, value instanceof List ? ((List<?>) value).toArray () : (Object []) value);
+                buffer.put ((byte) ']');
+            }
+            else
+                buffer.put ((byte) 's');
+        }
+    }
+
+
+    private static void encodeArguments (final ByteBuffer buffer, final Object [] values)
+    {
+        for (final Object value: values)
+        {
+            if (value == null || value instanceof Boolean)
+                continue;
+            if (value instanceof Integer)
+                buffer.putInt (((Integer) value).intValue ());
+            else if (value instanceof Float)
+                buffer.putFloat (((Float) value).floatValue ());
+            else if (value instanceof Long)
+                buffer.putLong (((Long) value).longValue ());
+            else if (value instanceof Double)
+                buffer.putDouble (((Double) value).doubleValue ());
+            else if (value instanceof Character)
+                buffer.putInt (((Character) value).charValue ());
+            else if (value instanceof byte [])
+            {
+                final byte [] blob = (byte []) value;
+                buffer.putInt (blob.length);
+                buffer.put (blob);
+                pad (buffer, blob.length);
+            }
+            else if (value instanceof List)
+                encodeArguments (buffer, ((List<?>) value).toArray ());
+            else if (value instanceof Object [])
+                encodeArguments (buffer, (Object []) value);
+            else
+                encodeString (buffer, value.toString ());
+        }
+    }
+
+
+    private static void encodeString (final ByteBuffer buffer, final String text)
+    {
+        final int start = buffer.position ();
+        final int length = text.length ();
+        boolean isASCII = true;
+        for (int i = 0; i < length; i++)
+        {
+            final char c = text.charAt (i);
+            if (c >= 0x80)
+            {
+                isASCII = false;
+                break;
+            }
+        }
+        if (isASCII)
+        {
+            for (int i = 0; i < length; i++)
+                buffer.put ((byte) text.charAt (i));
+        }
+        else
+            buffer.put (text.getBytes (StandardCharsets.UTF_8));
+        buffer.put ((byte) 0);
+        pad (buffer, buffer.position () - start);
+    }
+
+
+    /**
+     * Add zeros to fill up to the next multiple of 4.
+     *
+     * @param buffer The buffer to write to
+     * @param length The number of bytes written so far
+     */
+    private static void pad (final ByteBuffer buffer, final int length)
+    {
+        for (int i = length; i < getPaddedSize (length); i++)
+            buffer.put ((byte) 0);
+    }
+
+
+    /**
+     * Get the number of type tags of the given arguments, without the leading comma.
+     *
+     * @param values The arguments
+     * @return The number of type tags
+     */
+    private static int getTypeTagCount (final Object [] values)
+    {
+        int count = 0;
+        for (final Object value: values)
+        {
+            if (value instanceof Object [])
+                count += 2 + getTypeTagCount ((Object []) value);
+            else if (value instanceof List)
+                count += 2 + getTypeTagCount (((List<?>) value).toArray ());
+            else
+                count++;
+        }
+        return count;
+    }
+
+
+    /**
+     * Get the number of UTF-8 bytes of a text.
+     *
+     * @param text The text
+     * @return The number of bytes
+     */
+    private static int getByteLength (final String text)
+    {
+        final int length = text.length ();
+        for (int i = 0; i < length; i++)
+        {
+            if (text.charAt (i) >= 0x80)
+                return text.getBytes (StandardCharsets.UTF_8).length;
+        }
+        return length;
+    }
+
+
+    /**
+     * Round up to the next multiple of 4.
+     *
+     * @param size The size
+     * @return The padded size
+     */
+    private static int getPaddedSize (final int size)
+    {
+        return size + 3 & ~3;
+    }
+}
@@ -0,0 +1,312 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+
+
+/**
+ * Records incoming and outgoing OSC messages with nano second time stamps into a memory mapped
+ * ring file. Recording a message only copies it into the mapped memory, writing it to the disk is
+ * left to the operating system. If the ring is full, the oldest messages are overwritten.
+ * <p>
+ * File layout (all values big endian):
+ *
+ * <pre>
+ * Header (64 bytes):
+ *   int  magic 'OSCJ'
+ *   int  version
+ *   int  capacity of the ring in bytes
+ *   int  offset of the next record to write (head)
+ *   int  offset of the oldest record (tail)
+ *   int  number of used bytes
+ *   long number of recorded messages
+ *   long number of dropped messages (too large)
+ *   long wall clock time of the start (System.currentTimeMillis)
+ *   long nano time of the start (System.nanoTime)
+ *
+ * Record (a multiple of 4 bytes):
+ *   int  size of the record including this header
+ *   int  direction (0 = incoming, 1 = outgoing)
+ *   long nano time (System.nanoTime)
+ *   ...  the encoded OSC message
+ *
+ * A record size of -1 marks the unused end of the ring, the next record starts at offset 0.
+ * </pre>
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OpenSoundControlJournal
+{
+    /** The direction of a received message. */
+    public static final int     INCOMING           = 0;
+    /** The direction of a sent message. */
+    public static final int     OUTGOING           = 1;
+    /** The default capacity of the ring in bytes. */
+    public static final int     DEFAULT_CAPACITY   = 16 * 1024 * 1024;
+
+    private static final int    MAGIC              = 0x4F53434A;
+    private static final int    VERSION            = 1;
+    private static final int    HEADER_SIZE        = 64;
+    private static final int    RECORD_HEADER_SIZE = 16;
+    private static final int    WRAP               = -1;
+
+    private static final int    POS_CAPACITY       = 8;
+    private static final int    POS_HEAD           = 12;
+    private static final int    POS_TAIL           = 16;
+    private static final int    POS_USED           = 20;
+    private static final int    POS_COUNT          = 24;
+    private static final int    POS_DROPPED        = 32;
+    private static final int    POS_START_MILLIS   = 40;
+    private static final int    POS_START_NANOS    = 48;
+
+    private final Object        journalLock        = new Object ();
+    private MappedByteBuffer    header;
+    private ByteBuffer          data;
+    private final int           capacity;
+    private int                 head;
+    private int                 tail;
+    private int                 used;
+    private long                count;
+    private long                dropped;
+
+
+    /**
+     * Handles a record of a journal.
+     */
+    public interface IRecordHandler
+    {
+        /**
+         * Handle a record.
+         *
+         * @param direction INCOMING or OUTGOING
+         * @param nanos The time of the record (System.nanoTime of the recording session)
+         * @param address The OSC address
+         * @param values The arguments of the message
+         */
+        void handle (int direction, long nanos, String address, Object [] values);
+    }
+
+
+    /**
+     * Constructor. Creates a new journal file, an existing file is overwritten.
+     *
+     * @param file The journal file
+     * @param capacity The size of the ring in bytes, rounded down to a multiple of 4
+     * @throws IOException Could not create or map the file
+     */
+    public OpenSoundControlJournal (final File file, final int capacity) throws IOException
+    {
+        this.capacity = capacity & ~3;
+
+        try (final RandomAccessFile raf = new RandomAccessFile (file, "rw"))
+        {
+            raf.setLength (0);
+            raf.setLength ((long) HEADER_SIZE + this.capacity);
+            this.header = raf.getChannel ().map (MapMode.READ_WRITE, 0, (long) HEADER_SIZE + this.capacity);
+        }
+
+        this.header.position (HEADER_SIZE);
+        this.data = this.header.slice ();
+        this.header.position (0);
+
+        this.header.putInt (0, MAGIC);
+        this.header.putInt (4, VERSION);
+        this.header.putInt (POS_CAPACITY, this.capacity);
+        this.header.putLong (POS_START_MILLIS, System.currentTimeMillis ());
+        this.header.putLong (POS_START_NANOS, System.nanoTime ());
+        this.updateHeader ();
+    }
+
+
+    /**
+     * Record a message.
+     *
+     * @param direction INCOMING or OUTGOING
+     * @param message The message
+     */
+    public void record (final int direction, final IOpenSoundControlMessage message)
+    {
+        this.record (direction, message.getAddress (), message.getValues ());
+    }
+
+
+    /**
+     * Record a message.
+     *
+     * @param direction INCOMING or OUTGOING
+     * @param address The OSC address
+     * @param values The arguments of the message
+     */
+    public void record (final int direction, final String address, final Object [] values)
+    {
+        final long nanos = System.nanoTime ();
+        // The space which is reserved for the record, the actual size is taken from the encoded data
+        final int size = RECORD_HEADER_SIZE + OpenSoundControlEncoder.getMessageSize (address, values);
+
+        synchronized (this.journalLock)
+        {
+            if (this.data == null)
+                return;
+
+            if (size > this.capacity / 2)
+            {
+                this.dropped++;
+                this.updateHeader ();
+                return;
+            }
+
+            // Mark the rest of the ring as unused if the record does not fit
+            if (this.head + size > this.capacity)
+            {
+                final int rest = this.capacity - this.head;
+                this.ensureFree (rest);
+                this.data.putInt (this.head, WRAP);
+                this.used += rest;
+                this.head = 0;
+            }
+
+            this.ensureFree (size);
+
+            // Never write beyond the reserved space, it might contain the next record
+            this.data.limit (this.head + size);
+            this.data.position (this.head + RECORD_HEADER_SIZE);
+            try
+            {
+                OpenSoundControlEncoder.encodeMessage (this.data, address, values);
+            }
+            catch (final BufferOverflowException ex)
+            {
+                this.dropped++;
+                this.updateHeader ();
+                return;
+            }
+            finally
+            {
+                this.data.limit (this.capacity);
+            }
+
+            final int recordSize = this.data.position () - this.head;
+            this.data.putInt (this.head, recordSize);
+            this.data.putInt (this.head + 4, direction);
+            this.data.putLong (this.head + 8, nanos);
+
+            this.head += recordSize;
+            if (this.head == this.capacity)
+                this.head = 0;
+            this.used += recordSize;
+            this.count++;
+            this.updateHeader ();
+        }
+    }
+
+
+    /**
+     * Write all changes to the disk and close the journal. Further records are ignored.
+     */
+    public void close ()
+    {
+        synchronized (this.journalLock)
+        {
+            if (this.header == null)
+                return;
+            this.header.force ();
+            this.header = null;
+            this.data = null;
+        }
+    }
+
+
+    /**
+     * Read all records of a journal file, starting with the oldest one.
+     *
+     * @param file The journal file
+     * @param handler Handles the records
+     * @throws IOException Could not read the file or it is not a journal
+     */
+    public static void read (final File file, final IRecordHandler handler) throws IOException
+    {
+        final MappedByteBuffer buffer;
+        try (final RandomAccessFile raf = new RandomAccessFile (file, "r"); final FileChannel channel = raf.getChannel ())
+        {
+            if (channel.size () < HEADER_SIZE)
+                throw new IOException ("Not an OSC journal: " + file);
+            buffer = channel.map (MapMode.READ_ONLY, 0, channel.size ());
+        }
+
+        if (buffer.getInt (0) != MAGIC)
+            throw new IOException ("Not an OSC journal: " + file);
+        if (buffer.getInt (4) != VERSION)
+            throw new IOException ("Unsupported OSC journal version: " + buffer.getInt (4));
+        final int capacity = buffer.getInt (POS_CAPACITY);
+        if (buffer.capacity () < HEADER_SIZE + capacity)
+            throw new IOException ("OSC journal is truncated: " + file);
+
+        buffer.position (HEADER_SIZE);
+        final ByteBuffer data = buffer.slice ();
+        int position = buffer.getInt (POS_TAIL);
+        int remaining = buffer.getInt (POS_USED);
+        while (remaining > 0)
+        {
+            final int size = data.getInt (position);
+            if (size == WRAP)
+            {
+                remaining -= capacity - position;
+                position = 0;
+                continue;
+            }
+            if (size < RECORD_HEADER_SIZE || position + size > capacity)
+                throw new IOException ("OSC journal is corrupt at offset " + position);
+
+            final int direction = data.getInt (position + 4);
+            final long nanos = data.getLong (position + 8);
+            data.limit (position + size);
+            data.position (position + RECORD_HEADER_SIZE);
+            OpenSoundControlDecoder.decode (data, (address, values) -> handler.handle (direction, nanos, address, values));
+            data.limit (capacity);
+
+            position += size;
+            if (position == capacity)
+                position = 0;
+            remaining -= size;
+        }
+    }
+
+
+    /**
+     * Remove the oldest records until there are at least the given number of bytes free.
+     *
+     * @param size The number of bytes
+     */
+    private void ensureFree (final int size)
+    {
+        while (this.capacity - this.used < size)
+        {
+            final int recordSize = this.data.getInt (this.tail);
+            final int consumed = recordSize == WRAP ? this.capacity - this.tail : recordSize;
+            this.tail += consumed;
+            if (this.tail == this.capacity)
+                this.tail = 0;
+            this.used -= consumed;
+        }
+    }
+
+
+    private void updateHeader ()
+    {
+        this.header.putInt (POS_HEAD, this.head);
+        this.header.putInt (POS_TAIL, this.tail);
+        this.header.putInt (POS_USED, this.used);
+        this.header.putLong (POS_COUNT, this.count);
+        this.header.putLong (POS_DROPPED, this.dropped);
+    }
+}
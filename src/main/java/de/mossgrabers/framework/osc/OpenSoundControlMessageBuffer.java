@@ -0,0 +1,208 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * A reusable buffer for the messages of an OSC bundle. The message objects and their value arrays
+ * are kept after the buffer is cleared and are reused for the next bundle. Therefore, the messages
+ * must not be referenced after the buffer was cleared.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OpenSoundControlMessageBuffer
+{
+    private static final Object []               NO_VALUES = new Object [0];
+
+    private final List<Message>                  pool      = new ArrayList<> ();
+    private final List<IOpenSoundControlMessage> messages  = new ArrayList<> ();
+
+
+    /**
+     * Add a message without values.
+     *
+     * @param address The OSC address
+     */
+    public void add (final String address)
+    {
+        this.next (address, 0);
+    }
+
+
+    /**
+     * Add a message with an integer value.
+     *
+     * @param address The OSC address
+     * @param value The value
+     */
+    public void addInt (final String address, final int value)
+    {
+        this.next (address, 1)[0] = Integer.valueOf (value);
+    }
+
+
+    /**
+     * Add a message with several integer values.
+     *
+     * @param address The OSC address
+     * @param values The values
+     */
+    public void addInts (final String address, final int [] values)
+    {
+        final Object [] v = this.next (address, values.length);
+        for (int i = 0; i < values.length; i++)
+            v[i] = Integer.valueOf (values[i]);
+    }
+
+
+    /**
+     * Add a message with a float value.
+     *
+     * @param address The OSC address
+     * @param value The value
+     */
+    public void addFloat (final String address, final float value)
+    {
+        this.next (address, 1)[0] = Float.valueOf (value);
+    }
+
+
+    /**
+     * Add a message with one value of any supported OSC type (e.g. a string or a binary blob).
+     *
+     * @param address The OSC address
+     * @param value The value
+     */
+    public void addValue (final String address, final Object value)
+    {
+        this.next (address, 1)[0] = value;
+    }
+
+
+    /**
+     * Add a message with several values of any supported OSC type.
+     *
+     * @param address The OSC address
+     * @param values The values
+     */
+    public void addValues (final String address, final List<Object> values)
+    {
+        final int size = values.size ();
+        final Object [] v = this.next (address, size);
+        for (int i = 0; i < size; i++)
+            v[i] = values.get (i);
+    }
+
+
+    /**
+     * Get the messages which were added since the buffer was cleared.
+     *
+     * @return The messages
+     */
+    public List<IOpenSoundControlMessage> getMessages ()
+    {
+        return this.messages;
+    }
+
+
+    /**
+     * Get the number of messages which were added since the buffer was cleared.
+     *
+     * @return The number of messages
+     */
+    public int size ()
+    {
+        return this.messages.size ();
+    }
+
+
+    /**
+     * Remove all messages. The message objects are kept for reuse.
+     */
+    public void clear ()
+    {
+        this.messages.clear ();
+    }
+
+
+    /**
+     * Get the next free message of the pool, set the address and prepare the values array.
+     *
+     * @param address The OSC address
+     * @param numValues The number of values
+     * @return The values array of the message to fill
+     */
+    private Object [] next (final String address, final int numValues)
+    {
+        final int index = this.messages.size ();
+        final Message message;
+        if (index < this.pool.size ())
+            message = this.pool.get (index);
+        else
+        {
+            message = new Message ();
+            this.pool.add (message);
+        }
+        this.messages.add (message);
+        return message.set (address, numValues);
+    }
+
+
+    /**
+     * A reusable message.
+     */
+    private static class Message implements IOpenSoundControlMessage
+    {
+        private final Object [] single = new Object [1];
+        private String          address;
+        private Object []       values = NO_VALUES;
+
+
+        /**
+         * Set the address and get a values array of the requested size.
+         *
+         * @param address The OSC address
+         * @param numValues The number of values
+         * @return The values array
+         */
+        Object [] set (final String address, final int numValues)
+        {
+            this.address = address;
+            switch (numValues)
+            {
+                case 0:
+                    this.values = NO_VALUES;
+                    break;
+                case 1:
+                    this.values = this.single;
+                    break;
+                default:
+                    if (this.values.length != numValues)
+                        this.values = new Object [numValues];
+                    break;
+            }
+            return this.values;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public String getAddress ()
+        {
+            return this.address;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public Object [] getValues ()
+        {
+            return this.values;
+        }
+    }
+}
@@ -0,0 +1,235 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Manages the address patterns a client has subscribed to and the maximum rate at which values are
+ * sent. A pattern consists of path elements, a '*' matches exactly one path element, e.g.
+ * "/track/*&#47;vu". A pattern also matches all addresses below it, e.g. "/transport" matches
+ * "/transport/play". As long as there is no subscription all addresses are sent. The
+ * subscriptions are not stored per client since the messages are created once for all clients.
+ * Therefore, subscriptions are only supported if the messages are sent to a single client.
+ *
+ * Additionally, rate limits can be set for address patterns of values which change very fast
+ * (e.g. VU meters). They apply to all clients which did not request a specific rate.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OpenSoundControlSubscriptions
+{
+    /** The interval if an address is not subscribed. */
+    public static final int     NOT_SUBSCRIBED = -1;
+
+    private final List<Pattern> subscriptions  = new ArrayList<> ();
+    private final List<Pattern> rateLimits     = new ArrayList<> ();
+    private volatile int        version;
+
+
+    /**
+     * Subscribe to an address pattern. Subscribing to the same pattern again changes the rate.
+     *
+     * @param pattern The address pattern, e.g. "/track/*&#47;vu"
+     * @param rate The maximum rate in Hz, 0 to use the default
+     */
+    public synchronized void subscribe (final String pattern, final double rate)
+    {
+        set (this.subscriptions, pattern, rate);
+        this.version++;
+    }
+
+
+    /**
+     * Remove the subscription of an address pattern.
+     *
+     * @param pattern The address pattern, which was used to subscribe
+     */
+    public synchronized void unsubscribe (final String pattern)
+    {
+        final String normalized = normalize (pattern);
+        this.subscriptions.removeIf (p -> p.text.equals (normalized));
+        this.version++;
+    }
+
+
+    /**
+     * Remove all subscriptions. All addresses are sent afterwards.
+     */
+    public synchronized void clear ()
+    {
+        this.subscriptions.clear ();
+        this.version++;
+    }
+
+
+    /**
+     * Set the default maximum rate of all addresses matching the pattern.
+     *
+     * @param pattern The address pattern, e.g. "/track/*&#47;vu"
+     * @param rate The maximum rate in Hz, 0 for no limit
+     */
+    public synchronized void setRateLimit (final String pattern, final double rate)
+    {
+        set (this.rateLimits, pattern, rate);
+        this.version++;
+    }
+
+
+    /**
+     * Get the version of the subscriptions. It changes every time a subscription or rate limit is
+     * modified and can be used to invalidate cached results of getInterval.
+     *
+     * @return The version
+     */
+    public int getVersion ()
+    {
+        return this.version;
+    }
+
+
+    /**
+     * Get the minimum interval between two messages of an address.
+     *
+     * @param address The OSC address
+     * @return The interval in milliseconds, 0 if there is no limit or NOT_SUBSCRIBED if the
+     *         address should not be sent at all
+     */
+    public synchronized int getInterval (final String address)
+    {
+        int interval = 0;
+        if (!this.subscriptions.isEmpty ())
+        {
+            interval = NOT_SUBSCRIBED;
+            for (final Pattern pattern: this.subscriptions)
+            {
+                if (!pattern.matches (address))
+                    continue;
+                // The least restrictive subscription wins, 0 means no specific rate
+                if (interval == NOT_SUBSCRIBED || pattern.interval < interval)
+                    interval = pattern.interval;
+            }
+            if (interval != 0)
+                return interval;
+        }
+
+        return Math.max (interval, this.getRateLimit (address));
+    }
+
+
+    /**
+     * Get the default minimum interval between two messages of an address, which is set with
+     * setRateLimit. The subscriptions are not taken into account.
+     *
+     * @param address The OSC address
+     * @return The interval in milliseconds, 0 if there is no limit
+     */
+    public synchronized int getRateLimit (final String address)
+    {
+        int interval = 0;
+        for (final Pattern pattern: this.rateLimits)
+        {
+            if (pattern.matches (address))
+                interval = Math.max (interval, pattern.interval);
+        }
+        return interval;
+    }
+
+
+    /**
+     * Parses a rate, e.g. "30", "30hz" or "30 Hz".
+     *
+     * @param value The value, a number or text
+     * @return The rate in Hz or 0 if the value is null or cannot be parsed
+     */
+    public static double parseRate (final Object value)
+    {
+        if (value instanceof Number)
+            return Math.max (0, ((Number) value).doubleValue ());
+        if (value == null)
+            return 0;
+
+        String text = value.toString ().trim ().toLowerCase ();
+        if (text.endsWith ("hz"))
+            text = text.substring (0, text.length () - 2).trim ();
+        try
+        {
+            return Math.max (0, Double.parseDouble (text));
+        }
+        catch (final NumberFormatException ex)
+        {
+            return 0;
+        }
+    }
+
+
+    private static void set (final List<Pattern> patterns, final String pattern, final double rate)
+    {
+        final String normalized = normalize (pattern);
+        patterns.removeIf (p -> p.text.equals (normalized));
+        patterns.add (new Pattern (normalized, rate));
+    }
+
+
+    private static String normalize (final String pattern)
+    {
+        String text = pattern.trim ();
+        if (!text.startsWith ("/"))
+            text = "/" + text;
+        while (text.length () > 1 && text.endsWith ("/"))
+            text = text.substring (0, text.length () - 1);
+        return text;
+    }
+
+
+    /** A parsed address pattern with its minimum interval. */
+    private static final class Pattern
+    {
+        private final String    text;
+        private final String [] elements;
+        private final int       interval;
+
+
+        /**
+         * Constructor.
+         *
+         * @param text The normalized address pattern
+         * @param rate The maximum rate in Hz, 0 for no limit
+         */
+        Pattern (final String text, final double rate)
+        {
+            this.text = text;
+            this.elements = "/".equals (text) ? new String [0] : text.substring (1).split ("/");
+            this.interval = rate > 0 ? (int) Math.round (1000.0 / rate) : 0;
+        }
+
+
+        /**
+         * Test if the address matches the pattern or is below it.
+         *
+         * @param address The OSC address
+         * @return True if it matches
+         */
+        boolean matches (final String address)
+        {
+            final int length = address.length ();
+            int start = 1;
+            for (final String element: this.elements)
+            {
+                if (start > length)
+                    return false;
+                int end = address.indexOf ('/', start);
+                if (end < 0)
+                    end = length;
+                if (!"*".equals (element) && (element.length () != end - start || !address.regionMatches (start, element, 0, end - start)))
+                    return false;
+                start = end + 1;
+            }
+            return true;
+        }
+    }
+}
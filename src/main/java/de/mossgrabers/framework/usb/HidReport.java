@@ -0,0 +1,75 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.usb;
+
+import java.nio.ByteBuffer;
+
+
+/**
+ * A reusable buffer for a HID report. The data is written into the buffer and the backing array is
+ * handed to the HID library without copying it. If the platform requires it, the first byte of the
+ * backing array is reserved for the report ID. Create it with IHidDevice.createOutputReport or
+ * IHidDevice.createFeatureReport.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HidReport
+{
+    private final byte       reportID;
+    private final byte []    data;
+    private final ByteBuffer buffer;
+
+
+    /**
+     * Constructor.
+     *
+     * @param reportID The report ID
+     * @param size The size of the report data
+     * @param reserveReportID If true the first byte of the backing array contains the report ID
+     *            and the data starts at index 1
+     */
+    public HidReport (final byte reportID, final int size, final boolean reserveReportID)
+    {
+        this.reportID = reportID;
+        final int offset = reserveReportID ? 1 : 0;
+        this.data = new byte [offset + size];
+        if (reserveReportID)
+            this.data[0] = reportID;
+        this.buffer = ByteBuffer.wrap (this.data, offset, size).slice ();
+    }
+
+
+    /**
+     * Get the report ID.
+     *
+     * @return The report ID
+     */
+    public byte getReportID ()
+    {
+        return this.reportID;
+    }
+
+
+    /**
+     * Get the buffer to write the report data. Its capacity is the size of the report data.
+     *
+     * @return The buffer
+     */
+    public ByteBuffer getBuffer ()
+    {
+        return this.buffer;
+    }
+
+
+    /**
+     * Get the backing array, which is sent to the device.
+     *
+     * @return The array
+     */
+    public byte [] getData ()
+    {
+        return this.data;
+    }
+}
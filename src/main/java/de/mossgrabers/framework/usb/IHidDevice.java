@@ -47,4 +47,44 @@ public interface IHidDevice
      * @return The number of bytes scheduled for transmission or -1 if the call failed
      */
     int sendFeatureReport (byte reportID, IMemoryBlock memoryBlock);
+
+
+    /**
+     * Create a reusable buffer for an output report, which can be sent without copying its data
+     * with sendOutputReport.
+     *
+     * @param reportID The report ID (= function/method) number
+     * @param size The size of the report data
+     * @return The report buffer
+     */
+    HidReport createOutputReport (byte reportID, int size);
+
+
+    /**
+     * Create a reusable buffer for a feature report, which can be sent without copying its data
+     * with sendFeatureReport.
+     *
+     * @param reportID The report ID (= function/method) number
+     * @param size The size of the report data
+     * @return The report buffer
+     */
+    HidReport createFeatureReport (byte reportID, int size);
+
+
+    /**
+     * Sends an output report to the device. See sendOutputReport with a memory block for details.
+     *
+     * @param report The report, which was created with createOutputReport
+     * @return The number of bytes scheduled for transmission or -1 if the call failed
+     */
+    int sendOutputReport (HidReport report);
+
+
+    /**
+     * Sends a feature report to the device. See sendFeatureReport with a memory block for details.
+     *
+     * @param report The report, which was created with createFeatureReport
+     * @return The number of bytes scheduled for transmission or -1 if the call failed
+     */
+    int sendFeatureReport (HidReport report);
 }
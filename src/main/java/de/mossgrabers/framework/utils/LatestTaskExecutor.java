@@ -5,21 +5,18 @@
 package de.mossgrabers.framework.utils;
 
 import java.util.concurrent.Executor;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.atomic.AtomicReference;
 
 
 /**
  * Executes only one task. When new tasks arrive for execution only the latest one will be stored
- * for execution.
+ * for execution. All executors share the worker thread of the OutputScheduler, except the ones
+ * which are created with their own thread for blocking tasks.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
 public class LatestTaskExecutor implements Executor
 {
-    private final AtomicReference<Runnable> lastTask = new AtomicReference<> ();
-    private final ExecutorService           executor;
+    private final OutputScheduler.Slot slot;
 
 
     /**
@@ -27,7 +24,19 @@ public class LatestTaskExecutor implements Executor
      */
     public LatestTaskExecutor ()
     {
-        this.executor = Executors.newSingleThreadExecutor ();
+        this.slot = OutputScheduler.getInstance ().createSlot ();
+    }
+
+
+    /**
+     * Constructor for an executor with its own thread. Use it for tasks which block (e.g. USB
+     * transfers).
+     *
+     * @param threadName The name of the thread
+     */
+    public LatestTaskExecutor (final String threadName)
+    {
+        this.slot = OutputScheduler.getInstance ().createDedicatedSlot (threadName);
     }
 
 
@@ -35,12 +44,7 @@ public class LatestTaskExecutor implements Executor
     @Override
     public void execute (final Runnable command)
     {
-        this.lastTask.set (command);
-        this.executor.execute ( () -> {
-            final Runnable task = this.lastTask.getAndSet (null);
-            if (task != null)
-                task.run ();
-        });
+        this.slot.execute (command);
     }
 
 
@@ -49,7 +53,7 @@ public class LatestTaskExecutor implements Executor
      */
     public void shutdown ()
     {
-        this.executor.shutdown ();
+        this.slot.close ();
     }
 
 
@@ -60,6 +64,6 @@ public class LatestTaskExecutor implements Executor
      */
     public boolean isShutdown ()
     {
-        return this.executor.isShutdown ();
+        return this.slot.isClosed ();
     }
 }
\ No newline at end of file
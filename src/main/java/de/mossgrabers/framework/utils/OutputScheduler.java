@@ -0,0 +1,305 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+
+/**
+ * Executes the output tasks (e.g. sending display lines, flushing surfaces) of all controllers on
+ * one shared worker thread. Each output (e.g. a row of a display) gets its own slot. A slot holds
+ * only the latest task, older tasks which were not yet executed are dropped ("latest value wins").
+ * Therefore, the queue contains at most one entry per slot.
+ * <p>
+ * The worker thread is started with the first user and stopped when the last user has released
+ * the scheduler.
+ * <p>
+ * The shared worker must only execute tasks which do not block. Outputs which block (e.g. USB bulk
+ * transfers) need a dedicated slot, which has its own worker thread.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public final class OutputScheduler
+{
+    private static final OutputScheduler INSTANCE      = new OutputScheduler ();
+
+    private final Object                 schedulerLock = new Object ();
+    private ScheduledThreadPoolExecutor  executor;
+    private int                          users;
+
+    private final AtomicLong             submitted     = new AtomicLong ();
+    private final AtomicLong             coalesced     = new AtomicLong ();
+    private final AtomicLong             executed      = new AtomicLong ();
+
+
+    /**
+     * Get the shared instance.
+     *
+     * @return The instance
+     */
+    public static OutputScheduler getInstance ()
+    {
+        return INSTANCE;
+    }
+
+
+    /**
+     * Private due to singleton.
+     */
+    private OutputScheduler ()
+    {
+        // Intentionally empty
+    }
+
+
+    /**
+     * Create a new slot. Needs to be closed when no longer used.
+     *
+     * @return The slot
+     */
+    public Slot createSlot ()
+    {
+        this.acquire ();
+        return new Slot (null);
+    }
+
+
+    /**
+     * Create a new slot which executes its tasks on its own worker thread. Use it for tasks which
+     * block, otherwise they would delay the output of all other controllers. Needs to be closed
+     * when no longer used.
+     *
+     * @param threadName The name of the worker thread
+     * @return The slot
+     */
+    public Slot createDedicatedSlot (final String threadName)
+    {
+        return new Slot (Executors.newSingleThreadExecutor (task -> {
+            final Thread thread = new Thread (task, threadName);
+            thread.setDaemon (true);
+            return thread;
+        }));
+    }
+
+
+    /**
+     * Register a user of the scheduler. Starts the worker thread if necessary. Each call needs to
+     * be matched by a call to release.
+     */
+    public void acquire ()
+    {
+        synchronized (this.schedulerLock)
+        {
+            if (this.users == 0)
+            {
+                this.executor = new ScheduledThreadPoolExecutor (1, task -> {
+                    final Thread thread = new Thread (task, "DrivenByMoss Output");
+                    thread.setDaemon (true);
+                    return thread;
+                });
+                this.executor.setRemoveOnCancelPolicy (true);
+            }
+            this.users++;
+        }
+    }
+
+
+    /**
+     * Unregister a user of the scheduler. Stops the worker thread if it was the last user.
+     */
+    public void release ()
+    {
+        synchronized (this.schedulerLock)
+        {
+            if (this.users == 0)
+                return;
+            this.users--;
+            if (this.users == 0)
+            {
+                this.executor.shutdown ();
+                this.executor = null;
+            }
+        }
+    }
+
+
+    /**
+     * Execute a task periodically on the worker thread. The scheduler needs to be acquired.
+     *
+     * @param task The task
+     * @param period The period between two executions
+     * @param unit The unit of the period
+     * @return The future to cancel the task, null if the scheduler is not acquired
+     */
+    public ScheduledFuture<?> scheduleAtFixedRate (final Runnable task, final long period, final TimeUnit unit)
+    {
+        synchronized (this.schedulerLock)
+        {
+            return this.executor == null ? null : this.executor.scheduleAtFixedRate (task, period, period, unit);
+        }
+    }
+
+
+    /**
+     * Get the number of slots which wait for execution.
+     *
+     * @return The number of slots
+     */
+    public int getQueueDepth ()
+    {
+        synchronized (this.schedulerLock)
+        {
+            return this.executor == null ? 0 : this.executor.getQueue ().size ();
+        }
+    }
+
+
+    /**
+     * Get the number of submitted tasks.
+     *
+     * @return The number of tasks
+     */
+    public long getSubmitted ()
+    {
+        return this.submitted.get ();
+    }
+
+
+    /**
+     * Get the number of tasks which were dropped since a newer task was submitted to the same slot
+     * before they were executed.
+     *
+     * @return The number of tasks
+     */
+    public long getCoalesced ()
+    {
+        return this.coalesced.get ();
+    }
+
+
+    /**
+     * Get the number of executed tasks.
+     *
+     * @return The number of tasks
+     */
+    public long getExecuted ()
+    {
+        return this.executed.get ();
+    }
+
+
+    private boolean enqueue (final Runnable drain)
+    {
+        synchronized (this.schedulerLock)
+        {
+            if (this.executor == null)
+                return false;
+            this.executor.execute (drain);
+            return true;
+        }
+    }
+
+
+    /**
+     * An output which only keeps its latest task.
+     */
+    public final class Slot implements Executor
+    {
+        private final AtomicReference<Runnable> pending = new AtomicReference<> ();
+        private final Runnable                  drain   = this::drain;
+        private final ExecutorService           dedicatedExecutor;
+        private volatile boolean                isClosed;
+
+
+        /**
+         * Constructor.
+         *
+         * @param dedicatedExecutor The executor of a dedicated slot, null to use the shared worker
+         */
+        Slot (final ExecutorService dedicatedExecutor)
+        {
+            this.dedicatedExecutor = dedicatedExecutor;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void execute (final Runnable command)
+        {
+            if (this.isClosed)
+                return;
+            OutputScheduler.this.submitted.incrementAndGet ();
+            // Only enqueue the slot if it is not already waiting
+            if (this.pending.getAndSet (command) != null)
+                OutputScheduler.this.coalesced.incrementAndGet ();
+            else if (!this.enqueue ())
+            {
+                // The worker is not running, do not block the slot with a task that never executes
+                this.pending.set (null);
+            }
+        }
+
+
+        /**
+         * Release the slot. Further tasks are ignored but a pending task is still executed.
+         */
+        public void close ()
+        {
+            if (this.isClosed)
+                return;
+            this.isClosed = true;
+            // Release after the pending task was executed
+            if (this.dedicatedExecutor == null)
+                OutputScheduler.this.enqueue (OutputScheduler.this::release);
+            else
+                this.dedicatedExecutor.shutdown ();
+        }
+
+
+        /**
+         * Returns true if the slot has been closed.
+         *
+         * @return True if closed
+         */
+        public boolean isClosed ()
+        {
+            return this.isClosed;
+        }
+
+
+        private boolean enqueue ()
+        {
+            if (this.dedicatedExecutor == null)
+                return OutputScheduler.this.enqueue (this.drain);
+            try
+            {
+                this.dedicatedExecutor.execute (this.drain);
+                return true;
+            }
+            catch (final RejectedExecutionException ex)
+            {
+                return false;
+            }
+        }
+
+
+        private void drain ()
+        {
+            final Runnable task = this.pending.getAndSet (null);
+            if (task == null)
+                return;
+            OutputScheduler.this.executed.incrementAndGet ();
+            task.run ();
+        }
+    }
+}
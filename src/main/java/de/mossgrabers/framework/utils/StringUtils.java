@@ -55,8 +55,8 @@ public class StringUtils
      */
     public static String fixASCII (final String name)
     {
-        if (name == null)
-            return null;
+        if (name == null || isASCII (name))
+            return name;
         final StringBuilder str = new StringBuilder ();
         for (int i = 0; i < name.length (); i++)
         {
@@ -106,6 +106,17 @@ public class StringUtils
     }
 
 
+    private static boolean isASCII (final String text)
+    {
+        for (int i = 0; i < text.length (); i++)
+        {
+            if (text.charAt (i) > 127)
+                return false;
+        }
+        return true;
+    }
+
+
     /**
      * Shortens a text to the given length.
      *
@@ -12,6 +12,7 @@ import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.ISceneBank;
 import de.mossgrabers.framework.daw.ISlotBank;
 import de.mossgrabers.framework.daw.ITrackBank;
+import de.mossgrabers.framework.daw.ModelRegion;
 import de.mossgrabers.framework.daw.data.IScene;
 import de.mossgrabers.framework.daw.data.ISlot;
 import de.mossgrabers.framework.daw.data.ITrack;
@@ -35,6 +36,8 @@ public abstract class AbstractSessionView<S extends IControlSurface<C>, C extend
     /** The color for no scene. */
     public static final String COLOR_SCENE_OFF            = "COLOR_SELECTED_OFF";
 
+    private static final int   GRID_DEPENDENCIES          = ModelRegion.mask (ModelRegion.TRACKS, ModelRegion.SLOTS, ModelRegion.SCENES);
+
     // Needs to be overwritten with device specific colors
     protected SessionColor     clipColorIsRecording       = new SessionColor (0, -1, false);
     protected SessionColor     clipColorIsRecordingQueued = new SessionColor (1, -1, false);
@@ -169,6 +172,14 @@ public abstract class AbstractSessionView<S extends IControlSurface<C>, C extend
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public int getGridDependencies ()
+    {
+        return GRID_DEPENDENCIES;
+    }
+
+
     /**
      * Draw a session grid, where each pad stands for a clip.
      */
@@ -12,14 +12,14 @@ import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.IControlSurface;
 import de.mossgrabers.framework.daw.DAWColors;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.ModelChangeTracker;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.mode.Mode;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.ButtonEvent;
 import de.mossgrabers.framework.utils.KeyManager;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 
 
 /**
@@ -33,6 +33,7 @@ import java.util.Map;
 public abstract class AbstractView<S extends IControlSurface<C>, C extends Configuration> implements View
 {
     protected static final int []                 EMPTY_TABLE        = Scales.getEmptyMatrix ();
+    private static final int                      NUM_COMMAND_IDS    = 256;
 
     private final String                          name;
 
@@ -44,9 +45,9 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     private AftertouchCommand                     aftertouchCommand;
     private PitchbendCommand                      pitchbendCommand;
 
-    private final Map<Integer, TriggerCommand>    triggerCommands    = new HashMap<> ();
-    private final Map<Integer, TriggerCommand>    noteCommands       = new HashMap<> ();
-    private final Map<Integer, ContinuousCommand> continuousCommands = new HashMap<> ();
+    private TriggerCommand []                     triggerCommands    = new TriggerCommand [NUM_COMMAND_IDS];
+    private TriggerCommand []                     noteCommands       = new TriggerCommand [NUM_COMMAND_IDS];
+    private ContinuousCommand []                  continuousCommands = new ContinuousCommand [NUM_COMMAND_IDS];
 
     protected boolean                             canScrollLeft;
     protected boolean                             canScrollRight;
@@ -124,6 +125,22 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public int getControlSurfaceDependencies ()
+    {
+        return ModelChangeTracker.ALL_REGIONS;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getGridDependencies ()
+    {
+        return ModelChangeTracker.ALL_REGIONS;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public boolean usesButton (final int buttonID)
@@ -190,7 +207,8 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     @Override
     public void registerTriggerCommand (final Integer commandID, final TriggerCommand command)
     {
-        this.triggerCommands.put (commandID, command);
+        this.triggerCommands = ensureCapacity (this.triggerCommands, commandID.intValue ());
+        this.triggerCommands[commandID.intValue ()] = command;
     }
 
 
@@ -198,7 +216,7 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     @Override
     public void executeTriggerCommand (final Integer commandID, final ButtonEvent event)
     {
-        final TriggerCommand triggerCommand = this.triggerCommands.get (commandID);
+        final TriggerCommand triggerCommand = lookup (this.triggerCommands, commandID);
         if (triggerCommand != null)
             triggerCommand.execute (event);
     }
@@ -208,7 +226,7 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     @Override
     public TriggerCommand getTriggerCommand (final Integer commandID)
     {
-        return this.triggerCommands.get (commandID);
+        return lookup (this.triggerCommands, commandID);
     }
 
 
@@ -216,7 +234,8 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     @Override
     public void registerContinuousCommand (final Integer commandID, final ContinuousCommand command)
     {
-        this.continuousCommands.put (commandID, command);
+        this.continuousCommands = ensureCapacity (this.continuousCommands, commandID.intValue ());
+        this.continuousCommands[commandID.intValue ()] = command;
     }
 
 
@@ -224,7 +243,7 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     @Override
     public ContinuousCommand getContinuousCommand (final Integer commandID)
     {
-        return this.continuousCommands.get (commandID);
+        return lookup (this.continuousCommands, commandID);
     }
 
 
@@ -232,7 +251,7 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     @Override
     public void executeContinuousCommand (final Integer commandID, final int value)
     {
-        final ContinuousCommand continuousCommand = this.continuousCommands.get (commandID);
+        final ContinuousCommand continuousCommand = lookup (this.continuousCommands, commandID);
         if (continuousCommand != null)
             continuousCommand.execute (value);
     }
@@ -242,7 +261,8 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     @Override
     public void registerNoteCommand (final Integer commandID, final TriggerCommand command)
     {
-        this.noteCommands.put (commandID, command);
+        this.noteCommands = ensureCapacity (this.noteCommands, commandID.intValue ());
+        this.noteCommands[commandID.intValue ()] = command;
     }
 
 
@@ -250,7 +270,7 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     @Override
     public void executeNoteCommand (final Integer commandID, final int value)
     {
-        final TriggerCommand command = this.noteCommands.get (commandID);
+        final TriggerCommand command = lookup (this.noteCommands, commandID);
         if (command != null)
             command.execute (value == 0 ? ButtonEvent.UP : ButtonEvent.DOWN);
     }
@@ -260,7 +280,38 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     @Override
     public TriggerCommand getNoteCommand (final Integer commandID)
     {
-        return this.noteCommands.get (commandID);
+        return lookup (this.noteCommands, commandID);
+    }
+
+
+    /**
+     * Get a command from a command table which is indexed by the command ID.
+     *
+     * @param <T> The type of the command
+     * @param table The command table
+     * @param commandID The ID of the command
+     * @return The command or null if none is registered for the ID
+     */
+    private static <T> T lookup (final T [] table, final Integer commandID)
+    {
+        final int index = commandID.intValue ();
+        return index >= 0 && index < table.length ? table[index] : null;
+    }
+
+
+    /**
+     * Grow a command table if it cannot hold the given command ID.
+     *
+     * @param <T> The type of the command
+     * @param table The command table
+     * @param index The command ID to store
+     * @return The table itself or a larger copy of it
+     */
+    private static <T> T [] ensureCapacity (final T [] table, final int index)
+    {
+        if (index < table.length)
+            return table;
+        return Arrays.copyOf (table, Math.max (index + 1, table.length * 2));
     }
 
 
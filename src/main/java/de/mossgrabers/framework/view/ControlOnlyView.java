@@ -7,6 +7,7 @@ package de.mossgrabers.framework.view;
 import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.IControlSurface;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.ModelChangeTracker;
 
 
 /**
@@ -39,6 +40,14 @@ public class ControlOnlyView<S extends IControlSurface<C>, C extends Configurati
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public int getGridDependencies ()
+    {
+        return ModelChangeTracker.NO_REGIONS;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void onGridNote (final int note, final int velocity)
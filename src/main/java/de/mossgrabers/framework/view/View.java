@@ -169,6 +169,16 @@ public interface View
     void drawGrid ();
 
 
+    /**
+     * Get the model regions on which drawing the pad grid depends. The grid is only redrawn if one
+     * of these regions has changed since the last flush.
+     *
+     * @return The bit mask of the regions (see ModelRegion), use ModelChangeTracker.ALL_REGIONS to
+     *         redraw on every flush
+     */
+    int getGridDependencies ();
+
+
     /**
      * A pad has been pressed or released.
      *
@@ -184,6 +194,16 @@ public interface View
     void updateControlSurface ();
 
 
+    /**
+     * Get the model regions on which updating the button LEDs of the view depends. Together with
+     * the dependencies of the active mode this decides if the control surface needs to be updated.
+     *
+     * @return The bit mask of the regions (see ModelRegion), use ModelChangeTracker.ALL_REGIONS to
+     *         update on every flush
+     */
+    int getControlSurfaceDependencies ();
+
+
     /**
      * Long press actions on grid pads
      *